@@ -23,19 +23,29 @@ import org.apache.maven.RepositoryUtils;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.shared.transfer.artifact.ArtifactCoordinate;
 import org.apache.maven.shared.transfer.artifact.resolve.ArtifactResolverException;
+import org.apache.maven.shared.transfer.artifact.resolve.RelocationMode;
+import org.apache.maven.shared.transfer.support.ArtifactDescriptorCache;
 import org.apache.maven.shared.transfer.support.DelegateSupport;
 import org.apache.maven.shared.transfer.support.Selector;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
 import org.sonatype.aether.RepositorySystem;
+import org.sonatype.aether.RepositorySystemSession;
 import org.sonatype.aether.artifact.Artifact;
+import org.sonatype.aether.repository.RemoteRepository;
 import org.sonatype.aether.resolution.ArtifactDescriptorException;
 import org.sonatype.aether.resolution.ArtifactDescriptorRequest;
 import org.sonatype.aether.resolution.ArtifactDescriptorResult;
 import org.sonatype.aether.resolution.ArtifactRequest;
 import org.sonatype.aether.resolution.ArtifactResolutionException;
+import org.sonatype.aether.resolution.ArtifactResult;
 import org.sonatype.aether.util.artifact.DefaultArtifact;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -65,7 +75,7 @@ public class Maven30ArtifactResolver
     {
         Artifact aetherArtifact = RepositoryUtils.toArtifact( mavenArtifact );
 
-        return resolveArtifact( buildingRequest, aetherArtifact );
+        return resolveArtifact( buildingRequest, aetherArtifact, getRelocationMode( buildingRequest ) );
     }
 
     @Override
@@ -73,33 +83,103 @@ public class Maven30ArtifactResolver
             ProjectBuildingRequest buildingRequest,
             ArtifactCoordinate coordinate ) throws ArtifactResolverException
     {
-        Artifact aetherArtifact = new DefaultArtifact( coordinate.getGroupId(), coordinate.getArtifactId(),
-                coordinate.getClassifier(), coordinate.getExtension(), coordinate.getVersion() );
+        return resolveArtifact( buildingRequest, coordinate, getRelocationMode( buildingRequest ) );
+    }
+
+    @Override
+    public org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult resolveArtifact(
+            ProjectBuildingRequest buildingRequest,
+            ArtifactCoordinate coordinate,
+            RelocationMode relocationMode ) throws ArtifactResolverException
+    {
+        Artifact aetherArtifact = toArtifact( coordinate );
+
+        return resolveArtifact( buildingRequest, aetherArtifact, relocationMode );
+    }
+
+    @Override
+    public List<org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult> resolveArtifacts(
+            ProjectBuildingRequest buildingRequest,
+            Collection<ArtifactCoordinate> coordinates )
+    {
+        return resolveArtifacts( buildingRequest, coordinates, getRelocationMode( buildingRequest ) );
+    }
+
+    @Override
+    public List<org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult> resolveArtifacts(
+            ProjectBuildingRequest buildingRequest,
+            Collection<ArtifactCoordinate> coordinates,
+            RelocationMode relocationMode )
+    {
+        RepositorySystemSession original = buildingRequest.getRepositorySession();
+        ResolutionRecorder recorder = Maven30ResolutionListener.newRecorder( original );
+        RepositorySystemSession session = Maven30ResolutionListener.record( original, recorder );
+        List<RemoteRepository> repositories = RepositoryUtils.toRepos( buildingRequest.getRemoteRepositories() );
+
+        // failed descriptor reads are kept at their position, the others are filled in after resolution
+        List<ArtifactResult> descriptorFailures = new ArrayList<>( coordinates.size() );
+        List<ArtifactRequest> requests = new ArrayList<>( coordinates.size() );
+        for ( ArtifactCoordinate coordinate : coordinates )
+        {
+            Artifact aetherArtifact = toArtifact( coordinate );
+            try
+            {
+                Artifact relocated = relocate( session, aetherArtifact, repositories, relocationMode );
+
+                requests.add( new ArtifactRequest( relocated, repositories, null ) );
+                descriptorFailures.add( null );
+            }
+            catch ( ArtifactDescriptorException e )
+            {
+                descriptorFailures.add( new ArtifactResult( new ArtifactRequest( aetherArtifact, repositories, null ) )
+                        .addException( e ) );
+            }
+        }
+
+        List<ArtifactResult> resolved = Collections.emptyList();
+        if ( !requests.isEmpty() )
+        {
+            try
+            {
+                resolved = repositorySystem.resolveArtifacts( session, requests );
+            }
+            catch ( ArtifactResolutionException e )
+            {
+                // contains the results of all requests, including the failed ones
+                resolved = e.getResults();
+            }
+        }
 
-        return resolveArtifact( buildingRequest, aetherArtifact );
+        List<org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult> results =
+                new ArrayList<>( descriptorFailures.size() );
+        Iterator<ArtifactResult> resolvedIterator = resolved.iterator();
+        for ( ArtifactResult descriptorFailure : descriptorFailures )
+        {
+            ArtifactResult result = descriptorFailure != null ? descriptorFailure : resolvedIterator.next();
+            results.add( new Maven30ArtifactResult( result,
+                    Maven30ResolutionListener.getMetrics( recorder, result ) ) );
+        }
+        return results;
     }
 
     private org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult resolveArtifact(
             ProjectBuildingRequest buildingRequest,
-            Artifact aetherArtifact ) throws ArtifactResolverException
+            Artifact aetherArtifact,
+            RelocationMode relocationMode ) throws ArtifactResolverException
     {
+        RepositorySystemSession original = buildingRequest.getRepositorySession();
+        ResolutionRecorder recorder = Maven30ResolutionListener.newRecorder( original );
+        RepositorySystemSession session = Maven30ResolutionListener.record( original, recorder );
+        List<RemoteRepository> repositories = RepositoryUtils.toRepos( buildingRequest.getRemoteRepositories() );
         try
         {
-            // use descriptor to respect relocation
-            ArtifactDescriptorRequest descriptorRequest = new ArtifactDescriptorRequest( aetherArtifact,
-                    RepositoryUtils.toRepos( buildingRequest.getRemoteRepositories() ),
-                    null );
+            Artifact relocated = relocate( session, aetherArtifact, repositories, relocationMode );
 
-            ArtifactDescriptorResult descriptorResult = repositorySystem.readArtifactDescriptor(
-                    buildingRequest.getRepositorySession(),
-                    descriptorRequest );
+            ArtifactRequest request = new ArtifactRequest( relocated, repositories, null );
 
-            ArtifactRequest request = new ArtifactRequest( descriptorResult.getArtifact(),
-                    RepositoryUtils.toRepos( buildingRequest.getRemoteRepositories() ),
-                    null );
+            ArtifactResult result = repositorySystem.resolveArtifact( session, request );
 
-            return new Maven30ArtifactResult( repositorySystem.resolveArtifact(
-                    buildingRequest.getRepositorySession(), request ) );
+            return new Maven30ArtifactResult( result, Maven30ResolutionListener.getMetrics( recorder, result ) );
         }
         catch ( ArtifactDescriptorException | ArtifactResolutionException e )
         {
@@ -107,4 +187,41 @@ public class Maven30ArtifactResolver
         }
     }
 
+    /**
+     * Use the descriptor to respect relocation, unless the relocation mode says it is not required for this artifact.
+     * The outcome is shared through the session's descriptor cache, so each descriptor is read at most once.
+     */
+    private Artifact relocate( RepositorySystemSession session, Artifact aetherArtifact,
+                               List<RemoteRepository> repositories, RelocationMode relocationMode )
+            throws ArtifactDescriptorException
+    {
+        if ( !relocationMode.isDescriptorRequired( aetherArtifact.getClassifier(), aetherArtifact.getExtension() ) )
+        {
+            return aetherArtifact;
+        }
+
+        ArtifactDescriptorCache cache = Maven30ArtifactDescriptorCache.get( session );
+        Artifact relocated = Maven30ArtifactDescriptorCache.getRelocated( cache, aetherArtifact, repositories );
+        if ( relocated == null )
+        {
+            ArtifactDescriptorResult descriptorResult = repositorySystem.readArtifactDescriptor( session,
+                    new ArtifactDescriptorRequest( aetherArtifact, repositories, null ) );
+
+            relocated = descriptorResult.getArtifact();
+            Maven30ArtifactDescriptorCache.put( cache, aetherArtifact, relocated, repositories );
+        }
+        return relocated;
+    }
+
+    private static RelocationMode getRelocationMode( ProjectBuildingRequest buildingRequest )
+    {
+        return RelocationMode.parse(
+                buildingRequest.getRepositorySession().getConfigProperties().get( RelocationMode.CONFIG_PROPERTY ) );
+    }
+
+    private static Artifact toArtifact( ArtifactCoordinate coordinate )
+    {
+        return new DefaultArtifact( coordinate.getGroupId(), coordinate.getArtifactId(),
+                coordinate.getClassifier(), coordinate.getExtension(), coordinate.getVersion() );
+    }
 }
@@ -19,7 +19,10 @@ package org.apache.maven.shared.transfer.artifact.resolve.internal;
  * under the License.
  */
 
+import java.util.List;
+
 import org.apache.maven.RepositoryUtils;
+import org.apache.maven.shared.transfer.artifact.resolve.ResolutionMetrics;
 import org.sonatype.aether.resolution.ArtifactResult;
 
 /**
@@ -32,12 +35,16 @@ class Maven30ArtifactResult implements org.apache.maven.shared.transfer.artifact
 {
     private final ArtifactResult artifactResult;
 
+    private final ResolutionMetrics metrics;
+
     /**
      * @param artifactResult {@link ArtifactResult}
+     * @param metrics {@link ResolutionMetrics}
      */
-    Maven30ArtifactResult( ArtifactResult artifactResult )
+    Maven30ArtifactResult( ArtifactResult artifactResult, ResolutionMetrics metrics )
     {
         this.artifactResult = artifactResult;
+        this.metrics = metrics;
     }
 
     @Override
@@ -45,4 +52,22 @@ class Maven30ArtifactResult implements org.apache.maven.shared.transfer.artifact
     {
         return RepositoryUtils.toArtifact( artifactResult.getArtifact() );
     }
+
+    @Override
+    public List<Exception> getExceptions()
+    {
+        return artifactResult.getExceptions();
+    }
+
+    @Override
+    public boolean isResolved()
+    {
+        return artifactResult.isResolved();
+    }
+
+    @Override
+    public ResolutionMetrics getMetrics()
+    {
+        return metrics;
+    }
 }
@@ -35,6 +35,8 @@ class Maven30CollectResult implements CollectResult
 {
     private final org.sonatype.aether.collection.CollectResult collectResult;
 
+    private volatile DependencyNode root;
+
     /**
      * @param collectResult {@link CollectResult}
      */
@@ -50,14 +52,27 @@ class Maven30CollectResult implements CollectResult
     }
 
     /**
-     * Gets the root node of the dependency graph.
+     * Gets the root node of the dependency graph. The adapter is created once and shared by later calls.
      *
      * @return The root node of the dependency graph or {@code null} if none.
      */
     @Override
     public DependencyNode getRoot()
     {
-        return new Maven30DependencyNodeAdapter( collectResult.getRoot() );
+        DependencyNode result = root;
+        if ( result == null && collectResult.getRoot() != null )
+        {
+            synchronized ( this )
+            {
+                result = root;
+                if ( result == null )
+                {
+                    result = new Maven30DependencyNodeAdapter( collectResult.getRoot() );
+                    root = result;
+                }
+            }
+        }
+        return result;
     }
 
     @Override
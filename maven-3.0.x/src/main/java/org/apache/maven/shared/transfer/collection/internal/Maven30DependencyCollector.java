@@ -24,6 +24,7 @@ import org.apache.maven.artifact.handler.ArtifactHandler;
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
 import org.apache.maven.model.Model;
 import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.shared.transfer.artifact.resolve.internal.Maven30ArtifactDescriptorCache;
 import org.apache.maven.shared.transfer.collection.CollectResult;
 import org.apache.maven.shared.transfer.collection.DependencyCollectionException;
 import org.apache.maven.shared.transfer.dependencies.DependableCoordinate;
@@ -32,15 +33,21 @@ import org.apache.maven.shared.transfer.support.Selector;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
 import org.sonatype.aether.RepositorySystem;
+import org.sonatype.aether.RepositorySystemSession;
 import org.sonatype.aether.artifact.Artifact;
 import org.sonatype.aether.artifact.ArtifactTypeRegistry;
 import org.sonatype.aether.collection.CollectRequest;
 import org.sonatype.aether.graph.Dependency;
+import org.sonatype.aether.repository.RemoteRepository;
+import org.sonatype.aether.util.DefaultRepositoryCache;
+import org.sonatype.aether.util.DefaultRepositorySystemSession;
 import org.sonatype.aether.util.artifact.DefaultArtifact;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 
 /**
  *
@@ -147,8 +154,15 @@ public class Maven30DependencyCollector
 
         try
         {
-            return new Maven30CollectResult( repositorySystem.collectDependencies(
-                    buildingRequest.getRepositorySession(), request ) );
+            RepositorySystemSession session = buildingRequest.getRepositorySession();
+
+            org.sonatype.aether.collection.CollectResult collectResult =
+                    repositorySystem.collectDependencies( session, request );
+
+            Maven30ArtifactDescriptorCache.putAll( Maven30ArtifactDescriptorCache.get( session ),
+                    collectResult.getRoot(), request.getRepositories() );
+
+            return new Maven30CollectResult( collectResult );
         }
         catch ( org.sonatype.aether.collection.DependencyCollectionException e )
         {
@@ -156,6 +170,103 @@ public class Maven30DependencyCollector
         }
     }
 
+    @Override
+    public List<CollectResult> collectDependencies(
+            ProjectBuildingRequest buildingRequest,
+            Collection<org.apache.maven.shared.transfer.collection.CollectRequest> requests )
+            throws DependencyCollectionException
+    {
+        final RepositorySystemSession session = shareDescriptors( buildingRequest.getRepositorySession() );
+        ArtifactTypeRegistry typeRegistry = RepositoryUtils.newArtifactTypeRegistry( artifactHandlerManager );
+        List<RemoteRepository> repositories = RepositoryUtils.toRepos( buildingRequest.getRemoteRepositories() );
+
+        List<Callable<CollectResult>> tasks = new ArrayList<>( requests.size() );
+        for ( org.apache.maven.shared.transfer.collection.CollectRequest request : requests )
+        {
+            final CollectRequest aetherRequest = toCollectRequest( request, typeRegistry, repositories );
+            tasks.add( new Callable<CollectResult>()
+            {
+                @Override
+                public CollectResult call()
+                {
+                    return collect( session, aetherRequest );
+                }
+            } );
+        }
+
+        Object threads = session.getConfigProperties().get( ConcurrentCollector.THREADS_PROPERTY );
+        return ConcurrentCollector.collectAll( tasks, ConcurrentCollector.parseThreads( threads ) );
+    }
+
+    /**
+     * Collects one of several roots, a failure is reported in the result with the partial graph.
+     */
+    private CollectResult collect( RepositorySystemSession session, CollectRequest request )
+    {
+        org.sonatype.aether.collection.CollectResult collectResult;
+        try
+        {
+            collectResult = repositorySystem.collectDependencies( session, request );
+        }
+        catch ( org.sonatype.aether.collection.DependencyCollectionException e )
+        {
+            collectResult = e.getResult();
+            if ( collectResult == null )
+            {
+                collectResult = new org.sonatype.aether.collection.CollectResult( request );
+            }
+            if ( collectResult.getExceptions().isEmpty() )
+            {
+                collectResult.addException( e );
+            }
+        }
+
+        if ( collectResult.getRoot() != null )
+        {
+            Maven30ArtifactDescriptorCache.putAll( Maven30ArtifactDescriptorCache.get( session ),
+                    collectResult.getRoot(), request.getRepositories() );
+        }
+        return new Maven30CollectResult( collectResult );
+    }
+
+    /**
+     * The repository system shares the descriptors read by concurrent collections through the session cache, so
+     * make sure there is one.
+     */
+    private static RepositorySystemSession shareDescriptors( RepositorySystemSession session )
+    {
+        if ( session.getCache() != null )
+        {
+            return session;
+        }
+        DefaultRepositorySystemSession cachingSession = new DefaultRepositorySystemSession( session );
+        cachingSession.setCache( new DefaultRepositoryCache() );
+        return cachingSession;
+    }
+
+    private static CollectRequest toCollectRequest( org.apache.maven.shared.transfer.collection.CollectRequest request,
+                                                    ArtifactTypeRegistry typeRegistry,
+                                                    List<RemoteRepository> repositories )
+    {
+        // this Aether has no root artifact, which is only the label of a root node without dependency anyway
+        CollectRequest aetherRequest = new CollectRequest();
+        if ( request.getRoot() != null )
+        {
+            aetherRequest.setRoot( toDependency( request.getRoot(), typeRegistry ) );
+        }
+        for ( org.apache.maven.model.Dependency dependency : request.getDependencies() )
+        {
+            aetherRequest.addDependency( toDependency( dependency, typeRegistry ) );
+        }
+        for ( org.apache.maven.model.Dependency dependency : request.getManagedDependencies() )
+        {
+            aetherRequest.addManagedDependency( toDependency( dependency, typeRegistry ) );
+        }
+        aetherRequest.setRepositories( request.getRepositories().isEmpty() ? repositories
+                : RepositoryUtils.toRepos( request.getRepositories() ) );
+        return aetherRequest;
+    }
+
     private static Dependency toDependency( org.apache.maven.model.Dependency mavenDependency,
                                             ArtifactTypeRegistry typeRegistry )
     {
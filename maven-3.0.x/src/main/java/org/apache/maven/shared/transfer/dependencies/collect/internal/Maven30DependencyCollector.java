@@ -24,6 +24,7 @@ import org.apache.maven.artifact.handler.ArtifactHandler;
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
 import org.apache.maven.model.Model;
 import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.shared.transfer.artifact.resolve.internal.Maven30ArtifactDescriptorCache;
 import org.apache.maven.shared.transfer.dependencies.DependableCoordinate;
 import org.apache.maven.shared.transfer.dependencies.collect.CollectorResult;
 import org.apache.maven.shared.transfer.dependencies.collect.DependencyCollectorException;
@@ -32,9 +33,11 @@ import org.apache.maven.shared.transfer.support.Selector;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
 import org.sonatype.aether.RepositorySystem;
+import org.sonatype.aether.RepositorySystemSession;
 import org.sonatype.aether.artifact.Artifact;
 import org.sonatype.aether.artifact.ArtifactTypeRegistry;
 import org.sonatype.aether.collection.CollectRequest;
+import org.sonatype.aether.collection.CollectResult;
 import org.sonatype.aether.collection.DependencyCollectionException;
 import org.sonatype.aether.graph.Dependency;
 import org.sonatype.aether.util.artifact.DefaultArtifact;
@@ -154,8 +157,14 @@ public class Maven30DependencyCollector
 
         try
         {
-            return new Maven30CollectorResult( repositorySystem.collectDependencies(
-                    buildingRequest.getRepositorySession(), request ) );
+            RepositorySystemSession session = buildingRequest.getRepositorySession();
+
+            CollectResult collectResult = repositorySystem.collectDependencies( session, request );
+
+            Maven30ArtifactDescriptorCache.putAll( Maven30ArtifactDescriptorCache.get( session ),
+                    collectResult.getRoot(), request.getRepositories() );
+
+            return new Maven30CollectorResult( collectResult );
         }
         catch ( DependencyCollectionException e )
         {
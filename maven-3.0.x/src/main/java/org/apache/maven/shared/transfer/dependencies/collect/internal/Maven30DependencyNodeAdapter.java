@@ -20,13 +20,17 @@ package org.apache.maven.shared.transfer.dependencies.collect.internal;
  */
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.maven.RepositoryUtils;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.repository.ArtifactRepository;
 import org.apache.maven.shared.transfer.graph.DependencyNode;
 import org.apache.maven.shared.transfer.graph.DependencyVisitor;
+import org.apache.maven.shared.transfer.graph.IterativeDependencyTraversal;
 import org.sonatype.aether.repository.RemoteRepository;
 
 /**
@@ -38,32 +42,90 @@ import org.sonatype.aether.repository.RemoteRepository;
 class Maven30DependencyNodeAdapter implements DependencyNode
 {
 
-    private org.sonatype.aether.graph.DependencyNode dependencyNode;
+    private final org.sonatype.aether.graph.DependencyNode dependencyNode;
+
+    /**
+     * The adapters of all nodes of the graph, so each Aether node is wrapped only once.
+     */
+    private final Map<org.sonatype.aether.graph.DependencyNode, Maven30DependencyNodeAdapter> adapters;
+
+    private volatile Artifact artifact;
+
+    private volatile List<DependencyNode> children;
 
     /**
      * @param dependencyNode {@link org.sonatype.aether.graph.DependencyNode}
      */
     Maven30DependencyNodeAdapter( org.sonatype.aether.graph.DependencyNode dependencyNode )
+    {
+        this( dependencyNode,
+                new IdentityHashMap<org.sonatype.aether.graph.DependencyNode, Maven30DependencyNodeAdapter>() );
+        adapters.put( dependencyNode, this );
+    }
+
+    private Maven30DependencyNodeAdapter( org.sonatype.aether.graph.DependencyNode dependencyNode,
+            Map<org.sonatype.aether.graph.DependencyNode, Maven30DependencyNodeAdapter> adapters )
     {
         this.dependencyNode = dependencyNode;
+        this.adapters = adapters;
     }
 
     @Override
     public Artifact getArtifact()
     {
-        return getArtifact( dependencyNode.getDependency().getArtifact() );
+        Artifact result = artifact;
+        if ( result == null )
+        {
+            synchronized ( this )
+            {
+                result = artifact;
+                if ( result == null )
+                {
+                    result = getArtifact( dependencyNode.getDependency().getArtifact() );
+                    artifact = result;
+                }
+            }
+        }
+        return result;
     }
 
     @Override
     public List<DependencyNode> getChildren()
     {
-        List<org.sonatype.aether.graph.DependencyNode> aetherChildren = dependencyNode.getChildren();
-        List<DependencyNode> children = new ArrayList<>( aetherChildren.size() );
-        for ( org.sonatype.aether.graph.DependencyNode aetherChild : aetherChildren )
+        List<DependencyNode> result = children;
+        if ( result == null )
+        {
+            synchronized ( this )
+            {
+                result = children;
+                if ( result == null )
+                {
+                    List<org.sonatype.aether.graph.DependencyNode> aetherChildren = dependencyNode.getChildren();
+                    List<DependencyNode> adaptedChildren = new ArrayList<>( aetherChildren.size() );
+                    for ( org.sonatype.aether.graph.DependencyNode aetherChild : aetherChildren )
+                    {
+                        adaptedChildren.add( adapt( aetherChild ) );
+                    }
+                    result = Collections.unmodifiableList( adaptedChildren );
+                    children = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private Maven30DependencyNodeAdapter adapt( org.sonatype.aether.graph.DependencyNode aetherNode )
+    {
+        synchronized ( adapters )
         {
-            children.add( new Maven30DependencyNodeAdapter( aetherChild ) );
+            Maven30DependencyNodeAdapter adapter = adapters.get( aetherNode );
+            if ( adapter == null )
+            {
+                adapter = new Maven30DependencyNodeAdapter( aetherNode, adapters );
+                adapters.put( aetherNode, adapter );
+            }
+            return adapter;
         }
-        return children;
     }
 
     @Override
@@ -95,19 +157,8 @@ class Maven30DependencyNodeAdapter implements DependencyNode
     @Override
     public boolean accept( DependencyVisitor visitor )
     {
-        if ( visitor.visitEnter( this ) )
-        {
-            for ( org.sonatype.aether.graph.DependencyNode child : dependencyNode.getChildren() )
-            {
-                DependencyNode node = new Maven30DependencyNodeAdapter( child );
-                if ( !node.accept( visitor ) )
-                {
-                    break;
-                }
-            }
-        }
-
-        return visitor.visitLeave( this );
+        // iterative and cycle-safe, a deep graph does not overflow the stack
+        return IterativeDependencyTraversal.accept( this, visitor, IterativeDependencyTraversal.Mode.ALL_PATHS );
     }
 
     @Override
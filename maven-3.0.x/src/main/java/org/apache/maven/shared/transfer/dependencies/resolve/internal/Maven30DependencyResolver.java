@@ -27,20 +27,27 @@ import org.apache.maven.model.Model;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.shared.artifact.filter.resolve.TransformableFilter;
 import org.apache.maven.shared.artifact.filter.resolve.transform.SonatypeAetherFilterTransformer;
+import org.apache.maven.shared.transfer.artifact.resolve.internal.Maven30ArtifactDescriptorCache;
+import org.apache.maven.shared.transfer.artifact.resolve.internal.Maven30ResolutionListener;
+import org.apache.maven.shared.transfer.artifact.resolve.internal.ResolutionRecorder;
 import org.apache.maven.shared.transfer.dependencies.DependableCoordinate;
+import org.apache.maven.shared.transfer.dependencies.resolve.ArtifactResults;
 import org.apache.maven.shared.transfer.dependencies.resolve.DependencyResolverException;
 import org.apache.maven.shared.transfer.support.DelegateSupport;
 import org.apache.maven.shared.transfer.support.Selector;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
 import org.sonatype.aether.RepositorySystem;
+import org.sonatype.aether.RepositorySystemSession;
 import org.sonatype.aether.artifact.Artifact;
 import org.sonatype.aether.artifact.ArtifactType;
 import org.sonatype.aether.artifact.ArtifactTypeRegistry;
 import org.sonatype.aether.collection.CollectRequest;
+import org.sonatype.aether.collection.CollectResult;
 import org.sonatype.aether.collection.DependencyCollectionException;
 import org.sonatype.aether.graph.Dependency;
 import org.sonatype.aether.graph.DependencyFilter;
+import org.sonatype.aether.graph.DependencyNode;
 import org.sonatype.aether.resolution.ArtifactResolutionException;
 import org.sonatype.aether.resolution.ArtifactResult;
 import org.sonatype.aether.util.artifact.DefaultArtifact;
@@ -49,7 +56,6 @@ import org.sonatype.aether.util.artifact.DefaultArtifactType;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
@@ -210,26 +216,28 @@ public class Maven30DependencyResolver
                 depFilter = dependencyFilter.transform( new SonatypeAetherFilterTransformer() );
             }
 
-            final List<ArtifactResult> dependencyResults = repositorySystem.resolveDependencies(
-                    buildingRequest.getRepositorySession(), request, depFilter );
+            RepositorySystemSession original = buildingRequest.getRepositorySession();
+            final ResolutionRecorder recorder = Maven30ResolutionListener.newRecorder( original );
+            RepositorySystemSession session = Maven30ResolutionListener.record( original, recorder );
+
+            // collect and resolve separately to have the graph at hand for the descriptor cache
+            CollectResult collectResult = repositorySystem.collectDependencies( session, request );
+            DependencyNode root = collectResult.getRoot();
+
+            Maven30ArtifactDescriptorCache.putAll( Maven30ArtifactDescriptorCache.get( session ), root,
+                    request.getRepositories() );
+
+            final List<ArtifactResult> dependencyResults =
+                    repositorySystem.resolveDependencies( session, root, depFilter );
 
             // Keep it lazy! Often artifactsResults aren't used, so transforming up front is too expensive
-            return new Iterable<org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult>()
+            return new ArtifactResults<ArtifactResult>( dependencyResults, collectResult.getExceptions() )
             {
                 @Override
-                public Iterator<org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult> iterator()
+                protected org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult wrap( ArtifactResult result )
                 {
-                    // CHECKSTYLE_OFF: LineLength
-                    Collection<org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult> artResults = new ArrayList<>(
-                            dependencyResults.size() );
-                    // CHECKSTYLE_ON: LineLength
-
-                    for ( ArtifactResult artifactResult : dependencyResults )
-                    {
-                        artResults.add( new Maven30ArtifactResult( artifactResult ) );
-                    }
-
-                    return artResults.iterator();
+                    return new Maven30ArtifactResult( result,
+                            Maven30ResolutionListener.getMetrics( recorder, result ) );
                 }
             };
         }
@@ -21,6 +21,7 @@ package org.apache.maven.shared.transfer.dependencies.resolve.internal;
 
 import java.util.List;
 
+import org.apache.maven.shared.transfer.artifact.resolve.ResolutionMetrics;
 import org.apache.maven.shared.transfer.dependencies.resolve.DependencyResolverException;
 import org.apache.maven.shared.transfer.dependencies.resolve.DependencyResult;
 import org.sonatype.aether.collection.DependencyCollectionException;
@@ -56,6 +57,12 @@ class Maven30DependencyResolverException extends DependencyResolverException
             {
                 return dce.getResult().getExceptions();
             }
+
+            @Override
+            public ResolutionMetrics getMetrics()
+            {
+                return ResolutionMetrics.EMPTY;
+            }
         };
     }
 }
@@ -24,11 +24,14 @@ import org.apache.maven.artifact.metadata.ArtifactMetadata;
 import org.apache.maven.project.DefaultProjectBuildingRequest;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.shared.transfer.artifact.ArtifactCoordinate;
+import org.apache.maven.shared.transfer.repository.LocalArtifactStatus;
 import org.apache.maven.shared.transfer.support.DelegateSupport;
+import org.apache.maven.shared.transfer.support.LocalPathCache;
 import org.apache.maven.shared.transfer.support.Selector;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
 import org.sonatype.aether.RepositorySystem;
+import org.sonatype.aether.RepositoryCache;
 import org.sonatype.aether.RepositorySystemSession;
 import org.sonatype.aether.artifact.Artifact;
 import org.sonatype.aether.metadata.Metadata;
@@ -41,7 +44,14 @@ import org.sonatype.aether.util.artifact.DefaultArtifact;
 import org.sonatype.aether.util.metadata.DefaultMetadata;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
 
 /**
  *
@@ -51,9 +61,28 @@ public class Maven30RepositoryManager
         extends DelegateSupport
         implements RepositoryManagerDelegate
 {
+    private static final int MAX_LOCAL_REPOSITORIES = 16;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final float LOAD_FACTOR = 0.75f;
+
     @Requirement
     private RepositorySystem repositorySystem;
 
+    /**
+     * The cached paths per local repository manager, the paths only depend on its layout.
+     */
+    private final Map<LocalRepositoryManager, LocalPathCache> pathCaches = new WeakHashMap<>();
+
+    /**
+     * The local repository managers and caches created by
+     * {@link #setLocalRepositoryBasedir(ProjectBuildingRequest, File)} per original session and canonical base
+     * directory, the least recently used are dropped.
+     */
+    private final Map<RepositorySystemSession, Map<File, LocalRepositoryState>> localRepositories =
+            new WeakHashMap<>();
+
     public Maven30RepositoryManager()
     {
     }
@@ -67,60 +96,114 @@ public class Maven30RepositoryManager
     public String getPathForLocalArtifact( ProjectBuildingRequest buildingRequest,
                                            org.apache.maven.artifact.Artifact mavenArtifact )
     {
-        Artifact aetherArtifact = RepositoryUtils.toArtifact( mavenArtifact );
+        RepositorySystemSession session = buildingRequest.getRepositorySession();
+        LocalPathCache pathCache = getPathCache( session );
+
+        // same version as RepositoryUtils.toArtifact(), which is only called on a cache miss
+        String version = mavenArtifact.getVersion();
+        if ( version == null && mavenArtifact.getVersionRange() != null )
+        {
+            version = mavenArtifact.getVersionRange().toString();
+        }
+        String extension = mavenArtifact.getArtifactHandler().getExtension();
+
+        String path = pathCache.getArtifactPath( mavenArtifact.getGroupId(), mavenArtifact.getArtifactId(), version,
+                mavenArtifact.getClassifier(), extension );
+        if ( path == null )
+        {
+            Artifact aetherArtifact = RepositoryUtils.toArtifact( mavenArtifact );
 
-        return buildingRequest.getRepositorySession().getLocalRepositoryManager().getPathForLocalArtifact(
-                aetherArtifact );
+            path = session.getLocalRepositoryManager().getPathForLocalArtifact( aetherArtifact );
+            pathCache.putArtifactPath( mavenArtifact.getGroupId(), mavenArtifact.getArtifactId(), version,
+                    mavenArtifact.getClassifier(), extension, path );
+        }
+        return path;
     }
 
     @Override
     public String getPathForLocalArtifact( ProjectBuildingRequest buildingRequest,
                                            ArtifactCoordinate coordinate )
     {
-        Artifact aetherArtifact = toArtifact( coordinate );
-
-        // LRM.getPathForLocalArtifact() won't throw an Exception, so translate reflection error to RuntimeException
+        RepositorySystemSession session = buildingRequest.getRepositorySession();
 
-        return buildingRequest.getRepositorySession().getLocalRepositoryManager().getPathForLocalArtifact(
-                aetherArtifact );
+        return getPathForLocalArtifact( session, getPathCache( session ), coordinate );
     }
 
     @Override
-    public String getPathForLocalMetadata( ProjectBuildingRequest buildingRequest,
-                                           ArtifactMetadata metadata )
+    public List<String> getPathsForLocalArtifacts( ProjectBuildingRequest buildingRequest,
+                                                   Collection<? extends ArtifactCoordinate> coordinates )
     {
-        Metadata aetherMetadata = new DefaultMetadata( metadata.getGroupId(),
-                metadata.storedInGroupDirectory() ? null : metadata.getArtifactId(),
-                metadata.storedInArtifactVersionDirectory() ? metadata.getBaseVersion() : null, "maven-metadata.xml",
-                Nature.RELEASE_OR_SNAPSHOT );
+        RepositorySystemSession session = buildingRequest.getRepositorySession();
+        LocalPathCache pathCache = getPathCache( session );
 
-        return buildingRequest.getRepositorySession().getLocalRepositoryManager().getPathForLocalMetadata(
-                aetherMetadata );
+        List<String> paths = new ArrayList<>( coordinates.size() );
+        for ( ArtifactCoordinate coordinate : coordinates )
+        {
+            paths.add( getPathForLocalArtifact( session, pathCache, coordinate ) );
+        }
+        return paths;
     }
 
     @Override
-    public ProjectBuildingRequest setLocalRepositoryBasedir( ProjectBuildingRequest buildingRequest,
-                                                             File basedir )
+    public List<LocalArtifactStatus> getLocalArtifactStatus( ProjectBuildingRequest buildingRequest,
+                                                             Collection<? extends ArtifactCoordinate> coordinates )
     {
-        ProjectBuildingRequest newRequest = new DefaultProjectBuildingRequest( buildingRequest );
-
         RepositorySystemSession session = buildingRequest.getRepositorySession();
 
-        // "clone" session and replace localRepository
-        DefaultRepositorySystemSession newSession = new DefaultRepositorySystemSession( session );
+        File basedir = session.getLocalRepository().getBasedir();
 
-        // Clear cache, since we're using a new local repository
-        newSession.setCache( new DefaultRepositoryCache() );
+        LocalRepositoryIndex index = null;
+        Object indexEnabled = session.getConfigProperties().get( LocalRepositoryIndex.CONFIG_PROPERTY );
+        if ( LocalRepositoryIndex.isEnabled( indexEnabled ) )
+        {
+            index = LocalRepositoryIndex.forBasedir( basedir );
+            try
+            {
+                index.refresh();
+            }
+            catch ( IOException e )
+            {
+                logger.warn( "Ignoring the local repository index: " + e.getMessage(), e );
+                index = null;
+            }
+        }
 
-        // keep same repositoryType
-        String repositoryType = resolveRepositoryType( session.getLocalRepository() );
+        List<ArtifactCoordinate> artifacts = new ArrayList<ArtifactCoordinate>( coordinates );
+        return LocalArtifactProbe.probe( basedir, artifacts, getPathsForLocalArtifacts( buildingRequest, artifacts ),
+                LocalArtifactProbe.parseListDirectories(
+                        session.getConfigProperties().get( LocalArtifactProbe.LIST_DIRECTORIES_PROPERTY ) ),
+                index );
+    }
 
-        LocalRepositoryManager localRepositoryManager = repositorySystem.newLocalRepositoryManager(
-                new LocalRepository( basedir, repositoryType ) );
+    @Override
+    public String getPathForLocalMetadata( ProjectBuildingRequest buildingRequest,
+                                           ArtifactMetadata metadata )
+    {
+        RepositorySystemSession session = buildingRequest.getRepositorySession();
+        LocalPathCache pathCache = getPathCache( session );
+
+        String artifactId = metadata.storedInGroupDirectory() ? null : metadata.getArtifactId();
+        String version = metadata.storedInArtifactVersionDirectory() ? metadata.getBaseVersion() : null;
+
+        String path = pathCache.getMetadataPath( metadata.getGroupId(), artifactId, version );
+        if ( path == null )
+        {
+            Metadata aetherMetadata = new DefaultMetadata( metadata.getGroupId(), artifactId, version,
+                    "maven-metadata.xml", Nature.RELEASE_OR_SNAPSHOT );
 
-        newSession.setLocalRepositoryManager( localRepositoryManager );
+            path = session.getLocalRepositoryManager().getPathForLocalMetadata( aetherMetadata );
+            pathCache.putMetadataPath( metadata.getGroupId(), artifactId, version, path );
+        }
+        return path;
+    }
+
+    @Override
+    public ProjectBuildingRequest setLocalRepositoryBasedir( ProjectBuildingRequest buildingRequest,
+                                                             File basedir )
+    {
+        ProjectBuildingRequest newRequest = new DefaultProjectBuildingRequest( buildingRequest );
 
-        newRequest.setRepositorySession( newSession );
+        newRequest.setRepositorySession( getLocalSession( buildingRequest.getRepositorySession(), basedir ) );
 
         return newRequest;
     }
@@ -149,6 +232,106 @@ public class Maven30RepositoryManager
         return repositoryType;
     }
 
+    /**
+     * Returns a new session using the local repository at the given base directory. The local repository manager and
+     * the repository cache are reused from a previous call for the same session and canonical base directory, so they
+     * stay warm, while the session itself is a fresh copy of the current state of the original one.
+     */
+    private RepositorySystemSession getLocalSession( RepositorySystemSession session, File basedir )
+    {
+        LocalRepositoryState state = getLocalRepositoryState( session, basedir );
+
+        // "clone" session and replace localRepository
+        DefaultRepositorySystemSession newSession = new DefaultRepositorySystemSession( session );
+
+        // the cache of the original session holds the content of another local repository
+        newSession.setCache( state.cache );
+
+        newSession.setLocalRepositoryManager( state.localRepositoryManager );
+
+        return newSession;
+    }
+
+    private LocalRepositoryState getLocalRepositoryState( RepositorySystemSession session, File basedir )
+    {
+        File key = canonicalize( basedir );
+        synchronized ( localRepositories )
+        {
+            Map<File, LocalRepositoryState> states = localRepositories.get( session );
+            if ( states == null )
+            {
+                states = new LinkedHashMap<File, LocalRepositoryState>( INITIAL_CAPACITY, LOAD_FACTOR, true )
+                {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    protected boolean removeEldestEntry( Map.Entry<File, LocalRepositoryState> eldest )
+                    {
+                        return size() > MAX_LOCAL_REPOSITORIES;
+                    }
+                };
+                localRepositories.put( session, states );
+            }
+
+            LocalRepositoryState state = states.get( key );
+            if ( state == null )
+            {
+                // keep same repositoryType
+                String repositoryType = resolveRepositoryType( session.getLocalRepository() );
+
+                LocalRepositoryManager localRepositoryManager = repositorySystem.newLocalRepositoryManager(
+                        new LocalRepository( basedir, repositoryType ) );
+                state = new LocalRepositoryState( localRepositoryManager, new DefaultRepositoryCache() );
+                states.put( key, state );
+            }
+            return state;
+        }
+    }
+
+    private static File canonicalize( File basedir )
+    {
+        try
+        {
+            return basedir.getCanonicalFile();
+        }
+        catch ( IOException e )
+        {
+            return basedir.getAbsoluteFile();
+        }
+    }
+
+    private String getPathForLocalArtifact( RepositorySystemSession session, LocalPathCache pathCache,
+                                            ArtifactCoordinate coordinate )
+    {
+        String path = pathCache.getArtifactPath( coordinate.getGroupId(), coordinate.getArtifactId(),
+                coordinate.getVersion(), coordinate.getClassifier(), coordinate.getExtension() );
+        if ( path == null )
+        {
+            Artifact aetherArtifact = toArtifact( coordinate );
+
+            path = session.getLocalRepositoryManager().getPathForLocalArtifact( aetherArtifact );
+            pathCache.putArtifactPath( coordinate.getGroupId(), coordinate.getArtifactId(), coordinate.getVersion(),
+                    coordinate.getClassifier(), coordinate.getExtension(), path );
+        }
+        return path;
+    }
+
+    private LocalPathCache getPathCache( RepositorySystemSession session )
+    {
+        LocalRepositoryManager localRepositoryManager = session.getLocalRepositoryManager();
+        synchronized ( pathCaches )
+        {
+            LocalPathCache pathCache = pathCaches.get( localRepositoryManager );
+            if ( pathCache == null )
+            {
+                pathCache = new LocalPathCache( LocalPathCache.parseMaxSize(
+                        session.getConfigProperties().get( LocalPathCache.MAX_SIZE_PROPERTY ) ) );
+                pathCaches.put( localRepositoryManager, pathCache );
+            }
+            return pathCache;
+        }
+    }
+
     /**
      * @param coordinate {@link ArtifactCoordinate}
      * @return {@link Artifact}
@@ -165,4 +348,20 @@ public class Maven30RepositoryManager
 
         return result;
     }
+
+    /**
+     * The local repository manager and the repository cache shared by the sessions using a local repository.
+     */
+    private static final class LocalRepositoryState
+    {
+        private final LocalRepositoryManager localRepositoryManager;
+
+        private final RepositoryCache cache;
+
+        private LocalRepositoryState( LocalRepositoryManager localRepositoryManager, RepositoryCache cache )
+        {
+            this.localRepositoryManager = localRepositoryManager;
+            this.cache = cache;
+        }
+    }
 }
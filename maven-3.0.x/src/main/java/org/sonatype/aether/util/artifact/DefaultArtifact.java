@@ -46,7 +46,8 @@ import java.util.regex.Pattern;
  * A simple artifact.
  *
  * Note: this is a one-to-one copy of same class from org.sonatype.aether:aether-util:1.13.1 (used in Maven 3.0,5),
- * as Maven 3.0.5 does NOT EXPORT aether util package to plugins.
+ * as Maven 3.0.5 does NOT EXPORT aether util package to plugins. The only change is that the coordinates pattern is
+ * compiled once instead of on each parse.
  *
  * @author Benjamin Bentmann
  */
@@ -54,6 +55,9 @@ public final class DefaultArtifact
     extends AbstractArtifact
 {
 
+    private static final Pattern COORDINATE_PATTERN =
+        Pattern.compile( "([^: ]+):([^: ]+)(:([^: ]*)(:([^: ]+))?)?:([^: ]+)" );
+
     private final String groupId;
 
     private final String artifactId;
@@ -90,8 +94,7 @@ public final class DefaultArtifact
      */
     public DefaultArtifact( String coords, Map<String, String> properties )
     {
-        Pattern p = Pattern.compile( "([^: ]+):([^: ]+)(:([^: ]*)(:([^: ]+))?)?:([^: ]+)" );
-        Matcher m = p.matcher( coords );
+        Matcher m = COORDINATE_PATTERN.matcher( coords );
         if ( !m.matches() )
         {
             throw new IllegalArgumentException( "Bad artifact coordinates"
@@ -0,0 +1,237 @@
+package org.apache.maven.shared.transfer.artifact.deploy.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.artifact.repository.ArtifactRepositoryPolicy;
+import org.apache.maven.artifact.repository.MavenArtifactRepository;
+import org.apache.maven.artifact.repository.layout.DefaultRepositoryLayout;
+import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.project.artifact.ProjectArtifactMetadata;
+import org.apache.maven.repository.internal.MavenRepositorySystemSession;
+import org.apache.maven.shared.transfer.artifact.deploy.ArtifactDeployerException;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.sonatype.aether.RepositoryEvent;
+import org.sonatype.aether.RepositorySystem;
+import org.sonatype.aether.RepositorySystemSession;
+import org.sonatype.aether.deployment.DeployRequest;
+import org.sonatype.aether.deployment.DeployResult;
+import org.sonatype.aether.deployment.DeploymentException;
+import org.sonatype.aether.transfer.ArtifactTransferException;
+import org.sonatype.aether.util.listener.DefaultRepositoryEvent;
+
+public class Maven30ArtifactDeployerTest
+    extends TestCase
+{
+    public void testDeployOneRequestPerRepository()
+        throws Exception
+    {
+        RepositorySystem repositorySystem = mock( RepositorySystem.class );
+
+        ArtifactRepository first = newRepository( "first" );
+        ArtifactRepository second = newRepository( "second" );
+
+        DefaultProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest();
+        buildingRequest.setRepositorySession( new MavenRepositorySystemSession() );
+
+        List<Artifact> artifacts = Arrays.asList( newArtifact( "a", first ), newArtifact( "b", second ),
+                                                  newArtifact( "c", first ) );
+
+        new Maven30ArtifactDeployer( repositorySystem ).deploy( buildingRequest, artifacts );
+
+        ArgumentCaptor<DeployRequest> requests = ArgumentCaptor.forClass( DeployRequest.class );
+        verify( repositorySystem, times( 2 ) ).deploy( any( RepositorySystemSession.class ), requests.capture() );
+
+        DeployRequest firstRequest = requests.getAllValues().get( 0 );
+        assertEquals( "first", firstRequest.getRepository().getId() );
+        assertEquals( Arrays.asList( "a", "c" ), artifactIds( firstRequest ) );
+
+        DeployRequest secondRequest = requests.getAllValues().get( 1 );
+        assertEquals( "second", secondRequest.getRepository().getId() );
+        assertEquals( Arrays.asList( "b" ), artifactIds( secondRequest ) );
+    }
+
+    public void testDeployToExplicitRepository()
+        throws Exception
+    {
+        RepositorySystem repositorySystem = mock( RepositorySystem.class );
+
+        DefaultProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest();
+        buildingRequest.setRepositorySession( new MavenRepositorySystemSession() );
+
+        List<Artifact> artifacts = Arrays.asList( newArtifact( "a", newRepository( "first" ) ),
+                                                  newArtifact( "b", newRepository( "second" ) ) );
+
+        new Maven30ArtifactDeployer( repositorySystem ).deploy( buildingRequest, newRepository( "target" ),
+                                                                artifacts );
+
+        ArgumentCaptor<DeployRequest> requests = ArgumentCaptor.forClass( DeployRequest.class );
+        verify( repositorySystem ).deploy( any( RepositorySystemSession.class ), requests.capture() );
+        assertEquals( "target", requests.getValue().getRepository().getId() );
+        assertEquals( Arrays.asList( "a", "b" ), artifactIds( requests.getValue() ) );
+    }
+
+    public void testDeployReportsFailedArtifacts()
+        throws Exception
+    {
+        RepositorySystem repositorySystem = mock( RepositorySystem.class );
+        when( repositorySystem.deploy( any( RepositorySystemSession.class ), any( DeployRequest.class ) ) )
+            .thenAnswer( new Answer<DeployResult>()
+            {
+                @Override
+                public DeployResult answer( InvocationOnMock invocation )
+                    throws DeploymentException
+                {
+                    RepositorySystemSession session = invocation.getArgument( 0 );
+                    DeployRequest request = invocation.getArgument( 1 );
+                    // the upload of c fails, a is uploaded
+                    org.sonatype.aether.artifact.Artifact failed = null;
+                    for ( org.sonatype.aether.artifact.Artifact artifact : request.getArtifacts() )
+                    {
+                        if ( "c".equals( artifact.getArtifactId() ) )
+                        {
+                            failed = artifact;
+                        }
+                    }
+                    ArtifactTransferException failure =
+                        new ArtifactTransferException( failed, request.getRepository(), "Read timed out" );
+                    session.getRepositoryListener().artifactDeployed( new DefaultRepositoryEvent( RepositoryEvent.EventType.ARTIFACT_DEPLOYED, session )
+                        .setArtifact( failed ).setException( failure ) );
+                    throw new DeploymentException( "Failed to deploy artifacts: Read timed out", failure );
+                }
+            } );
+
+        ArtifactRepository first = newRepository( "first" );
+        ArtifactRepository second = newRepository( "second" );
+
+        DefaultProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest();
+        buildingRequest.setRepositorySession( new MavenRepositorySystemSession() );
+
+        Artifact a = newArtifact( "a", first );
+        Artifact b = newArtifact( "b", second );
+        Artifact c = newArtifact( "c", first );
+
+        try
+        {
+            new Maven30ArtifactDeployer( repositorySystem ).deploy( buildingRequest, Arrays.asList( a, b, c ) );
+            fail( "ArtifactDeployerException expected" );
+        }
+        catch ( ArtifactDeployerException e )
+        {
+            // b has not been tried, as the deployment to the first repository failed
+            assertEquals( Arrays.asList( c, b ), e.getFailedArtifacts() );
+        }
+        verify( repositorySystem ).deploy( any( RepositorySystemSession.class ), any( DeployRequest.class ) );
+    }
+
+    public void testUploadDeploysEachArtifactWithoutMetadata()
+        throws Exception
+    {
+        RepositorySystem repositorySystem = mock( RepositorySystem.class );
+
+        DefaultProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest();
+        buildingRequest.setRepositorySession( new MavenRepositorySystemSession() );
+
+        Artifact a = newArtifact( "a", null );
+        a.addMetadata( new ProjectArtifactMetadata( a, new File( "pom.xml" ) ) );
+
+        new Maven30ArtifactDeployer( repositorySystem ).upload( buildingRequest, newRepository( "target" ),
+                                                                Arrays.asList( a, newArtifact( "b", null ) ) );
+
+        // a deployment per artifact, so the repository events are fired for each of them
+        ArgumentCaptor<DeployRequest> requests = ArgumentCaptor.forClass( DeployRequest.class );
+        verify( repositorySystem, times( 2 ) ).deploy( any( RepositorySystemSession.class ), requests.capture() );
+        for ( int i = 0; i < 2; i++ )
+        {
+            DeployRequest request = requests.getAllValues().get( i );
+            String artifactId = i == 0 ? "a" : "b";
+            assertEquals( "target", request.getRepository().getId() );
+            assertEquals( Arrays.asList( artifactId ), artifactIds( request ) );
+            assertEquals( new File( artifactId + ".jar" ), request.getArtifacts().iterator().next().getFile() );
+            assertTrue( request.getMetadata().isEmpty() );
+        }
+    }
+
+    public void testUploadReportsFailure()
+        throws Exception
+    {
+        RepositorySystem repositorySystem = mock( RepositorySystem.class );
+        when( repositorySystem.deploy( any( RepositorySystemSession.class ), any( DeployRequest.class ) ) )
+            .thenThrow( new DeploymentException( "Read timed out" ) );
+
+        DefaultProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest();
+        buildingRequest.setRepositorySession( new MavenRepositorySystemSession() );
+
+        try
+        {
+            new Maven30ArtifactDeployer( repositorySystem ).upload( buildingRequest, newRepository( "target" ),
+                                                                    Arrays.asList( newArtifact( "a", null ) ) );
+            fail( "ArtifactDeployerException expected" );
+        }
+        catch ( ArtifactDeployerException e )
+        {
+            assertEquals( "Read timed out", e.getMessage() );
+        }
+    }
+
+    private static List<String> artifactIds( DeployRequest request )
+    {
+        List<String> artifactIds = new ArrayList<>();
+        for ( org.sonatype.aether.artifact.Artifact artifact : request.getArtifacts() )
+        {
+            artifactIds.add( artifact.getArtifactId() );
+        }
+        return artifactIds;
+    }
+
+    private static ArtifactRepository newRepository( String id )
+    {
+        return new MavenArtifactRepository( id, "file:///tmp/" + id, new DefaultRepositoryLayout(),
+                                            new ArtifactRepositoryPolicy(), new ArtifactRepositoryPolicy() );
+    }
+
+    private static Artifact newArtifact( String artifactId, ArtifactRepository repository )
+    {
+        Artifact artifact = new DefaultArtifact( "GROUPID", artifactId, "1.0", null, "jar", null,
+                                                 new DefaultArtifactHandler( "jar" ) );
+        artifact.setFile( new File( artifactId + ".jar" ) );
+        artifact.setRepository( repository );
+        return artifact;
+    }
+}
@@ -29,6 +29,7 @@ import org.apache.maven.artifact.DefaultArtifact;
 import org.apache.maven.artifact.handler.DefaultArtifactHandler;
 import org.apache.maven.project.DefaultProjectBuildingRequest;
 import org.apache.maven.repository.internal.MavenRepositorySystemSession;
+import org.apache.maven.shared.transfer.artifact.install.InstallMode;
 import org.apache.maven.shared.transfer.repository.RepositoryManager;
 import org.apache.maven.shared.transfer.repository.internal.Maven30RepositoryManager;
 import org.codehaus.plexus.PlexusTestCase;
@@ -78,4 +79,37 @@ public class Maven30ArtifactInstallerTest extends PlexusTestCase
         assertTrue( new File( localRepo, "GROUPID/ARTIFACTID/VERSION/ARTIFACTID-VERSION-CLASSIFIER.EXTENSION" ).exists() );
         assertTrue( new File( localRepo, "GROUPID/ARTIFACTID/maven-metadata-local.xml" ).exists() ); //??
     }
+
+    public void testStageArtifactsSharingOneFile() throws Exception
+    {
+        File stagingRepo = new File( "target/tests/staging-repo" );
+        DefaultProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest();
+        MavenRepositorySystemSession repositorySession = new MavenRepositorySystemSession();
+        repositorySession.setLocalRepositoryManager( new SimpleLocalRepositoryManager( stagingRepo ) );
+        repositorySession.setConfigProperty( InstallMode.CONFIG_PROPERTY, InstallMode.PARALLEL_COPY );
+        repositorySession.setConfigProperty( LocalArtifactFiles.CHECKSUMS_PROPERTY, "SHA-1" );
+        buildingRequest.setRepositorySession( repositorySession );
+
+        RepositoryManager repositoryManager = new Maven30RepositoryManager( repositorySystem );
+
+        DefaultArtifactHandler artifactHandler = new DefaultArtifactHandler();
+        artifactHandler.setExtension( "EXTENSION" );
+
+        File artifactsDirectory = new File( "target/tests/artifacts" );
+        artifactsDirectory.mkdirs();
+        File tmpFile = Files.createTempFile( artifactsDirectory.toPath(), "test-stage", ".jar" ).toFile();
+
+        // a main artifact also attached under a classifier
+        DefaultArtifact artifact = new DefaultArtifact( "GROUPID", "ARTIFACTID", "VERSION", "compile", "jar", null, artifactHandler );
+        artifact.setFile( tmpFile );
+        DefaultArtifact artifactWithClassifier = new DefaultArtifact( "GROUPID", "ARTIFACTID", "VERSION", "compile", "jar", "CLASSIFIER", artifactHandler );
+        artifactWithClassifier.setFile( tmpFile );
+
+        ArtifactInstallerDelegate installer = new Maven30ArtifactInstaller( repositorySystem, repositoryManager );
+        installer.install( buildingRequest, Arrays.<Artifact>asList( artifact, artifactWithClassifier ) );
+
+        // both were staged, with their checksums
+        assertTrue( new File( stagingRepo, "GROUPID/ARTIFACTID/VERSION/ARTIFACTID-VERSION.EXTENSION.sha1" ).exists() );
+        assertTrue( new File( stagingRepo, "GROUPID/ARTIFACTID/VERSION/ARTIFACTID-VERSION-CLASSIFIER.EXTENSION.sha1" ).exists() );
+    }
 }
@@ -0,0 +1,125 @@
+package org.apache.maven.shared.transfer.artifact.resolve.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.repository.internal.MavenRepositorySystemSession;
+import org.apache.maven.shared.transfer.artifact.ArtifactCoordinate;
+import org.apache.maven.shared.transfer.artifact.ImmutableArtifactCoordinate;
+import org.mockito.Matchers;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.sonatype.aether.RepositorySystem;
+import org.sonatype.aether.RepositorySystemSession;
+import org.sonatype.aether.resolution.ArtifactDescriptorRequest;
+import org.sonatype.aether.resolution.ArtifactDescriptorResult;
+import org.sonatype.aether.resolution.ArtifactRequest;
+import org.sonatype.aether.resolution.ArtifactResolutionException;
+import org.sonatype.aether.resolution.ArtifactResult;
+import org.sonatype.aether.transfer.ArtifactNotFoundException;
+
+public class Maven30ArtifactResolverTest
+    extends TestCase
+{
+    public void testResolveArtifactsWithMissingArtifact()
+        throws Exception
+    {
+        RepositorySystem repositorySystem = mock( RepositorySystem.class );
+        when( repositorySystem.readArtifactDescriptor( any( RepositorySystemSession.class ),
+                                                       any( ArtifactDescriptorRequest.class ) ) )
+            .thenAnswer( new Answer<ArtifactDescriptorResult>()
+            {
+                @Override
+                public ArtifactDescriptorResult answer( InvocationOnMock invocation )
+                {
+                    ArtifactDescriptorRequest request = invocation.getArgument( 1 );
+                    return new ArtifactDescriptorResult( request ).setArtifact( request.getArtifact() );
+                }
+            } );
+        when( repositorySystem.resolveArtifacts( any( RepositorySystemSession.class ), Matchers.<Collection<ArtifactRequest>>any() ) )
+            .thenAnswer( new Answer<List<ArtifactResult>>()
+            {
+                @Override
+                public List<ArtifactResult> answer( InvocationOnMock invocation )
+                    throws ArtifactResolutionException
+                {
+                    Collection<ArtifactRequest> requests = invocation.getArgument( 1 );
+                    List<ArtifactResult> results = new ArrayList<>();
+                    for ( ArtifactRequest request : requests )
+                    {
+                        ArtifactResult result = new ArtifactResult( request );
+                        if ( "missing".equals( request.getArtifact().getArtifactId() ) )
+                        {
+                            result.addException( new ArtifactNotFoundException( request.getArtifact(), null ) );
+                        }
+                        else
+                        {
+                            result.setArtifact( request.getArtifact().setFile(
+                                new File( request.getArtifact().getArtifactId() + ".jar" ) ) );
+                        }
+                        results.add( result );
+                    }
+                    // the repository system reports all results of a partly failed batch with the exception
+                    throw new ArtifactResolutionException( results );
+                }
+            } );
+
+        DefaultProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest();
+        buildingRequest.setRepositorySession( new MavenRepositorySystemSession() );
+
+        List<ArtifactCoordinate> coordinates = Arrays.<ArtifactCoordinate>asList( newCoordinate( "a" ),
+                                                                                newCoordinate( "missing" ),
+                                                                                newCoordinate( "c" ) );
+        List<org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult> results =
+            new Maven30ArtifactResolver( repositorySystem ).resolveArtifacts( buildingRequest, coordinates );
+
+        // in the order of the coordinates, the missing artifact doesn't fail the others
+        assertEquals( 3, results.size() );
+        assertTrue( results.get( 0 ).isResolved() );
+        assertEquals( "a", results.get( 0 ).getArtifact().getArtifactId() );
+        assertEquals( new File( "a.jar" ), results.get( 0 ).getArtifact().getFile() );
+        assertTrue( results.get( 0 ).getExceptions().isEmpty() );
+        assertFalse( results.get( 1 ).isResolved() );
+        assertEquals( 1, results.get( 1 ).getExceptions().size() );
+        assertTrue( results.get( 1 ).getExceptions().get( 0 ) instanceof ArtifactNotFoundException );
+        assertTrue( results.get( 2 ).isResolved() );
+        assertEquals( "c", results.get( 2 ).getArtifact().getArtifactId() );
+        assertTrue( results.get( 2 ).getExceptions().isEmpty() );
+    }
+
+    private static ArtifactCoordinate newCoordinate( String artifactId )
+    {
+        return new ImmutableArtifactCoordinate( "GROUPID", artifactId, "1.0", "jar", null );
+    }
+}
@@ -0,0 +1,176 @@
+package org.apache.maven.shared.transfer.collection.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.repository.internal.MavenRepositorySystemSession;
+import org.apache.maven.shared.transfer.artifact.ImmutableArtifactCoordinate;
+import org.apache.maven.shared.transfer.artifact.resolve.internal.Maven30ArtifactResolver;
+import org.apache.maven.shared.transfer.collection.CollectRequest;
+import org.apache.maven.shared.transfer.collection.CollectResult;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.sonatype.aether.RepositorySystem;
+import org.sonatype.aether.RepositorySystemSession;
+import org.sonatype.aether.collection.DependencyCollectionException;
+import org.sonatype.aether.resolution.ArtifactDescriptorRequest;
+import org.sonatype.aether.resolution.ArtifactRequest;
+import org.sonatype.aether.resolution.ArtifactResult;
+import org.sonatype.aether.util.artifact.DefaultArtifact;
+import org.sonatype.aether.util.graph.DefaultDependencyNode;
+
+public class Maven30DependencyCollectorTest
+    extends TestCase
+{
+    public void testCollectDependenciesOfSeveralRoots()
+        throws Exception
+    {
+        RepositorySystem repositorySystem = mock( RepositorySystem.class );
+        when( repositorySystem.collectDependencies( any( RepositorySystemSession.class ),
+                                                    any( org.sonatype.aether.collection.CollectRequest.class ) ) )
+            .thenAnswer( new Answer<org.sonatype.aether.collection.CollectResult>()
+            {
+                @Override
+                public org.sonatype.aether.collection.CollectResult answer( InvocationOnMock invocation )
+                    throws DependencyCollectionException
+                {
+                    org.sonatype.aether.collection.CollectRequest request = invocation.getArgument( 1 );
+                    org.sonatype.aether.collection.CollectResult result =
+                        new org.sonatype.aether.collection.CollectResult( request );
+                    result.setRoot( new DefaultDependencyNode( request.getRoot() ) );
+                    if ( "broken".equals( request.getRoot().getArtifact().getArtifactId() ) )
+                    {
+                        result.addException( new IllegalStateException( "missing descriptor" ) );
+                        throw new DependencyCollectionException( result );
+                    }
+                    return result;
+                }
+            } );
+
+        ArtifactHandlerManager artifactHandlerManager = mock( ArtifactHandlerManager.class );
+        when( artifactHandlerManager.getArtifactHandler( "jar" ) ).thenReturn( new DefaultArtifactHandler( "jar" ) );
+
+        DefaultProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest();
+        buildingRequest.setRepositorySession( new MavenRepositorySystemSession() );
+
+        DependencyCollectorDelegate collector =
+            new Maven30DependencyCollector( repositorySystem, artifactHandlerManager );
+
+        List<CollectResult> results = collector.collectDependencies( buildingRequest,
+            Arrays.asList( newRequest( "first" ), newRequest( "broken" ), newRequest( "last" ) ) );
+
+        assertEquals( 3, results.size() );
+        assertEquals( "first", results.get( 0 ).getRoot().getArtifact().getArtifactId() );
+        assertTrue( results.get( 0 ).getExceptions().isEmpty() );
+        assertEquals( "broken", results.get( 1 ).getRoot().getArtifact().getArtifactId() );
+        assertEquals( 1, results.get( 1 ).getExceptions().size() );
+        assertEquals( "missing descriptor", results.get( 1 ).getExceptions().get( 0 ).getMessage() );
+        assertEquals( "last", results.get( 2 ).getRoot().getArtifact().getArtifactId() );
+        assertTrue( results.get( 2 ).getExceptions().isEmpty() );
+    }
+
+    public void testCollectDependenciesOfNoRoots()
+        throws Exception
+    {
+        DefaultProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest();
+        buildingRequest.setRepositorySession( new MavenRepositorySystemSession() );
+
+        DependencyCollectorDelegate collector =
+            new Maven30DependencyCollector( mock( RepositorySystem.class ), mock( ArtifactHandlerManager.class ) );
+
+        assertTrue( collector.collectDependencies( buildingRequest, Collections.<CollectRequest>emptyList() )
+                        .isEmpty() );
+    }
+
+    public void testCollectedRelocationsAreReusedByArtifactResolver()
+        throws Exception
+    {
+        final DefaultDependencyNode root = new DefaultDependencyNode(
+            new org.sonatype.aether.graph.Dependency( new DefaultArtifact( "GROUPID:new:1.0" ), "compile" ) );
+        root.setRelocations( Collections.<org.sonatype.aether.artifact.Artifact>singletonList(
+            new DefaultArtifact( "GROUPID:old:1.0" ) ) );
+
+        RepositorySystem repositorySystem = mock( RepositorySystem.class );
+        when( repositorySystem.collectDependencies( any( RepositorySystemSession.class ),
+                                                    any( org.sonatype.aether.collection.CollectRequest.class ) ) )
+            .thenAnswer( new Answer<org.sonatype.aether.collection.CollectResult>()
+            {
+                @Override
+                public org.sonatype.aether.collection.CollectResult answer( InvocationOnMock invocation )
+                {
+                    org.sonatype.aether.collection.CollectRequest request = invocation.getArgument( 1 );
+                    return new org.sonatype.aether.collection.CollectResult( request ).setRoot( root );
+                }
+            } );
+        when( repositorySystem.resolveArtifact( any( RepositorySystemSession.class ), any( ArtifactRequest.class ) ) )
+            .thenAnswer( new Answer<ArtifactResult>()
+            {
+                @Override
+                public ArtifactResult answer( InvocationOnMock invocation )
+                {
+                    ArtifactRequest request = invocation.getArgument( 1 );
+                    return new ArtifactResult( request ).setArtifact( request.getArtifact() );
+                }
+            } );
+
+        ArtifactHandlerManager artifactHandlerManager = mock( ArtifactHandlerManager.class );
+        when( artifactHandlerManager.getArtifactHandler( "jar" ) ).thenReturn( new DefaultArtifactHandler( "jar" ) );
+
+        DefaultProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest();
+        buildingRequest.setRepositorySession( new MavenRepositorySystemSession() );
+
+        new Maven30DependencyCollector( repositorySystem, artifactHandlerManager )
+            .collectDependencies( buildingRequest, Collections.singletonList( newRequest( "new" ) ) );
+        org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult result =
+            new Maven30ArtifactResolver( repositorySystem )
+                .resolveArtifact( buildingRequest, new ImmutableArtifactCoordinate( "GROUPID", "old", "1.0", "jar",
+                                                                                    null ) );
+
+        // the descriptor of the relocated artifact is known from the collected graph
+        assertEquals( "new", result.getArtifact().getArtifactId() );
+        verify( repositorySystem, never() ).readArtifactDescriptor( any( RepositorySystemSession.class ),
+                                                                    any( ArtifactDescriptorRequest.class ) );
+    }
+
+    private static CollectRequest newRequest( String artifactId )
+    {
+        Dependency root = new Dependency();
+        root.setGroupId( "GROUPID" );
+        root.setArtifactId( artifactId );
+        root.setVersion( "1.0" );
+        return new CollectRequest().setRoot( root );
+    }
+}
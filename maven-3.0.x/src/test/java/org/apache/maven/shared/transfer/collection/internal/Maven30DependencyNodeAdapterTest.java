@@ -0,0 +1,99 @@
+package org.apache.maven.shared.transfer.collection.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.shared.transfer.collection.CollectResult;
+import org.apache.maven.shared.transfer.graph.DependencyNode;
+import org.sonatype.aether.collection.CollectRequest;
+import org.sonatype.aether.graph.Dependency;
+import org.sonatype.aether.util.artifact.DefaultArtifact;
+import org.sonatype.aether.util.graph.DefaultDependencyNode;
+
+public class Maven30DependencyNodeAdapterTest
+    extends TestCase
+{
+    public void testGetChildrenIsMemoized()
+    {
+        org.sonatype.aether.graph.DependencyNode root = newNode( "root" );
+        root.getChildren().add( newNode( "a" ) );
+        root.getChildren().add( newNode( "b" ) );
+
+        DependencyNode adapter = new Maven30DependencyNodeAdapter( root );
+        List<DependencyNode> children = adapter.getChildren();
+
+        assertEquals( 2, children.size() );
+        assertSame( children, adapter.getChildren() );
+        assertSame( children.get( 0 ).getChildren(), children.get( 0 ).getChildren() );
+    }
+
+    public void testGetArtifactIsMemoized()
+    {
+        DependencyNode adapter = new Maven30DependencyNodeAdapter( newNode( "a" ) );
+
+        assertEquals( "a", adapter.getArtifact().getArtifactId() );
+        assertSame( adapter.getArtifact(), adapter.getArtifact() );
+    }
+
+    public void testSharedNodeIsAdaptedOnce()
+    {
+        // root -> a -> shared, root -> b -> shared
+        org.sonatype.aether.graph.DependencyNode shared = newNode( "shared" );
+        org.sonatype.aether.graph.DependencyNode a = newNode( "a" );
+        a.getChildren().add( shared );
+        org.sonatype.aether.graph.DependencyNode b = newNode( "b" );
+        b.getChildren().add( shared );
+        org.sonatype.aether.graph.DependencyNode root = newNode( "root" );
+        root.getChildren().add( a );
+        root.getChildren().add( b );
+
+        List<DependencyNode> children = new Maven30DependencyNodeAdapter( root ).getChildren();
+
+        assertSame( children.get( 0 ).getChildren().get( 0 ), children.get( 1 ).getChildren().get( 0 ) );
+    }
+
+    public void testGetRootIsMemoized()
+    {
+        org.sonatype.aether.collection.CollectResult collectResult =
+            new org.sonatype.aether.collection.CollectResult( new CollectRequest() );
+        CollectResult result = new Maven30CollectResult( collectResult.setRoot( newNode( "root" ) ) );
+
+        assertSame( result.getRoot(), result.getRoot() );
+        assertEquals( "root", result.getRoot().getArtifact().getArtifactId() );
+    }
+
+    public void testGetRootWithoutGraph()
+    {
+        CollectResult result = new Maven30CollectResult(
+            new org.sonatype.aether.collection.CollectResult( new CollectRequest() ) );
+
+        assertNull( result.getRoot() );
+    }
+
+    private static org.sonatype.aether.graph.DependencyNode newNode( String artifactId )
+    {
+        return new DefaultDependencyNode( new Dependency( new DefaultArtifact( "g", artifactId, "jar", "1.0" ),
+                                                          "compile" ) );
+    }
+}
@@ -0,0 +1,95 @@
+package org.apache.maven.shared.transfer.dependencies.collect.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import junit.framework.TestCase;
+
+import org.apache.maven.shared.transfer.graph.DependencyNode;
+import org.apache.maven.shared.transfer.graph.DependencyVisitor;
+import org.sonatype.aether.graph.Dependency;
+import org.sonatype.aether.util.artifact.DefaultArtifact;
+import org.sonatype.aether.util.graph.DefaultDependencyNode;
+
+public class Maven30DependencyNodeAdapterTest
+    extends TestCase
+{
+    private static final int DEPTH = 100000;
+
+    public void testAcceptDeepChain()
+    {
+        org.sonatype.aether.graph.DependencyNode root = newNode( 0 );
+        org.sonatype.aether.graph.DependencyNode last = root;
+        for ( int i = 1; i < DEPTH; i++ )
+        {
+            org.sonatype.aether.graph.DependencyNode child = newNode( i );
+            last.getChildren().add( child );
+            last = child;
+        }
+
+        CountingVisitor visitor = new CountingVisitor();
+        assertTrue( new Maven30DependencyNodeAdapter( root ).accept( visitor ) );
+
+        assertEquals( DEPTH, visitor.entered );
+        assertEquals( DEPTH, visitor.left );
+    }
+
+    public void testAcceptCycle()
+    {
+        org.sonatype.aether.graph.DependencyNode a = newNode( 0 );
+        org.sonatype.aether.graph.DependencyNode b = newNode( 1 );
+        a.getChildren().add( b );
+        b.getChildren().add( a );
+
+        CountingVisitor visitor = new CountingVisitor();
+        assertTrue( new Maven30DependencyNodeAdapter( a ).accept( visitor ) );
+
+        assertEquals( 2, visitor.entered );
+        assertEquals( 2, visitor.left );
+    }
+
+    private static org.sonatype.aether.graph.DependencyNode newNode( int index )
+    {
+        return new DefaultDependencyNode( new Dependency( new DefaultArtifact( "g", "a" + index, "jar", "1.0" ),
+                                                          "compile" ) );
+    }
+
+    private static final class CountingVisitor
+        implements DependencyVisitor
+    {
+        private int entered;
+
+        private int left;
+
+        @Override
+        public boolean visitEnter( DependencyNode node )
+        {
+            entered++;
+            return true;
+        }
+
+        @Override
+        public boolean visitLeave( DependencyNode node )
+        {
+            left++;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.apache.maven.shared.transfer.dependencies.resolve.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.repository.internal.MavenRepositorySystemSession;
+import org.apache.maven.shared.transfer.artifact.ImmutableArtifactCoordinate;
+import org.apache.maven.shared.transfer.artifact.resolve.internal.Maven30ArtifactResolver;
+import org.mockito.Matchers;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.sonatype.aether.RepositorySystem;
+import org.sonatype.aether.RepositorySystemSession;
+import org.sonatype.aether.collection.CollectRequest;
+import org.sonatype.aether.collection.CollectResult;
+import org.sonatype.aether.graph.DependencyFilter;
+import org.sonatype.aether.graph.DependencyNode;
+import org.sonatype.aether.resolution.ArtifactDescriptorRequest;
+import org.sonatype.aether.resolution.ArtifactRequest;
+import org.sonatype.aether.resolution.ArtifactResult;
+import org.sonatype.aether.util.artifact.DefaultArtifact;
+import org.sonatype.aether.util.graph.DefaultDependencyNode;
+
+public class Maven30DependencyResolverTest
+    extends TestCase
+{
+    public void testCollectedRelocationsAreReusedByArtifactResolver()
+        throws Exception
+    {
+        DefaultDependencyNode child = new DefaultDependencyNode(
+            new org.sonatype.aether.graph.Dependency( new DefaultArtifact( "GROUPID:new:1.0" ), "compile" ) );
+        child.setRelocations( Collections.<org.sonatype.aether.artifact.Artifact>singletonList(
+            new DefaultArtifact( "GROUPID:old:1.0" ) ) );
+        final DefaultDependencyNode root = new DefaultDependencyNode();
+        root.getChildren().add( child );
+
+        RepositorySystem repositorySystem = mock( RepositorySystem.class );
+        when( repositorySystem.collectDependencies( any( RepositorySystemSession.class ),
+                                                    any( CollectRequest.class ) ) )
+            .thenAnswer( new Answer<CollectResult>()
+            {
+                @Override
+                public CollectResult answer( InvocationOnMock invocation )
+                {
+                    CollectRequest request = invocation.getArgument( 1 );
+                    return new CollectResult( request ).setRoot( root );
+                }
+            } );
+        when( repositorySystem.resolveDependencies( any( RepositorySystemSession.class ),
+                                                    any( DependencyNode.class ),
+                                                    Matchers.<DependencyFilter>any() ) )
+            .thenReturn( Collections.<ArtifactResult>emptyList() );
+        when( repositorySystem.resolveArtifact( any( RepositorySystemSession.class ), any( ArtifactRequest.class ) ) )
+            .thenAnswer( new Answer<ArtifactResult>()
+            {
+                @Override
+                public ArtifactResult answer( InvocationOnMock invocation )
+                {
+                    ArtifactRequest request = invocation.getArgument( 1 );
+                    return new ArtifactResult( request ).setArtifact( request.getArtifact() );
+                }
+            } );
+
+        ArtifactHandlerManager artifactHandlerManager = mock( ArtifactHandlerManager.class );
+        when( artifactHandlerManager.getArtifactHandler( "jar" ) ).thenReturn( new DefaultArtifactHandler( "jar" ) );
+
+        DefaultProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest();
+        buildingRequest.setRepositorySession( new MavenRepositorySystemSession() );
+
+        Dependency dependency = new Dependency();
+        dependency.setGroupId( "GROUPID" );
+        dependency.setArtifactId( "new" );
+        dependency.setVersion( "1.0" );
+        new Maven30DependencyResolver( repositorySystem, artifactHandlerManager )
+            .resolveDependencies( buildingRequest, Collections.singletonList( dependency ), null, null );
+        org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult result =
+            new Maven30ArtifactResolver( repositorySystem )
+                .resolveArtifact( buildingRequest, new ImmutableArtifactCoordinate( "GROUPID", "old", "1.0", "jar",
+                                                                                    null ) );
+
+        // the descriptor of the relocated artifact is known from the collected graph
+        assertEquals( "new", result.getArtifact().getArtifactId() );
+        verify( repositorySystem, never() ).readArtifactDescriptor( any( RepositorySystemSession.class ),
+                                                                    any( ArtifactDescriptorRequest.class ) );
+    }
+}
@@ -20,14 +20,23 @@ package org.apache.maven.shared.transfer.repository.internal;
  */
 
 import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
 
 import org.apache.maven.project.DefaultProjectBuildingRequest;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.repository.internal.MavenRepositorySystemSession;
+import org.apache.maven.shared.transfer.artifact.ArtifactCoordinate;
+import org.apache.maven.shared.transfer.artifact.DefaultArtifactCoordinate;
+import org.apache.maven.shared.transfer.artifact.ImmutableArtifactCoordinate;
+import org.apache.maven.shared.transfer.repository.LocalArtifactStatus;
 import org.codehaus.plexus.PlexusTestCase;
 import org.sonatype.aether.RepositorySystem;
+import org.sonatype.aether.RepositorySystemSession;
 import org.sonatype.aether.impl.internal.EnhancedLocalRepositoryManager;
 import org.sonatype.aether.impl.internal.SimpleLocalRepositoryManager;
+import org.sonatype.aether.util.DefaultRepositorySystemSession;
 
 public class Maven30RepositoryManagerTest extends PlexusTestCase
 {
@@ -75,4 +84,111 @@ public class Maven30RepositoryManagerTest extends PlexusTestCase
         
         assertEquals( basedir.getAbsoluteFile(), newBuildingRequest.getRepositorySession().getLocalRepository().getBasedir() );
     }
+
+    public void testSetLocalRepositoryBasedirReusesLocalRepositoryManager()
+    {
+        DefaultProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest();
+        MavenRepositorySystemSession repositorySession = new MavenRepositorySystemSession();
+        repositorySession.setLocalRepositoryManager( new SimpleLocalRepositoryManager( localRepo ) );
+        buildingRequest.setRepositorySession( repositorySession );
+
+        Maven30RepositoryManager repositoryManager = new Maven30RepositoryManager( repositorySystem );
+
+        ProjectBuildingRequest first =
+            repositoryManager.setLocalRepositoryBasedir( buildingRequest, new File( "NEW/LOCAL/REPO" ) );
+        ProjectBuildingRequest second =
+            repositoryManager.setLocalRepositoryBasedir( buildingRequest, new File( "NEW/LOCAL/../LOCAL/REPO" ) );
+        ProjectBuildingRequest other =
+            repositoryManager.setLocalRepositoryBasedir( buildingRequest, new File( "OTHER/LOCAL/REPO" ) );
+
+        assertNotSame( first, second );
+        assertNotSame( first.getRepositorySession(), second.getRepositorySession() );
+        assertSame( first.getRepositorySession().getLocalRepositoryManager(),
+                    second.getRepositorySession().getLocalRepositoryManager() );
+        assertNotSame( first.getRepositorySession().getLocalRepositoryManager(),
+                       other.getRepositorySession().getLocalRepositoryManager() );
+        // the cache of the original session doesn't apply to another local repository, the others stay warm
+        assertSame( first.getRepositorySession().getCache(), second.getRepositorySession().getCache() );
+        assertNotSame( first.getRepositorySession().getCache(), other.getRepositorySession().getCache() );
+        assertNotSame( repositorySession.getCache(), first.getRepositorySession().getCache() );
+        assertSame( repositorySession, buildingRequest.getRepositorySession() );
+    }
+
+    public void testSetLocalRepositoryBasedirFollowsOriginalSession()
+    {
+        DefaultProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest();
+        MavenRepositorySystemSession repositorySession = new MavenRepositorySystemSession();
+        repositorySession.setLocalRepositoryManager( new SimpleLocalRepositoryManager( localRepo ) );
+        buildingRequest.setRepositorySession( repositorySession );
+
+        Maven30RepositoryManager repositoryManager = new Maven30RepositoryManager( repositorySystem );
+        File basedir = new File( "NEW/LOCAL/REPO" );
+
+        DefaultRepositorySystemSession first = (DefaultRepositorySystemSession) repositoryManager
+            .setLocalRepositoryBasedir( buildingRequest, basedir ).getRepositorySession();
+        // the session of a caller can be changed without affecting the others
+        first.setOffline( true );
+
+        repositorySession.setConfigProperty( "key", "value" );
+        RepositorySystemSession second =
+            repositoryManager.setLocalRepositoryBasedir( buildingRequest, basedir ).getRepositorySession();
+
+        assertFalse( second.isOffline() );
+        assertEquals( "value", second.getConfigProperties().get( "key" ) );
+    }
+
+    public void testGetPathsForLocalArtifacts()
+    {
+        DefaultProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest();
+        MavenRepositorySystemSession repositorySession = new MavenRepositorySystemSession();
+        repositorySession.setLocalRepositoryManager( new SimpleLocalRepositoryManager( localRepo ) );
+        buildingRequest.setRepositorySession( repositorySession );
+
+        Maven30RepositoryManager repositoryManager = new Maven30RepositoryManager( repositorySystem );
+
+        DefaultArtifactCoordinate jar = new DefaultArtifactCoordinate();
+        jar.setGroupId( "org.example" );
+        jar.setArtifactId( "example" );
+        jar.setVersion( "1.0" );
+        DefaultArtifactCoordinate sources = new DefaultArtifactCoordinate();
+        sources.setGroupId( "org.example" );
+        sources.setArtifactId( "example" );
+        sources.setVersion( "1.0" );
+        sources.setClassifier( "sources" );
+
+        List<String> paths = repositoryManager.getPathsForLocalArtifacts( buildingRequest,
+                                                                          Arrays.asList( jar, sources, jar ) );
+
+        assertEquals( Arrays.asList( "org/example/example/1.0/example-1.0.jar",
+                                     "org/example/example/1.0/example-1.0-sources.jar",
+                                     "org/example/example/1.0/example-1.0.jar" ), paths );
+        assertEquals( paths.get( 1 ), repositoryManager.getPathForLocalArtifact( buildingRequest, sources ) );
+    }
+
+    public void testGetLocalArtifactStatus()
+        throws Exception
+    {
+        DefaultProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest();
+        MavenRepositorySystemSession repositorySession = new MavenRepositorySystemSession();
+        repositorySession.setLocalRepositoryManager( new SimpleLocalRepositoryManager( localRepo ) );
+        buildingRequest.setRepositorySession( repositorySession );
+
+        Maven30RepositoryManager repositoryManager = new Maven30RepositoryManager( repositorySystem );
+
+        File file = new File( localRepo, "org/example/status/1.0/status-1.0.jar" );
+        file.getParentFile().mkdirs();
+        Files.write( file.toPath(), new byte[] { 1, 2 } );
+
+        ArtifactCoordinate jar = new ImmutableArtifactCoordinate( "org.example", "status", "1.0", "jar", null );
+        ArtifactCoordinate sources =
+            new ImmutableArtifactCoordinate( "org.example", "status", "1.0", "jar", "sources" );
+
+        List<LocalArtifactStatus> status =
+            repositoryManager.getLocalArtifactStatus( buildingRequest, Arrays.asList( jar, sources ) );
+
+        assertEquals( 2, status.size() );
+        assertTrue( status.get( 0 ).isPresent() );
+        assertEquals( 2L, status.get( 0 ).getSize() );
+        assertFalse( status.get( 1 ).isPresent() );
+    }
 }
@@ -29,18 +29,29 @@ import org.apache.maven.shared.transfer.artifact.deploy.ArtifactDeployerExceptio
 import org.apache.maven.shared.transfer.metadata.internal.Maven31MetadataBridge;
 import org.apache.maven.shared.transfer.support.DelegateSupport;
 import org.apache.maven.shared.transfer.support.Selector;
+import org.eclipse.aether.AbstractRepositoryListener;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositoryEvent;
+import org.eclipse.aether.RepositoryListener;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.deployment.DeployRequest;
 import org.eclipse.aether.deployment.DeploymentException;
 import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.transfer.ArtifactTransferException;
 import org.eclipse.aether.util.artifact.SubArtifact;
+import org.eclipse.aether.util.listener.ChainedRepositoryListener;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -74,34 +85,137 @@ public class Maven31ArtifactDeployer
                         Collection<org.apache.maven.artifact.Artifact> mavenArtifacts )
             throws ArtifactDeployerException
     {
-        // prepare request
-        DeployRequest request = new DeployRequest();
+        RepositorySystemSession session = buildingRequest.getRepositorySession();
 
-        RemoteRepository defaultRepository = null;
+        // deploy, one request per target repository
+        List<DeployRequest> requests =
+            new ArrayList<>( newRequests( session, remoteRepository, mavenArtifacts ).values() );
+        for ( int i = 0; i < requests.size(); i++ )
+        {
+            DeploymentFailures failures = new DeploymentFailures( mavenArtifacts );
+            RepositoryListener failureListener = new FailureListener( failures );
+            DefaultRepositorySystemSession deploySession = new DefaultRepositorySystemSession( session );
+            deploySession.setRepositoryListener(
+                ChainedRepositoryListener.newInstance( session.getRepositoryListener(), failureListener ) );
+            try
+            {
+                repositorySystem.deploy( deploySession, requests.get( i ) );
+            }
+            catch ( DeploymentException e )
+            {
+                if ( e.getCause() instanceof ArtifactTransferException )
+                {
+                    add( failures, ( (ArtifactTransferException) e.getCause() ).getArtifact() );
+                }
+                if ( failures.isEmpty() )
+                {
+                    // the failure is not related to a file, e.g. the metadata, so the whole request is deployed again
+                    addAll( failures, requests.get( i ).getArtifacts() );
+                }
+                // the requests to the other repositories have not been tried yet
+                for ( DeployRequest pending : requests.subList( i + 1, requests.size() ) )
+                {
+                    addAll( failures, pending.getArtifacts() );
+                }
+                throw new ArtifactDeployerException( e.getMessage(), e, failures.getFailedArtifacts() );
+            }
+        }
+    }
 
-        if ( remoteRepository != null )
+    private static void addAll( DeploymentFailures failures, Collection<Artifact> artifacts )
+    {
+        for ( Artifact artifact : artifacts )
         {
-            defaultRepository = getRemoteRepository( buildingRequest.getRepositorySession(), remoteRepository );
+            add( failures, artifact );
         }
+    }
+
+    private static void add( DeploymentFailures failures, Artifact artifact )
+    {
+        if ( artifact != null )
+        {
+            failures.add( artifact.getGroupId(), artifact.getArtifactId(), artifact.getClassifier(),
+                          artifact.getExtension() );
+        }
+    }
+
+    /**
+     * Deploys each artifact in a request of its own, without the metadata attached to it. The repository system fires
+     * the deployment events of each artifact and generates the metadata listing its version, as for any deployment.
+     */
+    @Override
+    public void upload( ProjectBuildingRequest buildingRequest,
+                        ArtifactRepository remoteRepository,
+                        Collection<org.apache.maven.artifact.Artifact> mavenArtifacts )
+            throws ArtifactDeployerException
+    {
+        RepositorySystemSession session = buildingRequest.getRepositorySession();
+
+        // the target repository of each distinct ArtifactRepository is looked up only once
+        Map<ArtifactRepository, RemoteRepository> aetherRepositories = new IdentityHashMap<>();
+
+        for ( org.apache.maven.artifact.Artifact mavenArtifact : mavenArtifacts )
+        {
+            ArtifactRepository artifactRepository =
+                    remoteRepository != null ? remoteRepository : mavenArtifact.getRepository();
+
+            RemoteRepository aetherRepository = aetherRepositories.get( artifactRepository );
+            if ( aetherRepository == null )
+            {
+                aetherRepository = getRemoteRepository( session, artifactRepository );
+                aetherRepositories.put( artifactRepository, aetherRepository );
+            }
+
+            DeployRequest request = new DeployRequest();
+            request.setRepository( aetherRepository );
+            request.addArtifact( RepositoryUtils.toArtifact( mavenArtifact ) );
+            try
+            {
+                repositorySystem.deploy( session, request );
+            }
+            catch ( DeploymentException e )
+            {
+                throw new ArtifactDeployerException( e.getMessage(), e );
+            }
+        }
+    }
+
+    /**
+     * Transforms the artifacts and groups them into one request per target repository.
+     */
+    private Map<RemoteRepository, DeployRequest> newRequests(
+            RepositorySystemSession session, ArtifactRepository remoteRepository,
+            Collection<org.apache.maven.artifact.Artifact> mavenArtifacts )
+    {
+        // the target repository of each distinct ArtifactRepository is looked up only once
+        Map<ArtifactRepository, RemoteRepository> aetherRepositories = new IdentityHashMap<>();
+
+        // prepare one request per target repository
+        Map<RemoteRepository, DeployRequest> requests = new LinkedHashMap<>();
 
         // transform artifacts
         for ( org.apache.maven.artifact.Artifact mavenArtifact : mavenArtifacts )
         {
-            Artifact aetherArtifact = RepositoryUtils.toArtifact( mavenArtifact );
-            request.addArtifact( aetherArtifact );
+            ArtifactRepository artifactRepository =
+                    remoteRepository != null ? remoteRepository : mavenArtifact.getRepository();
 
-            RemoteRepository aetherRepository;
-            if ( remoteRepository == null )
+            RemoteRepository aetherRepository = aetherRepositories.get( artifactRepository );
+            if ( aetherRepository == null )
             {
-                aetherRepository = getRemoteRepository( buildingRequest.getRepositorySession(),
-                        mavenArtifact.getRepository() );
+                aetherRepository = getRemoteRepository( session, artifactRepository );
+                aetherRepositories.put( artifactRepository, aetherRepository );
             }
-            else
+
+            DeployRequest request = requests.get( aetherRepository );
+            if ( request == null )
             {
-                aetherRepository = defaultRepository;
+                request = new DeployRequest();
+                request.setRepository( aetherRepository );
+                requests.put( aetherRepository, request );
             }
 
-            request.setRepository( aetherRepository );
+            Artifact aetherArtifact = RepositoryUtils.toArtifact( mavenArtifact );
+            request.addArtifact( aetherArtifact );
 
             for ( ArtifactMetadata metadata : mavenArtifact.getMetadataList() )
             {
@@ -126,15 +240,7 @@ public class Maven31ArtifactDeployer
             }
         }
 
-        // deploy
-        try
-        {
-            repositorySystem.deploy( buildingRequest.getRepositorySession(), request );
-        }
-        catch ( DeploymentException e )
-        {
-            throw new ArtifactDeployerException( e.getMessage(), e );
-        }
+        return requests;
     }
 
     private RemoteRepository getRemoteRepository( RepositorySystemSession session,
@@ -161,4 +267,27 @@ public class Maven31ArtifactDeployer
 
         return aetherRepo;
     }
+
+    /**
+     * Records the artifacts whose upload failed, as reported by the repository system for each artifact.
+     */
+    private static final class FailureListener
+        extends AbstractRepositoryListener
+    {
+        private final DeploymentFailures failures;
+
+        private FailureListener( DeploymentFailures failures )
+        {
+            this.failures = failures;
+        }
+
+        @Override
+        public void artifactDeployed( RepositoryEvent event )
+        {
+            if ( event.getException() != null )
+            {
+                add( failures, event.getArtifact() );
+            }
+        }
+    }
 }
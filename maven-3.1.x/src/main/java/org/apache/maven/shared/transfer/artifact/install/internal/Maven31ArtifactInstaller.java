@@ -25,11 +25,14 @@ import org.apache.maven.artifact.repository.metadata.ArtifactRepositoryMetadata;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.project.artifact.ProjectArtifactMetadata;
 import org.apache.maven.shared.transfer.artifact.install.ArtifactInstallerException;
+import org.apache.maven.shared.transfer.artifact.install.InstallMode;
 import org.apache.maven.shared.transfer.metadata.internal.Maven31MetadataBridge;
 import org.apache.maven.shared.transfer.repository.RepositoryManager;
+import org.apache.maven.shared.transfer.repository.internal.LocalRepositoryIndex;
 import org.apache.maven.shared.transfer.support.DelegateSupport;
 import org.apache.maven.shared.transfer.support.Selector;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.installation.InstallRequest;
 import org.eclipse.aether.installation.InstallationException;
@@ -39,7 +42,10 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import java.io.File;
+import java.io.IOException;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -71,11 +77,29 @@ public class Maven31ArtifactInstaller
         install( request, null, mavenArtifacts );
     }
 
+    @Override
+    public void install( ProjectBuildingRequest buildingRequest,
+                         Collection<org.apache.maven.artifact.Artifact> mavenArtifacts,
+                         InstallMode installMode )
+            throws ArtifactInstallerException
+    {
+        install( buildingRequest, null, mavenArtifacts, installMode );
+    }
+
     @Override
     public void install( ProjectBuildingRequest buildingRequest,
                          File localRepository,
                          Collection<org.apache.maven.artifact.Artifact> mavenArtifacts )
             throws ArtifactInstallerException
+    {
+        install( buildingRequest, localRepository, mavenArtifacts, null );
+    }
+
+    private void install( ProjectBuildingRequest buildingRequest,
+                          File localRepository,
+                          Collection<org.apache.maven.artifact.Artifact> mavenArtifacts,
+                          InstallMode installMode )
+            throws ArtifactInstallerException
     {
         ProjectBuildingRequest currentRequest = buildingRequest;
         if ( localRepository != null )
@@ -115,14 +139,80 @@ public class Maven31ArtifactInstaller
             }
         }
 
+        RepositorySystemSession session = currentRequest.getRepositorySession();
+
+        // place the artifact files and their checksums ahead of the repository system, which then skips copying them
+        try
+        {
+            LocalArtifactFiles.stage( getLocalFiles( session, request ),
+                    installMode != null ? installMode : getInstallMode( session ),
+                    LocalArtifactFiles.parseChecksums(
+                            session.getConfigProperties().get( LocalArtifactFiles.CHECKSUMS_PROPERTY ) ) );
+        }
+        catch ( IOException e )
+        {
+            throw new ArtifactInstallerException( e.getMessage(), e );
+        }
+
         // install
         try
         {
-            repositorySystem.install( currentRequest.getRepositorySession(), request );
+            repositorySystem.install( session, request );
         }
         catch ( InstallationException e )
         {
             throw new ArtifactInstallerException( e.getMessage(), e );
         }
+
+        Object indexEnabled = session.getConfigProperties().get( LocalRepositoryIndex.CONFIG_PROPERTY );
+        if ( LocalRepositoryIndex.isEnabled( indexEnabled ) )
+        {
+            updateIndex( session, request );
+        }
+    }
+
+    /**
+     * Records the installed files in the local repository index, a failure only leaves them to be looked up on the
+     * file system.
+     */
+    private void updateIndex( RepositorySystemSession session, InstallRequest request )
+    {
+        File basedir = session.getLocalRepository().getBasedir();
+        LocalRepositoryIndex index = LocalRepositoryIndex.forBasedir( basedir );
+        try
+        {
+            for ( Artifact artifact : request.getArtifacts() )
+            {
+                String path = session.getLocalRepositoryManager().getPathForLocalArtifact( artifact );
+                index.record( path, new File( basedir, path ) );
+            }
+        }
+        catch ( IOException e )
+        {
+            logger.warn( "Failed to update the local repository index: " + e.getMessage(), e );
+        }
+    }
+
+    private static InstallMode getInstallMode( RepositorySystemSession session )
+    {
+        return InstallMode.parse( session.getConfigProperties().get( InstallMode.CONFIG_PROPERTY ) );
+    }
+
+    /**
+     * The artifact files of the request by local repository file, an artifact file may be installed more than once.
+     */
+    private static Map<File, File> getLocalFiles( RepositorySystemSession session, InstallRequest request )
+    {
+        File basedir = session.getLocalRepository().getBasedir();
+        Map<File, File> files = new LinkedHashMap<>();
+        for ( Artifact artifact : request.getArtifacts() )
+        {
+            if ( artifact.getFile() != null )
+            {
+                String path = session.getLocalRepositoryManager().getPathForLocalArtifact( artifact );
+                files.put( new File( basedir, path ), artifact.getFile() );
+            }
+        }
+        return files;
     }
 }
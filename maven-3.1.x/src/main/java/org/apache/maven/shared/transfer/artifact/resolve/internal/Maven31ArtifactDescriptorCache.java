@@ -0,0 +1,137 @@
+package org.apache.maven.shared.transfer.artifact.resolve.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.maven.shared.transfer.support.ArtifactDescriptorCache;
+import org.apache.maven.shared.transfer.support.ArtifactDescriptorCache.Gav;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.repository.RemoteRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Connects the {@link ArtifactDescriptorCache} to the repository session and Aether artifacts.
+ *
+ * @since 2.0.0
+ */
+public final class Maven31ArtifactDescriptorCache
+{
+    private Maven31ArtifactDescriptorCache()
+    {
+        // no instances
+    }
+
+    /**
+     * Returns the cache stored in the session data, creating it on first access.
+     */
+    public static ArtifactDescriptorCache get( RepositorySystemSession session )
+    {
+        SessionData data = session.getData();
+        Object cache = data.get( ArtifactDescriptorCache.SESSION_DATA_KEY );
+        while ( !( cache instanceof ArtifactDescriptorCache ) )
+        {
+            ArtifactDescriptorCache created = new ArtifactDescriptorCache( ArtifactDescriptorCache.parseMaxSize(
+                    session.getConfigProperties().get( ArtifactDescriptorCache.MAX_SIZE_PROPERTY ) ) );
+            if ( data.set( ArtifactDescriptorCache.SESSION_DATA_KEY, cache, created ) )
+            {
+                cache = created;
+            }
+            else
+            {
+                cache = data.get( ArtifactDescriptorCache.SESSION_DATA_KEY );
+            }
+        }
+        return (ArtifactDescriptorCache) cache;
+    }
+
+    /**
+     * Returns the artifact the given one is relocated to according to the cache, or {@code null} if not cached.
+     */
+    public static Artifact getRelocated( ArtifactDescriptorCache cache, Artifact artifact,
+                                         List<RemoteRepository> repositories )
+    {
+        Gav relocated = cache.get( artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion(),
+                repositories );
+        if ( relocated == null )
+        {
+            return null;
+        }
+        if ( relocated.matches( artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion() ) )
+        {
+            return artifact;
+        }
+        return new DefaultArtifact( relocated.getGroupId(), relocated.getArtifactId(), artifact.getClassifier(),
+                artifact.getExtension(), relocated.getVersion(), artifact.getProperties(), artifact.getFile() );
+    }
+
+    /**
+     * Records the outcome of reading the descriptor of {@code artifact}.
+     */
+    public static void put( ArtifactDescriptorCache cache, Artifact artifact, Artifact relocated,
+                            List<RemoteRepository> repositories )
+    {
+        cache.put( artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion(), repositories,
+                new Gav( relocated.getGroupId(), relocated.getArtifactId(), relocated.getVersion() ) );
+    }
+
+    /**
+     * Records the descriptor outcomes which are known from a collected dependency graph: every node maps to itself,
+     * and every relocation of a node maps to that node.
+     */
+    public static void putAll( ArtifactDescriptorCache cache, DependencyNode root,
+                               List<RemoteRepository> repositories )
+    {
+        if ( root == null || cache.getMaxSize() == 0 )
+        {
+            return;
+        }
+
+        Set<DependencyNode> visited = Collections.newSetFromMap( new IdentityHashMap<DependencyNode, Boolean>() );
+        List<DependencyNode> stack = new ArrayList<>();
+        stack.add( root );
+        while ( !stack.isEmpty() )
+        {
+            DependencyNode node = stack.remove( stack.size() - 1 );
+            if ( !visited.add( node ) )
+            {
+                continue;
+            }
+
+            Artifact artifact = node.getArtifact();
+            if ( artifact != null )
+            {
+                put( cache, artifact, artifact, repositories );
+                for ( Artifact relocation : node.getRelocations() )
+                {
+                    put( cache, relocation, artifact, repositories );
+                }
+            }
+            stack.addAll( node.getChildren() );
+        }
+    }
+}
@@ -19,7 +19,10 @@ package org.apache.maven.shared.transfer.artifact.resolve.internal;
  * under the License.
  */
 
+import java.util.List;
+
 import org.apache.maven.RepositoryUtils;
+import org.apache.maven.shared.transfer.artifact.resolve.ResolutionMetrics;
 import org.eclipse.aether.resolution.ArtifactResult;
 
 /**
@@ -33,12 +36,16 @@ class Maven31ArtifactResult
 {
     private final ArtifactResult artifactResult;
 
+    private final ResolutionMetrics metrics;
+
     /**
      * @param artifactResult {@link ArtifactResult}
+     * @param metrics {@link ResolutionMetrics}
      */
-    Maven31ArtifactResult( ArtifactResult artifactResult )
+    Maven31ArtifactResult( ArtifactResult artifactResult, ResolutionMetrics metrics )
     {
         this.artifactResult = artifactResult;
+        this.metrics = metrics;
     }
 
     @Override
@@ -46,4 +53,22 @@ class Maven31ArtifactResult
     {
         return RepositoryUtils.toArtifact( artifactResult.getArtifact() );
     }
+
+    @Override
+    public List<Exception> getExceptions()
+    {
+        return artifactResult.getExceptions();
+    }
+
+    @Override
+    public boolean isResolved()
+    {
+        return artifactResult.isResolved();
+    }
+
+    @Override
+    public ResolutionMetrics getMetrics()
+    {
+        return metrics;
+    }
 }
@@ -0,0 +1,170 @@
+package org.apache.maven.shared.transfer.artifact.resolve.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import org.apache.maven.shared.transfer.artifact.resolve.ResolutionMetrics;
+import org.eclipse.aether.AbstractRepositoryListener;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositoryEvent;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.metadata.Metadata;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.eclipse.aether.transfer.AbstractTransferListener;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.util.listener.ChainedRepositoryListener;
+import org.eclipse.aether.util.listener.ChainedTransferListener;
+
+/**
+ * Reports the repository events of a resolution to a {@link ResolutionRecorder}, chained with the listeners of the
+ * original session.
+ */
+public final class Maven31ResolutionListener
+    extends AbstractRepositoryListener
+{
+    private final ResolutionRecorder recorder;
+
+    private Maven31ResolutionListener( ResolutionRecorder recorder )
+    {
+        this.recorder = recorder;
+    }
+
+    /**
+     * @param session the repository session
+     * @return a new recorder, or {@code null} if the metrics are not enabled in the session
+     */
+    public static ResolutionRecorder newRecorder( RepositorySystemSession session )
+    {
+        return ResolutionRecorder.newInstance( session.getConfigProperties().get( ResolutionMetrics.CONFIG_PROPERTY ) );
+    }
+
+    /**
+     * @param session the repository session
+     * @param recorder the recorder, may be {@code null}
+     * @return a copy of the session reporting to the recorder, or the session itself without recorder
+     */
+    public static RepositorySystemSession record( RepositorySystemSession session, ResolutionRecorder recorder )
+    {
+        if ( recorder == null )
+        {
+            return session;
+        }
+        DefaultRepositorySystemSession recording = new DefaultRepositorySystemSession( session );
+        recording.setRepositoryListener( ChainedRepositoryListener.newInstance( session.getRepositoryListener(),
+                                                                                new Maven31ResolutionListener(
+                                                                                    recorder ) ) );
+        recording.setTransferListener( ChainedTransferListener.newInstance( session.getTransferListener(),
+                                                                            new TransferRecorder( recorder ) ) );
+        return recording;
+    }
+
+    /**
+     * @param recorder the recorder of the resolution, may be {@code null}
+     * @param result the result of an artifact
+     * @return the metrics of the artifact
+     */
+    public static ResolutionMetrics getMetrics( ResolutionRecorder recorder, ArtifactResult result )
+    {
+        String repositoryId = result.getRepository() != null ? result.getRepository().getId() : null;
+        Artifact artifact = result.getArtifact() != null ? result.getArtifact() : result.getRequest().getArtifact();
+        if ( recorder == null || artifact == null )
+        {
+            return new ResolutionMetrics( repositoryId, false, 0L, 0L, 0L, 0L, 0L );
+        }
+        return recorder.getMetrics( artifact.getGroupId(), artifact.getArtifactId(), artifact.getBaseVersion(),
+                                    artifact.getVersion(), artifact.getClassifier(), artifact.getExtension(),
+                                    repositoryId );
+    }
+
+    @Override
+    public void artifactResolving( RepositoryEvent event )
+    {
+        Artifact artifact = event.getArtifact();
+        if ( artifact != null )
+        {
+            recorder.artifactResolving( artifact.getGroupId(), artifact.getArtifactId(), artifact.getBaseVersion(),
+                                        artifact.getClassifier(), artifact.getExtension() );
+        }
+    }
+
+    @Override
+    public void artifactResolved( RepositoryEvent event )
+    {
+        Artifact artifact = event.getArtifact();
+        if ( artifact != null )
+        {
+            recorder.artifactResolved( artifact.getGroupId(), artifact.getArtifactId(), artifact.getBaseVersion(),
+                                       artifact.getClassifier(), artifact.getExtension() );
+        }
+    }
+
+    @Override
+    public void metadataResolving( RepositoryEvent event )
+    {
+        Metadata metadata = event.getMetadata();
+        if ( metadata != null )
+        {
+            recorder.metadataResolving( metadata.getGroupId(), metadata.getArtifactId() );
+        }
+    }
+
+    @Override
+    public void metadataResolved( RepositoryEvent event )
+    {
+        Metadata metadata = event.getMetadata();
+        if ( metadata != null )
+        {
+            recorder.metadataResolved( metadata.getGroupId(), metadata.getArtifactId() );
+        }
+    }
+
+    /**
+     * Reports the transfer events of a resolution to a {@link ResolutionRecorder}.
+     */
+    private static final class TransferRecorder
+        extends AbstractTransferListener
+    {
+        private final ResolutionRecorder recorder;
+
+        TransferRecorder( ResolutionRecorder recorder )
+        {
+            this.recorder = recorder;
+        }
+
+        @Override
+        public void transferInitiated( TransferEvent event )
+        {
+            recorder.transferInitiated( event.getResource().getResourceName() );
+        }
+
+        @Override
+        public void transferSucceeded( TransferEvent event )
+        {
+            recorder.transferSucceeded( event.getResource().getResourceName(), event.getTransferredBytes() );
+        }
+
+        @Override
+        public void transferFailed( TransferEvent event )
+        {
+            recorder.transferFailed( event.getResource().getResourceName() );
+        }
+    }
+}
@@ -33,6 +33,8 @@ import org.apache.maven.shared.transfer.graph.DependencyNode;
 class Maven31CollectResult implements CollectResult
 {
     private final org.eclipse.aether.collection.CollectResult collectResult;
+
+    private volatile DependencyNode root;
     
     /**
      * @param collectResult {@link CollectResult}
@@ -43,14 +45,27 @@ class Maven31CollectResult implements CollectResult
     }
 
     /**
-     * Gets the root node of the dependency graph.
+     * Gets the root node of the dependency graph. The adapter is created once and shared by later calls.
      *
      * @return The root node of the dependency graph or {@code null} if none.
      */
     @Override
     public DependencyNode getRoot()
     {
-        return new Maven31DependencyNodeAdapter( collectResult.getRoot() );
+        DependencyNode result = root;
+        if ( result == null && collectResult.getRoot() != null )
+        {
+            synchronized ( this )
+            {
+                result = root;
+                if ( result == null )
+                {
+                    result = new Maven31DependencyNodeAdapter( collectResult.getRoot() );
+                    root = result;
+                }
+            }
+        }
+        return result;
     }
 
     @Override
@@ -24,24 +24,31 @@ import org.apache.maven.artifact.handler.ArtifactHandler;
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
 import org.apache.maven.model.Model;
 import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.shared.transfer.artifact.resolve.internal.Maven31ArtifactDescriptorCache;
 import org.apache.maven.shared.transfer.collection.CollectResult;
 import org.apache.maven.shared.transfer.collection.DependencyCollectionException;
 import org.apache.maven.shared.transfer.dependencies.DependableCoordinate;
 import org.apache.maven.shared.transfer.support.DelegateSupport;
 import org.apache.maven.shared.transfer.support.Selector;
+import org.eclipse.aether.DefaultRepositoryCache;
+import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.ArtifactTypeRegistry;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.collection.CollectRequest;
 import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.repository.RemoteRepository;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 
 /**
  *
@@ -144,9 +151,15 @@ public class Maven31DependencyCollector
 
         try
         {
-            return new Maven31CollectResult(
-                    repositorySystem.collectDependencies( buildingRequest.getRepositorySession(), request )
-            );
+            RepositorySystemSession session = buildingRequest.getRepositorySession();
+
+            org.eclipse.aether.collection.CollectResult collectResult =
+                    repositorySystem.collectDependencies( session, request );
+
+            Maven31ArtifactDescriptorCache.putAll( Maven31ArtifactDescriptorCache.get( session ),
+                    collectResult.getRoot(), request.getRepositories() );
+
+            return new Maven31CollectResult( collectResult );
         }
         catch ( org.eclipse.aether.collection.DependencyCollectionException e )
         {
@@ -154,6 +167,106 @@ public class Maven31DependencyCollector
         }
     }
 
+    @Override
+    public List<CollectResult> collectDependencies(
+            ProjectBuildingRequest buildingRequest,
+            Collection<org.apache.maven.shared.transfer.collection.CollectRequest> requests )
+            throws DependencyCollectionException
+    {
+        final RepositorySystemSession session = shareDescriptors( buildingRequest.getRepositorySession() );
+        ArtifactTypeRegistry typeRegistry = RepositoryUtils.newArtifactTypeRegistry( artifactHandlerManager );
+        List<RemoteRepository> repositories = RepositoryUtils.toRepos( buildingRequest.getRemoteRepositories() );
+
+        List<Callable<CollectResult>> tasks = new ArrayList<>( requests.size() );
+        for ( org.apache.maven.shared.transfer.collection.CollectRequest request : requests )
+        {
+            final CollectRequest aetherRequest = toCollectRequest( request, typeRegistry, repositories );
+            tasks.add( new Callable<CollectResult>()
+            {
+                @Override
+                public CollectResult call()
+                {
+                    return collect( session, aetherRequest );
+                }
+            } );
+        }
+
+        Object threads = session.getConfigProperties().get( ConcurrentCollector.THREADS_PROPERTY );
+        return ConcurrentCollector.collectAll( tasks, ConcurrentCollector.parseThreads( threads ) );
+    }
+
+    /**
+     * Collects one of several roots, a failure is reported in the result with the partial graph.
+     */
+    private CollectResult collect( RepositorySystemSession session, CollectRequest request )
+    {
+        org.eclipse.aether.collection.CollectResult collectResult;
+        try
+        {
+            collectResult = repositorySystem.collectDependencies( session, request );
+        }
+        catch ( org.eclipse.aether.collection.DependencyCollectionException e )
+        {
+            collectResult = e.getResult();
+            if ( collectResult == null )
+            {
+                collectResult = new org.eclipse.aether.collection.CollectResult( request );
+            }
+            if ( collectResult.getExceptions().isEmpty() )
+            {
+                collectResult.addException( e );
+            }
+        }
+
+        if ( collectResult.getRoot() != null )
+        {
+            Maven31ArtifactDescriptorCache.putAll( Maven31ArtifactDescriptorCache.get( session ),
+                    collectResult.getRoot(), request.getRepositories() );
+        }
+        return new Maven31CollectResult( collectResult );
+    }
+
+    /**
+     * The repository system shares the descriptors read by concurrent collections through the session cache, so
+     * make sure there is one.
+     */
+    private static RepositorySystemSession shareDescriptors( RepositorySystemSession session )
+    {
+        if ( session.getCache() != null )
+        {
+            return session;
+        }
+        DefaultRepositorySystemSession cachingSession = new DefaultRepositorySystemSession( session );
+        cachingSession.setCache( new DefaultRepositoryCache() );
+        return cachingSession;
+    }
+
+    private static CollectRequest toCollectRequest( org.apache.maven.shared.transfer.collection.CollectRequest request,
+                                                    ArtifactTypeRegistry typeRegistry,
+                                                    List<RemoteRepository> repositories )
+    {
+        CollectRequest aetherRequest = new CollectRequest();
+        if ( request.getRootArtifact() != null )
+        {
+            aetherRequest.setRootArtifact( RepositoryUtils.toArtifact( request.getRootArtifact() ) );
+        }
+        if ( request.getRoot() != null )
+        {
+            aetherRequest.setRoot( toDependency( request.getRoot(), typeRegistry ) );
+        }
+        for ( org.apache.maven.model.Dependency dependency : request.getDependencies() )
+        {
+            aetherRequest.addDependency( toDependency( dependency, typeRegistry ) );
+        }
+        for ( org.apache.maven.model.Dependency dependency : request.getManagedDependencies() )
+        {
+            aetherRequest.addManagedDependency( toDependency( dependency, typeRegistry ) );
+        }
+        aetherRequest.setRepositories( request.getRepositories().isEmpty() ? repositories
+                : RepositoryUtils.toRepos( request.getRepositories() ) );
+        return aetherRequest;
+    }
+
     private static Dependency toDependency( org.apache.maven.model.Dependency root,
                                             ArtifactTypeRegistry typeRegistry )
     {
@@ -20,13 +20,18 @@ package org.apache.maven.shared.transfer.collection.internal;
  */
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.maven.RepositoryUtils;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.repository.ArtifactRepository;
 import org.apache.maven.shared.transfer.graph.DependencyNode;
 import org.apache.maven.shared.transfer.graph.DependencyVisitor;
+import org.apache.maven.shared.transfer.graph.IterativeDependencyTraversal;
+import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.repository.RemoteRepository;
 
 /**
@@ -38,32 +43,90 @@ import org.eclipse.aether.repository.RemoteRepository;
 class Maven31DependencyNodeAdapter implements DependencyNode
 {
 
-    private org.eclipse.aether.graph.DependencyNode dependencyNode;
+    private final org.eclipse.aether.graph.DependencyNode dependencyNode;
+
+    /**
+     * The adapters of all nodes of the graph, so each Aether node is wrapped only once.
+     */
+    private final Map<org.eclipse.aether.graph.DependencyNode, Maven31DependencyNodeAdapter> adapters;
+
+    private volatile Artifact artifact;
+
+    private volatile List<DependencyNode> children;
 
     /**
      * @param dependencyNode {@link org.eclipse.aether.graph.DependencyNode}
      */
     Maven31DependencyNodeAdapter( org.eclipse.aether.graph.DependencyNode dependencyNode )
+    {
+        this( dependencyNode,
+                new IdentityHashMap<org.eclipse.aether.graph.DependencyNode, Maven31DependencyNodeAdapter>() );
+        adapters.put( dependencyNode, this );
+    }
+
+    private Maven31DependencyNodeAdapter( org.eclipse.aether.graph.DependencyNode dependencyNode,
+            Map<org.eclipse.aether.graph.DependencyNode, Maven31DependencyNodeAdapter> adapters )
     {
         this.dependencyNode = dependencyNode;
+        this.adapters = adapters;
     }
 
     @Override
     public Artifact getArtifact()
     {
-        return getArtifact( dependencyNode.getArtifact() );
+        Artifact result = artifact;
+        if ( result == null )
+        {
+            synchronized ( this )
+            {
+                result = artifact;
+                if ( result == null )
+                {
+                    result = getArtifact( dependencyNode.getArtifact() );
+                    artifact = result;
+                }
+            }
+        }
+        return result;
     }
 
     @Override
     public List<DependencyNode> getChildren()
     {
-        List<org.eclipse.aether.graph.DependencyNode> aetherChildren = dependencyNode.getChildren();
-        List<DependencyNode> children = new ArrayList<>( aetherChildren.size() );
-        for ( org.eclipse.aether.graph.DependencyNode aetherChild : aetherChildren )
+        List<DependencyNode> result = children;
+        if ( result == null )
+        {
+            synchronized ( this )
+            {
+                result = children;
+                if ( result == null )
+                {
+                    List<org.eclipse.aether.graph.DependencyNode> aetherChildren = dependencyNode.getChildren();
+                    List<DependencyNode> adaptedChildren = new ArrayList<>( aetherChildren.size() );
+                    for ( org.eclipse.aether.graph.DependencyNode aetherChild : aetherChildren )
+                    {
+                        adaptedChildren.add( adapt( aetherChild ) );
+                    }
+                    result = Collections.unmodifiableList( adaptedChildren );
+                    children = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private Maven31DependencyNodeAdapter adapt( org.eclipse.aether.graph.DependencyNode aetherNode )
+    {
+        synchronized ( adapters )
         {
-            children.add( new Maven31DependencyNodeAdapter( aetherChild ) );
+            Maven31DependencyNodeAdapter adapter = adapters.get( aetherNode );
+            if ( adapter == null )
+            {
+                adapter = new Maven31DependencyNodeAdapter( aetherNode, adapters );
+                adapters.put( aetherNode, adapter );
+            }
+            return adapter;
         }
-        return children;
     }
 
     @Override
@@ -83,31 +146,23 @@ class Maven31DependencyNodeAdapter implements DependencyNode
     @Override
     public String getScope()
     {
-        return dependencyNode.getDependency().getScope();
+        // the root of a graph collected from direct dependencies only has no dependency
+        Dependency dependency = dependencyNode.getDependency();
+        return dependency != null ? dependency.getScope() : null;
     }
 
     @Override
     public Boolean getOptional()
     {
-        return dependencyNode.getDependency().getOptional();
+        Dependency dependency = dependencyNode.getDependency();
+        return dependency != null ? dependency.getOptional() : null;
     }
 
     @Override
     public boolean accept( DependencyVisitor visitor )
     {
-        if ( visitor.visitEnter( this ) )
-        {
-            for ( org.eclipse.aether.graph.DependencyNode aetherNode : dependencyNode.getChildren() )
-            {
-                DependencyNode child = new Maven31DependencyNodeAdapter( aetherNode );
-                if ( !child.accept( visitor ) )
-                {
-                    break;
-                }
-            }
-        }
-
-        return visitor.visitLeave( this );
+        // iterative and cycle-safe, a deep graph does not overflow the stack
+        return IterativeDependencyTraversal.accept( this, visitor, IterativeDependencyTraversal.Mode.ALL_PATHS );
     }
 
     @Override
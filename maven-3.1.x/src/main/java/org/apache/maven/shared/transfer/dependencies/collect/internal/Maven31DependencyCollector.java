@@ -24,16 +24,19 @@ import org.apache.maven.artifact.handler.ArtifactHandler;
 import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
 import org.apache.maven.model.Model;
 import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.shared.transfer.artifact.resolve.internal.Maven31ArtifactDescriptorCache;
 import org.apache.maven.shared.transfer.dependencies.DependableCoordinate;
 import org.apache.maven.shared.transfer.dependencies.collect.CollectorResult;
 import org.apache.maven.shared.transfer.dependencies.collect.DependencyCollectorException;
 import org.apache.maven.shared.transfer.support.DelegateSupport;
 import org.apache.maven.shared.transfer.support.Selector;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.ArtifactTypeRegistry;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.collection.CollectResult;
 import org.eclipse.aether.collection.DependencyCollectionException;
 import org.eclipse.aether.graph.Dependency;
 
@@ -151,9 +154,14 @@ public class Maven31DependencyCollector
 
         try
         {
-            return new Maven31CollectorResult(
-                    repositorySystem.collectDependencies( buildingRequest.getRepositorySession(), request )
-            );
+            RepositorySystemSession session = buildingRequest.getRepositorySession();
+
+            CollectResult collectResult = repositorySystem.collectDependencies( session, request );
+
+            Maven31ArtifactDescriptorCache.putAll( Maven31ArtifactDescriptorCache.get( session ),
+                    collectResult.getRoot(), request.getRepositories() );
+
+            return new Maven31CollectorResult( collectResult );
         }
         catch ( DependencyCollectionException e )
         {
@@ -27,11 +27,16 @@ import org.apache.maven.model.Model;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.shared.artifact.filter.resolve.TransformableFilter;
 import org.apache.maven.shared.artifact.filter.resolve.transform.EclipseAetherFilterTransformer;
+import org.apache.maven.shared.transfer.artifact.resolve.internal.Maven31ArtifactDescriptorCache;
+import org.apache.maven.shared.transfer.artifact.resolve.internal.Maven31ResolutionListener;
+import org.apache.maven.shared.transfer.artifact.resolve.internal.ResolutionRecorder;
 import org.apache.maven.shared.transfer.dependencies.DependableCoordinate;
+import org.apache.maven.shared.transfer.dependencies.resolve.ArtifactResults;
 import org.apache.maven.shared.transfer.dependencies.resolve.DependencyResolverException;
 import org.apache.maven.shared.transfer.support.DelegateSupport;
 import org.apache.maven.shared.transfer.support.Selector;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.ArtifactType;
 import org.eclipse.aether.artifact.ArtifactTypeRegistry;
@@ -51,7 +56,6 @@ import javax.inject.Singleton;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
@@ -208,24 +212,24 @@ public class Maven31DependencyResolver
 
             DependencyRequest depRequest = new DependencyRequest( request, depFilter );
 
-            final DependencyResult dependencyResults = repositorySystem.resolveDependencies(
-                    buildingRequest.getRepositorySession(), depRequest );
+            RepositorySystemSession original = buildingRequest.getRepositorySession();
+            final ResolutionRecorder recorder = Maven31ResolutionListener.newRecorder( original );
+            RepositorySystemSession session = Maven31ResolutionListener.record( original, recorder );
+
+            final DependencyResult dependencyResults = repositorySystem.resolveDependencies( session, depRequest );
+
+            Maven31ArtifactDescriptorCache.putAll( Maven31ArtifactDescriptorCache.get( session ),
+                    dependencyResults.getRoot(), request.getRepositories() );
 
             // Keep it lazy! Often artifactsResults aren't used, so transforming up front is too expensive
-            return new Iterable<org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult>()
+            return new ArtifactResults<ArtifactResult>( dependencyResults.getArtifactResults(),
+                    dependencyResults.getCollectExceptions() )
             {
                 @Override
-                public Iterator<org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult> iterator()
+                protected org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult wrap( ArtifactResult result )
                 {
-                    Collection<org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult> artResults =
-                            new ArrayList<>( dependencyResults.getArtifactResults().size() );
-
-                    for ( ArtifactResult artifactResult : dependencyResults.getArtifactResults() )
-                    {
-                        artResults.add( new Maven31ArtifactResult( artifactResult ) );
-                    }
-
-                    return artResults.iterator();
+                    return new Maven31ArtifactResult( result,
+                            Maven31ResolutionListener.getMetrics( recorder, result ) );
                 }
             };
         }
@@ -21,6 +21,7 @@ package org.apache.maven.shared.transfer.dependencies.resolve.internal;
 
 import java.util.List;
 
+import org.apache.maven.shared.transfer.artifact.resolve.ResolutionMetrics;
 import org.apache.maven.shared.transfer.dependencies.resolve.DependencyResolverException;
 import org.apache.maven.shared.transfer.dependencies.resolve.DependencyResult;
 import org.eclipse.aether.resolution.DependencyResolutionException;
@@ -50,6 +51,12 @@ class Maven31DependencyResolverException extends DependencyResolverException
             {
                 return e.getResult().getCollectExceptions();
             }
+
+            @Override
+            public ResolutionMetrics getMetrics()
+            {
+                return ResolutionMetrics.EMPTY;
+            }
         };
     }
 }
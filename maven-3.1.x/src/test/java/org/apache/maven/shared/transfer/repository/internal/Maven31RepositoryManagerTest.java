@@ -0,0 +1,118 @@
+package org.apache.maven.shared.transfer.repository.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+
+import junit.framework.TestCase;
+
+import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class Maven31RepositoryManagerTest
+    extends TestCase
+{
+    private DefaultRepositorySystemSession repositorySession;
+
+    private DefaultProjectBuildingRequest buildingRequest;
+
+    private Maven31RepositoryManager repositoryManager;
+
+    @Override
+    protected void setUp()
+    {
+        RepositorySystem repositorySystem = mock( RepositorySystem.class );
+        when( repositorySystem.newLocalRepositoryManager( any( RepositorySystemSession.class ),
+                                                          any( LocalRepository.class ) ) )
+            .thenAnswer( new Answer<LocalRepositoryManager>()
+            {
+                @Override
+                public LocalRepositoryManager answer( InvocationOnMock invocation )
+                {
+                    return newLocalRepositoryManager( (LocalRepository) invocation.getArgument( 1 ) );
+                }
+            } );
+
+        repositorySession = new DefaultRepositorySystemSession();
+        repositorySession.setLocalRepositoryManager(
+            newLocalRepositoryManager( new LocalRepository( new File( "target/tests/local-repo" ) ) ) );
+        buildingRequest = new DefaultProjectBuildingRequest();
+        buildingRequest.setRepositorySession( repositorySession );
+        repositoryManager = new Maven31RepositoryManager( repositorySystem );
+    }
+
+    public void testSetLocalRepositoryBasedirReusesLocalRepositoryManager()
+    {
+        ProjectBuildingRequest first =
+            repositoryManager.setLocalRepositoryBasedir( buildingRequest, new File( "NEW/LOCAL/REPO" ) );
+        ProjectBuildingRequest second =
+            repositoryManager.setLocalRepositoryBasedir( buildingRequest, new File( "NEW/LOCAL/../LOCAL/REPO" ) );
+        ProjectBuildingRequest other =
+            repositoryManager.setLocalRepositoryBasedir( buildingRequest, new File( "OTHER/LOCAL/REPO" ) );
+
+        assertNotSame( first.getRepositorySession(), second.getRepositorySession() );
+        assertSame( first.getRepositorySession().getLocalRepositoryManager(),
+                    second.getRepositorySession().getLocalRepositoryManager() );
+        assertNotSame( first.getRepositorySession().getLocalRepositoryManager(),
+                       other.getRepositorySession().getLocalRepositoryManager() );
+        // the cache of the original session doesn't apply to another local repository, the others stay warm
+        assertSame( first.getRepositorySession().getCache(), second.getRepositorySession().getCache() );
+        assertNotSame( first.getRepositorySession().getCache(), other.getRepositorySession().getCache() );
+        assertNotSame( repositorySession.getCache(), first.getRepositorySession().getCache() );
+        assertEquals( new File( "NEW/LOCAL/REPO" ), repositoryManager.getLocalRepositoryBasedir( first ) );
+        assertSame( repositorySession, buildingRequest.getRepositorySession() );
+    }
+
+    public void testSetLocalRepositoryBasedirFollowsOriginalSession()
+    {
+        File basedir = new File( "NEW/LOCAL/REPO" );
+
+        DefaultRepositorySystemSession first = (DefaultRepositorySystemSession) repositoryManager
+            .setLocalRepositoryBasedir( buildingRequest, basedir ).getRepositorySession();
+        // the session of a caller can be changed without affecting the others
+        first.setOffline( true );
+
+        repositorySession.setConfigProperty( "key", "value" );
+        RepositorySystemSession second =
+            repositoryManager.setLocalRepositoryBasedir( buildingRequest, basedir ).getRepositorySession();
+
+        assertFalse( second.isOffline() );
+        assertEquals( "value", second.getConfigProperties().get( "key" ) );
+    }
+
+    private static LocalRepositoryManager newLocalRepositoryManager( LocalRepository repository )
+    {
+        LocalRepositoryManager localRepositoryManager = mock( LocalRepositoryManager.class );
+        when( localRepositoryManager.getRepository() ).thenReturn( repository );
+        return localRepositoryManager;
+    }
+}
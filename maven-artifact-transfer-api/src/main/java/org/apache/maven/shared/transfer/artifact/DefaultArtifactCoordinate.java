@@ -19,6 +19,8 @@ package org.apache.maven.shared.transfer.artifact;
  * under the License.
  */
 
+import org.apache.maven.shared.transfer.support.CoordinateInterner;
+
 /**
  * Common usage of an ArtifactCoordinate for a Mojo
  * 
@@ -163,6 +165,25 @@ public class DefaultArtifactCoordinate
         this.classifier = classifier;
     }
 
+    /**
+     * @return an immutable copy of this coordinate.
+     * @since 2.0.0
+     */
+    public ImmutableArtifactCoordinate build()
+    {
+        return new ImmutableArtifactCoordinate( groupId, artifactId, version, extension, classifier );
+    }
+
+    /**
+     * @param interner The interner to share the coordinate and its strings with.
+     * @return the shared immutable coordinate equal to this coordinate.
+     * @since 2.0.0
+     */
+    public ImmutableArtifactCoordinate build( CoordinateInterner interner )
+    {
+        return interner.intern( build() );
+    }
+
     /**
      * @see org.apache.maven.artifact.DefaultArtifact#toString()
      */
@@ -0,0 +1,153 @@
+package org.apache.maven.shared.transfer.artifact;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.Objects;
+
+/**
+ * An {@link ArtifactCoordinate} with value semantics, which can be used as key in maps and sets. The hash code is
+ * computed once. Instances are created with {@link DefaultArtifactCoordinate#build()}, or with
+ * {@link org.apache.maven.shared.transfer.support.CoordinateInterner#intern(ImmutableArtifactCoordinate)} to share
+ * equal instances and their strings.
+ *
+ * @since 2.0.0
+ */
+@Deprecated
+public final class ImmutableArtifactCoordinate
+    implements ArtifactCoordinate
+{
+    private final String groupId;
+
+    private final String artifactId;
+
+    private final String version;
+
+    private final String extension;
+
+    private final String classifier;
+
+    private final int hashCode;
+
+    /**
+     * @param groupId The groupId to be used.
+     * @param artifactId The artifactId to be used.
+     * @param version The version to be used.
+     * @param extension The extension to be used, <code>jar</code> if <code>null</code>.
+     * @param classifier The classifier to be used, may be <code>null</code>.
+     */
+    public ImmutableArtifactCoordinate( String groupId, String artifactId, String version, String extension,
+                                        String classifier )
+    {
+        this.groupId = groupId;
+        this.artifactId = artifactId;
+        this.version = version;
+        this.extension = extension != null ? extension : "jar";
+        this.classifier = classifier;
+        this.hashCode = Objects.hash( groupId, artifactId, version, this.extension, classifier );
+    }
+
+    /**
+     * @param coordinate The coordinate to copy.
+     * @return the coordinate itself if it is already immutable, otherwise an immutable copy.
+     */
+    public static ImmutableArtifactCoordinate of( ArtifactCoordinate coordinate )
+    {
+        if ( coordinate instanceof ImmutableArtifactCoordinate )
+        {
+            return (ImmutableArtifactCoordinate) coordinate;
+        }
+        return new ImmutableArtifactCoordinate( coordinate.getGroupId(), coordinate.getArtifactId(),
+                                                coordinate.getVersion(), coordinate.getExtension(),
+                                                coordinate.getClassifier() );
+    }
+
+    @Override
+    public String getGroupId()
+    {
+        return groupId;
+    }
+
+    @Override
+    public String getArtifactId()
+    {
+        return artifactId;
+    }
+
+    @Override
+    public String getVersion()
+    {
+        return version;
+    }
+
+    @Override
+    public String getExtension()
+    {
+        return extension;
+    }
+
+    @Override
+    public String getClassifier()
+    {
+        return classifier;
+    }
+
+    @Override
+    public boolean equals( Object obj )
+    {
+        if ( this == obj )
+        {
+            return true;
+        }
+        if ( !( obj instanceof ImmutableArtifactCoordinate ) )
+        {
+            return false;
+        }
+        ImmutableArtifactCoordinate that = (ImmutableArtifactCoordinate) obj;
+        return hashCode == that.hashCode && Objects.equals( groupId, that.groupId )
+            && Objects.equals( artifactId, that.artifactId ) && Objects.equals( version, that.version )
+            && extension.equals( that.extension ) && Objects.equals( classifier, that.classifier );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hashCode;
+    }
+
+    /**
+     * @see org.apache.maven.artifact.DefaultArtifact#toString()
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder().append( groupId ).append( ':' )
+                        .append( artifactId ).append( ':' ).append( extension );
+
+        if ( classifier != null )
+        {
+            sb.append( ':' ).append( classifier );
+        }
+
+        sb.append( ':' ).append( version );
+
+        return sb.toString();
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.maven.model.Extension;
 import org.apache.maven.model.Parent;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.model.ReportPlugin;
+import org.apache.maven.shared.transfer.support.CoordinateInterner;
 
 /**
  * Utility class
@@ -123,4 +124,139 @@ public final class TransferUtils
         return coordinate;
     }
 
+    /**
+     * Parses coordinates in the format {@code <groupId>:<artifactId>[:<extension>[:<classifier>]]:<version>} in a
+     * single pass, without regular expressions. Only the parts of the coordinates are allocated.
+     *
+     * @param coordinates The coordinates to parse, not <code>null</code>.
+     * @return the parsed {@link ArtifactCoordinate}, with extension <code>jar</code> if it is omitted or empty.
+     * @throws IllegalArgumentException if the coordinates do not have the expected format.
+     * @since 2.0.0
+     */
+    public static ImmutableArtifactCoordinate parseArtifactCoordinate( CharSequence coordinates )
+    {
+        return parseArtifactCoordinate( coordinates, null );
+    }
+
+    /**
+     * Parses coordinates like {@link #parseArtifactCoordinate(CharSequence)}, sharing the result and its strings
+     * with other users of the interner.
+     *
+     * @param coordinates The coordinates to parse, not <code>null</code>.
+     * @param interner The interner to use, may be <code>null</code>.
+     * @return the parsed {@link ArtifactCoordinate}.
+     * @throws IllegalArgumentException if the coordinates do not have the expected format.
+     * @since 2.0.0
+     */
+    public static ImmutableArtifactCoordinate parseArtifactCoordinate( CharSequence coordinates,
+                                                                       CoordinateInterner interner )
+    {
+        int length = coordinates.length();
+        int first = -1;
+        int second = -1;
+        int third = -1;
+        int fourth = -1;
+        for ( int i = 0; i < length; i++ )
+        {
+            char c = coordinates.charAt( i );
+            if ( c == ':' )
+            {
+                if ( first < 0 )
+                {
+                    first = i;
+                }
+                else if ( second < 0 )
+                {
+                    second = i;
+                }
+                else if ( third < 0 )
+                {
+                    third = i;
+                }
+                else if ( fourth < 0 )
+                {
+                    fourth = i;
+                }
+                else
+                {
+                    throw badArtifactCoordinate( coordinates );
+                }
+            }
+            else if ( c == ' ' )
+            {
+                throw badArtifactCoordinate( coordinates );
+            }
+        }
+        if ( second < 0 )
+        {
+            throw badArtifactCoordinate( coordinates );
+        }
+
+        int versionStart = ( fourth >= 0 ? fourth : third >= 0 ? third : second ) + 1;
+        String extension = null;
+        String classifier = null;
+        if ( third >= 0 )
+        {
+            extension = third > second + 1 ? coordinates.subSequence( second + 1, third ).toString() : null;
+        }
+        if ( fourth >= 0 )
+        {
+            if ( fourth == third + 1 )
+            {
+                throw badArtifactCoordinate( coordinates );
+            }
+            classifier = coordinates.subSequence( third + 1, fourth ).toString();
+        }
+        if ( first == 0 || second == first + 1 || versionStart == length )
+        {
+            throw badArtifactCoordinate( coordinates );
+        }
+
+        ImmutableArtifactCoordinate coordinate =
+            new ImmutableArtifactCoordinate( coordinates.subSequence( 0, first ).toString(),
+                       coordinates.subSequence( first + 1, second ).toString(),
+                       coordinates.subSequence( versionStart, length ).toString(), extension, classifier );
+        return interner != null ? interner.intern( coordinate ) : coordinate;
+    }
+
+    /**
+     * Formats the coordinates in the format read by {@link #parseArtifactCoordinate(CharSequence)}, i.e.
+     * {@code <groupId>:<artifactId>:<extension>[:<classifier>]:<version>}.
+     *
+     * @param coordinate The {@link ArtifactCoordinate} to format, not <code>null</code>.
+     * @return the formatted coordinates.
+     * @since 2.0.0
+     */
+    public static String formatArtifactCoordinate( ArtifactCoordinate coordinate )
+    {
+        return formatArtifactCoordinate( new StringBuilder(), coordinate ).toString();
+    }
+
+    /**
+     * Appends the coordinates formatted like {@link #formatArtifactCoordinate(ArtifactCoordinate)} to a buffer, so a
+     * caller writing many coordinates can reuse the buffer.
+     *
+     * @param buffer The buffer to append to, not <code>null</code>.
+     * @param coordinate The {@link ArtifactCoordinate} to format, not <code>null</code>.
+     * @return the passed buffer.
+     * @since 2.0.0
+     */
+    public static StringBuilder formatArtifactCoordinate( StringBuilder buffer, ArtifactCoordinate coordinate )
+    {
+        buffer.append( coordinate.getGroupId() ).append( ':' ).append( coordinate.getArtifactId() ).append( ':' )
+            .append( coordinate.getExtension() );
+        String classifier = coordinate.getClassifier();
+        if ( classifier != null && !classifier.isEmpty() )
+        {
+            buffer.append( ':' ).append( classifier );
+        }
+        return buffer.append( ':' ).append( coordinate.getVersion() );
+    }
+
+    private static IllegalArgumentException badArtifactCoordinate( CharSequence coordinates )
+    {
+        return new IllegalArgumentException( "Bad artifact coordinates " + coordinates
+            + ", expected format is <groupId>:<artifactId>[:<extension>[:<classifier>]]"
+            + ":<version>" );
+    }
 }
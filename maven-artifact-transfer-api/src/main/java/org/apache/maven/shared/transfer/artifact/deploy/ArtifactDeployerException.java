@@ -19,6 +19,12 @@ package org.apache.maven.shared.transfer.artifact.deploy;
  * under the License.
  */
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.apache.maven.artifact.Artifact;
+
 /**
  * An artifact could not correctly being deployed.
  * 
@@ -33,13 +39,36 @@ public class ArtifactDeployerException
      */
     private static final long serialVersionUID = 7421964724059077698L;
 
+    private final transient Collection<Artifact> failedArtifacts;
+
     /**
      * @param message The message of the error.
      * @param e {@link Exception}
      */
     public ArtifactDeployerException( String message, Exception e )
+    {
+        this( message, e, Collections.<Artifact>emptyList() );
+    }
+
+    /**
+     * @param message The message of the error.
+     * @param e {@link Exception}
+     * @param failedArtifacts the artifacts which have not been deployed
+     * @since 2.0.0
+     */
+    public ArtifactDeployerException( String message, Exception e, Collection<Artifact> failedArtifacts )
     {
         super( message, e );
+        this.failedArtifacts = Collections.unmodifiableList( new ArrayList<>( failedArtifacts ) );
+    }
+
+    /**
+     * @return the artifacts which have not been deployed and must be deployed again, empty if they are not known
+     * @since 2.0.0
+     */
+    public Collection<Artifact> getFailedArtifacts()
+    {
+        return failedArtifacts != null ? failedArtifacts : Collections.<Artifact>emptyList();
     }
 
 }
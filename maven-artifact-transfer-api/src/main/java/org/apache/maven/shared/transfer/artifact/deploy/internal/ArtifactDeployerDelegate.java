@@ -24,6 +24,6 @@ import org.apache.maven.shared.transfer.artifact.deploy.ArtifactDeployer;
 /**
  * To be implemented by provider specific implementation.
  */
-public interface ArtifactDeployerDelegate extends ArtifactDeployer
+public interface ArtifactDeployerDelegate extends ArtifactDeployer, ArtifactUploader
 {
 }
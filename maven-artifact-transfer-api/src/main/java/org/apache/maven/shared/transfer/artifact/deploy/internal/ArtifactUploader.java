@@ -0,0 +1,52 @@
+package org.apache.maven.shared.transfer.artifact.deploy.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.Collection;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.shared.transfer.artifact.deploy.ArtifactDeployerException;
+
+/**
+ * Uploads artifacts of a release one at a time, without the metadata attached to them. Several uploads can run at the
+ * same time: each is a deployment of its own, which fires the usual repository events and updates the
+ * <code>maven-metadata.xml</code> listing the version, and the uploads of the same release all add the same version.
+ *
+ * @since 2.0.0
+ */
+public interface ArtifactUploader
+{
+    /**
+     * Deploys each artifact on its own, with its checksums. The metadata attached to the artifacts, like a POM, is not
+     * uploaded.
+     *
+     * @param request the building request
+     * @param remoteRepository the repository to upload to. If {@code null} the {@code mavenArtifact.getRepository()} is
+     *            used.
+     * @param mavenArtifacts the artifacts to upload
+     * @throws ArtifactDeployerException in case of an error.
+     */
+    void upload( ProjectBuildingRequest request, ArtifactRepository remoteRepository,
+                 Collection<Artifact> mavenArtifacts )
+        throws ArtifactDeployerException;
+}
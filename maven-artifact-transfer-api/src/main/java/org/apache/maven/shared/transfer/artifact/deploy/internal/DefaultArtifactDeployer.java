@@ -26,22 +26,25 @@ import org.apache.maven.shared.transfer.artifact.deploy.ArtifactDeployer;
 import org.apache.maven.shared.transfer.artifact.deploy.ArtifactDeployerException;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
+import org.codehaus.plexus.personality.plexus.lifecycle.phase.Initializable;
 
 import java.util.Collection;
 import java.util.Map;
 
-import static org.apache.maven.shared.transfer.support.Selector.selectDelegate;
+import static org.apache.maven.shared.transfer.support.Selector.requireDelegate;
 
 /**
  *
  */
 @Component( role = ArtifactDeployer.class, hint = "default" )
 public class DefaultArtifactDeployer
-        implements ArtifactDeployer
+        implements ArtifactDeployer, ArtifactUploader, Initializable
 {
     @Requirement( role = ArtifactDeployerDelegate.class )
     private Map<String, ArtifactDeployerDelegate> delegates;
 
+    private ArtifactDeployerDelegate delegate;
+
     public DefaultArtifactDeployer()
     {
     }
@@ -49,6 +52,16 @@ public class DefaultArtifactDeployer
     public DefaultArtifactDeployer( Map<String, ArtifactDeployerDelegate> delegates )
     {
         this.delegates = delegates;
+        this.delegate = requireDelegate( delegates );
+    }
+
+    /**
+     * Selects the delegate of the runtime once, after the delegates have been injected.
+     */
+    @Override
+    public void initialize()
+    {
+        delegate = requireDelegate( delegates );
     }
 
     @Override
@@ -56,7 +69,7 @@ public class DefaultArtifactDeployer
                         Collection<Artifact> mavenArtifacts ) throws ArtifactDeployerException
     {
         validateParameters( request, mavenArtifacts );
-        selectDelegate( delegates ).deploy( request, mavenArtifacts );
+        delegate.deploy( request, mavenArtifacts );
     }
 
     @Override
@@ -65,7 +78,16 @@ public class DefaultArtifactDeployer
                         Collection<Artifact> mavenArtifacts ) throws ArtifactDeployerException
     {
         validateParameters( request, mavenArtifacts );
-        selectDelegate( delegates ).deploy( request, remoteRepository, mavenArtifacts );
+        delegate.deploy( request, remoteRepository, mavenArtifacts );
+    }
+
+    @Override
+    public void upload( ProjectBuildingRequest request,
+                        ArtifactRepository remoteRepository,
+                        Collection<Artifact> mavenArtifacts ) throws ArtifactDeployerException
+    {
+        validateParameters( request, mavenArtifacts );
+        delegate.upload( request, remoteRepository, mavenArtifacts );
     }
 
     private void validateParameters( ProjectBuildingRequest request, Collection<Artifact> mavenArtifacts )
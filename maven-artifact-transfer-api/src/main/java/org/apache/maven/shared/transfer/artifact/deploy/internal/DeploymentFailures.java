@@ -0,0 +1,100 @@
+package org.apache.maven.shared.transfer.artifact.deploy.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.maven.artifact.Artifact;
+
+/**
+ * Maps the files which failed to upload during a deployment back to the Maven artifacts to deploy again, used by the
+ * deployer delegates. A file is identified by groupId, artifactId, classifier and extension, its version may have been
+ * changed by the repository system, e.g. for a SNAPSHOT. The POM of an artifact is mapped to the artifact itself.
+ *
+ * @since 2.0.0
+ */
+public final class DeploymentFailures
+{
+    private final Map<String, Artifact> owners = new HashMap<>();
+
+    private final Set<Artifact> failedArtifacts = new LinkedHashSet<>();
+
+    /**
+     * @param mavenArtifacts the artifacts being deployed
+     */
+    public DeploymentFailures( Collection<Artifact> mavenArtifacts )
+    {
+        for ( Artifact mavenArtifact : mavenArtifacts )
+        {
+            String extension = mavenArtifact.getArtifactHandler() != null
+                ? mavenArtifact.getArtifactHandler().getExtension() : mavenArtifact.getType();
+            owners.put( key( mavenArtifact.getGroupId(), mavenArtifact.getArtifactId(), mavenArtifact.getClassifier(),
+                             extension ), mavenArtifact );
+        }
+        for ( Artifact mavenArtifact : mavenArtifacts )
+        {
+            String pomKey = key( mavenArtifact.getGroupId(), mavenArtifact.getArtifactId(), null, "pom" );
+            if ( !owners.containsKey( pomKey ) )
+            {
+                owners.put( pomKey, mavenArtifact );
+            }
+        }
+    }
+
+    /**
+     * Records that a file failed to upload, or was not uploaded at all.
+     *
+     * @return {@code true} if the file belongs to one of the artifacts being deployed
+     */
+    public synchronized boolean add( String groupId, String artifactId, String classifier, String extension )
+    {
+        Artifact owner = owners.get( key( groupId, artifactId, classifier, extension ) );
+        if ( owner == null )
+        {
+            return false;
+        }
+        failedArtifacts.add( owner );
+        return true;
+    }
+
+    public synchronized boolean isEmpty()
+    {
+        return failedArtifacts.isEmpty();
+    }
+
+    /**
+     * @return the artifacts to deploy again, in the order they were recorded
+     */
+    public synchronized Collection<Artifact> getFailedArtifacts()
+    {
+        return new ArrayList<>( failedArtifacts );
+    }
+
+    private static String key( String groupId, String artifactId, String classifier, String extension )
+    {
+        return groupId + ':' + artifactId + ':' + ( classifier != null ? classifier : "" ) + ':' + extension;
+    }
+}
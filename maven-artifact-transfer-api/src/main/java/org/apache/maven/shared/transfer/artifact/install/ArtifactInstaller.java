@@ -42,6 +42,21 @@ public interface ArtifactInstaller
     void install( ProjectBuildingRequest request, Collection<Artifact> mavenArtifacts )
         throws ArtifactInstallerException, IllegalArgumentException;
 
+    /**
+     * Installs the artifacts using the given install mode, instead of the one configured in the repository session
+     * with {@link InstallMode#CONFIG_PROPERTY}.
+     *
+     * @param request {@link ProjectBuildingRequest}
+     * @param mavenArtifacts {@link Artifact} (no null or empty collection allowed.)
+     * @param installMode {@link InstallMode} (no null allowed.)
+     * @throws ArtifactInstallerException in case of an error.
+     * @throws IllegalArgumentException in case <code>request</code> is <code>null</code>, <code>mavenArtifacts</code>
+     *             is <code>null</code> or empty or <code>installMode</code> is <code>null</code>.
+     * @since 2.0.0
+     */
+    void install( ProjectBuildingRequest request, Collection<Artifact> mavenArtifacts, InstallMode installMode )
+        throws ArtifactInstallerException, IllegalArgumentException;
+
     /**
      * @param request {@link ProjectBuildingRequest}.
      * @param localRepository The location for the local repository.
@@ -0,0 +1,84 @@
+package org.apache.maven.shared.transfer.artifact.install;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.Locale;
+
+/**
+ * Controls how the {@link ArtifactInstaller} places the artifact files into the local repository.
+ *
+ * @since 2.0.0
+ */
+@Deprecated
+public enum InstallMode
+{
+    /**
+     * Let the repository system copy each file, one after the other, this is the default.
+     */
+    DEFAULT,
+
+    /**
+     * Copy the files of independent artifacts concurrently, using a streamed NIO channel transfer. The last modified
+     * time of the copy is preserved, so the repository system doesn't copy the file again.
+     */
+    PARALLEL_COPY,
+
+    /**
+     * Like {@link #PARALLEL_COPY}, but try to create a hard link to the file first and only copy it if the local
+     * repository is on another file system or the file system doesn't support links. Note that the installed file
+     * shares its content with the build output, so a build writing into the same file again changes the installed
+     * artifact too. POM files are always copied.
+     */
+    LINK;
+
+    /**
+     * The key of the repository session configuration property used when no install mode is passed explicitly.
+     * The value is either an {@link InstallMode} or its name.
+     */
+    public static final String CONFIG_PROPERTY = "maven.shared.transfer.installMode";
+
+    /**
+     * @param value the value of the {@link #CONFIG_PROPERTY}, may be <code>null</code>
+     * @return the matching install mode, {@link #DEFAULT} if <code>value</code> is <code>null</code>
+     * @throws IllegalArgumentException if <code>value</code> does not denote an install mode
+     */
+    public static InstallMode parse( Object value )
+    {
+        if ( value == null )
+        {
+            return DEFAULT;
+        }
+        if ( value instanceof InstallMode )
+        {
+            return (InstallMode) value;
+        }
+        String name = value.toString().trim().replace( '-', '_' ).toUpperCase( Locale.ENGLISH );
+        try
+        {
+            return valueOf( name );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new IllegalArgumentException( "Unknown value '" + value + "' for " + CONFIG_PROPERTY
+                + ", expected one of DEFAULT, PARALLEL_COPY or LINK." );
+        }
+    }
+}
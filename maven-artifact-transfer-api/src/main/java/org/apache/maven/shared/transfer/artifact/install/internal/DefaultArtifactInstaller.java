@@ -23,25 +23,29 @@ import org.apache.maven.artifact.Artifact;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.shared.transfer.artifact.install.ArtifactInstaller;
 import org.apache.maven.shared.transfer.artifact.install.ArtifactInstallerException;
+import org.apache.maven.shared.transfer.artifact.install.InstallMode;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
+import org.codehaus.plexus.personality.plexus.lifecycle.phase.Initializable;
 
 import java.io.File;
 import java.util.Collection;
 import java.util.Map;
 
-import static org.apache.maven.shared.transfer.support.Selector.selectDelegate;
+import static org.apache.maven.shared.transfer.support.Selector.requireDelegate;
 
 /**
  *
  */
 @Component( role = ArtifactInstaller.class, hint = "default" )
 public class DefaultArtifactInstaller
-        implements ArtifactInstaller
+        implements ArtifactInstaller, Initializable
 {
     @Requirement( role = ArtifactInstallerDelegate.class )
     private Map<String, ArtifactInstallerDelegate> delegates;
 
+    private ArtifactInstallerDelegate delegate;
+
     public DefaultArtifactInstaller()
     {
     }
@@ -49,6 +53,16 @@ public class DefaultArtifactInstaller
     public DefaultArtifactInstaller( Map<String, ArtifactInstallerDelegate> delegates )
     {
         this.delegates = delegates;
+        this.delegate = requireDelegate( delegates );
+    }
+
+    /**
+     * Selects the delegate of the runtime once, after the delegates have been injected.
+     */
+    @Override
+    public void initialize()
+    {
+        delegate = requireDelegate( delegates );
     }
 
     @Override
@@ -57,7 +71,21 @@ public class DefaultArtifactInstaller
             throws ArtifactInstallerException, IllegalArgumentException
     {
         validateParameters( request, mavenArtifacts );
-        selectDelegate( delegates ).install( request, mavenArtifacts );
+        delegate.install( request, mavenArtifacts );
+    }
+
+    @Override
+    public void install( ProjectBuildingRequest request,
+                         Collection<Artifact> mavenArtifacts,
+                         InstallMode installMode )
+            throws ArtifactInstallerException, IllegalArgumentException
+    {
+        validateParameters( request, mavenArtifacts );
+        if ( installMode == null )
+        {
+            throw new IllegalArgumentException( "The parameter installMode is not allowed to be null." );
+        }
+        delegate.install( request, mavenArtifacts, installMode );
     }
 
     @Override
@@ -74,7 +102,7 @@ public class DefaultArtifactInstaller
         {
             throw new IllegalArgumentException( "The parameter localRepository must be a directory." );
         }
-        selectDelegate( delegates ).install( request, localRepository, mavenArtifacts );
+        delegate.install( request, localRepository, mavenArtifacts );
     }
 
     private void validateParameters( ProjectBuildingRequest request, Collection<Artifact> mavenArtifacts )
@@ -0,0 +1,464 @@
+package org.apache.maven.shared.transfer.artifact.install.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import org.apache.maven.shared.transfer.artifact.install.InstallMode;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Places artifact files into the local repository ahead of the repository system, for the {@link InstallMode}s other
+ * than {@link InstallMode#DEFAULT}. A placed file has the same length and last modified time as its source, which
+ * makes the repository system skip copying it again, while it still installs the POMs and updates the metadata.
+ * <p>
+ * There is no portable Java API to clone a file with copy-on-write, so {@link InstallMode#LINK} creates a hard link
+ * and falls back to a streamed copy with {@link FileChannel#transferTo}, which the JDK maps to the most efficient copy
+ * the platform offers.
+ * </p>
+ * <p>
+ * Optionally checksum files are written next to each installed file, for the algorithms configured with
+ * {@link #CHECKSUMS_PROPERTY}. The digests are computed in the same pass that copies the file, through a direct
+ * buffer, so each byte is read only once. This also applies to {@link InstallMode#DEFAULT} once checksums are
+ * configured, as the file is then copied here instead of by the repository system.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public final class LocalArtifactFiles
+{
+    /**
+     * The key of the repository session configuration property holding the comma separated names of the digest
+     * algorithms to write checksum files for, like <code>SHA-1,MD5</code>. No checksum files are written by default.
+     */
+    public static final String CHECKSUMS_PROPERTY = "maven.shared.transfer.installChecksums";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int HEX_RADIX = 16;
+
+    private static final int NIBBLE_BITS = 4;
+
+    private static final int NIBBLE_MASK = 0xF;
+
+    private LocalArtifactFiles()
+    {
+    }
+
+    /**
+     * Parses the digest algorithms from the value of the {@link #CHECKSUMS_PROPERTY}.
+     *
+     * @param value the configured value, may be <code>null</code>
+     * @return the upper case algorithm names, empty if <code>value</code> is <code>null</code> or blank
+     * @throws IllegalArgumentException if an algorithm is not supported by this JVM
+     */
+    public static List<String> parseChecksums( Object value )
+    {
+        if ( value == null || value.toString().trim().isEmpty() )
+        {
+            return Collections.emptyList();
+        }
+        List<String> algorithms = new ArrayList<>();
+        for ( String name : value.toString().split( "," ) )
+        {
+            String algorithm = name.trim().toUpperCase( Locale.ENGLISH );
+            if ( algorithm.isEmpty() || algorithms.contains( algorithm ) )
+            {
+                continue;
+            }
+            try
+            {
+                MessageDigest.getInstance( algorithm );
+            }
+            catch ( NoSuchAlgorithmException e )
+            {
+                throw new IllegalArgumentException( "Unknown checksum algorithm '" + name.trim() + "' for "
+                    + CHECKSUMS_PROPERTY, e );
+            }
+            algorithms.add( algorithm );
+        }
+        return Collections.unmodifiableList( algorithms );
+    }
+
+    /**
+     * Places each source file at its target location, without writing checksum files.
+     *
+     * @see #stage(Map, InstallMode, List)
+     */
+    public static void stage( Map<File, File> files, InstallMode installMode )
+        throws IOException
+    {
+        stage( files, installMode, Collections.<String>emptyList() );
+    }
+
+    /**
+     * Places each source file at its target location, concurrently if there is more than one file. Each file is first
+     * written to a temporary file next to the target and then moved into place, so a failure never leaves a partial
+     * file behind. POM files, recognized by their <code>pom</code> extension, are left to the repository system and
+     * only get their checksum files written.
+     *
+     * @param files the source files by target file in the local repository, several targets may share a source
+     * @param installMode the install mode, nothing is placed for {@link InstallMode#DEFAULT} without checksums
+     * @param checksumAlgorithms the digest algorithms to write checksum files for, may be empty
+     * @throws IOException if a file could not be placed, further failures are added as suppressed
+     */
+    public static void stage( Map<File, File> files, InstallMode installMode, final List<String> checksumAlgorithms )
+        throws IOException
+    {
+        if ( files.isEmpty() || ( installMode == InstallMode.DEFAULT && checksumAlgorithms.isEmpty() ) )
+        {
+            return;
+        }
+
+        final boolean link = installMode == InstallMode.LINK;
+
+        if ( files.size() == 1 )
+        {
+            Map.Entry<File, File> entry = files.entrySet().iterator().next();
+            place( entry.getValue(), entry.getKey(), link, checksumAlgorithms );
+            return;
+        }
+
+        int threads = Math.min( files.size(), Runtime.getRuntime().availableProcessors() );
+        ExecutorService executor = Executors.newFixedThreadPool( threads );
+        try
+        {
+            List<Future<Void>> futures = new ArrayList<>( files.size() );
+            for ( final Map.Entry<File, File> entry : files.entrySet() )
+            {
+                futures.add( executor.submit( new Callable<Void>()
+                {
+                    @Override
+                    public Void call() throws IOException
+                    {
+                        place( entry.getValue(), entry.getKey(), link, checksumAlgorithms );
+                        return null;
+                    }
+                } ) );
+            }
+
+            IOException exception = null;
+            for ( Future<Void> future : futures )
+            {
+                IOException failure = await( future );
+                if ( failure == null )
+                {
+                    continue;
+                }
+                if ( exception == null )
+                {
+                    exception = failure;
+                }
+                else
+                {
+                    exception.addSuppressed( failure );
+                }
+            }
+            if ( exception != null )
+            {
+                throw exception;
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    static void place( File source, File target, boolean link, List<String> checksumAlgorithms )
+        throws IOException
+    {
+        MessageDigest[] digests = newDigests( checksumAlgorithms );
+
+        if ( target.getName().endsWith( ".pom" ) )
+        {
+            // installed by the repository system, which always rewrites it
+            if ( digests.length > 0 )
+            {
+                read( source.toPath(), digests );
+                writeChecksums( target, checksumAlgorithms, digests );
+            }
+            return;
+        }
+
+        if ( isUpToDate( source, target ) )
+        {
+            if ( digests.length > 0 && !hasChecksums( target, checksumAlgorithms ) )
+            {
+                read( source.toPath(), digests );
+                writeChecksums( target, checksumAlgorithms, digests );
+            }
+            return;
+        }
+
+        Path targetPath = target.toPath();
+        Path directory = targetPath.toAbsolutePath().getParent();
+        Files.createDirectories( directory );
+
+        Path temporary = Files.createTempFile( directory, target.getName(), ".tmp" );
+        try
+        {
+            if ( link && tryLink( source.toPath(), temporary ) )
+            {
+                if ( digests.length > 0 )
+                {
+                    read( source.toPath(), digests );
+                }
+            }
+            else
+            {
+                copy( source.toPath(), temporary, digests );
+            }
+            move( temporary, targetPath );
+        }
+        finally
+        {
+            Files.deleteIfExists( temporary );
+        }
+
+        if ( digests.length > 0 )
+        {
+            writeChecksums( target, checksumAlgorithms, digests );
+        }
+    }
+
+    private static boolean isUpToDate( File source, File target )
+    {
+        return target.isFile() && source.length() == target.length() && source.lastModified() == target.lastModified();
+    }
+
+    private static boolean tryLink( Path source, Path temporary )
+        throws IOException
+    {
+        Files.delete( temporary );
+        try
+        {
+            Files.createLink( temporary, source );
+            return true;
+        }
+        catch ( UnsupportedOperationException | IOException e )
+        {
+            // other file system or no support for links, copy instead
+            return false;
+        }
+    }
+
+    private static void copy( Path source, Path target, MessageDigest[] digests )
+        throws IOException
+    {
+        try ( FileChannel in = FileChannel.open( source, StandardOpenOption.READ );
+              FileChannel out = FileChannel.open( target, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                                                  StandardOpenOption.TRUNCATE_EXISTING ) )
+        {
+            if ( digests.length > 0 )
+            {
+                transfer( in, out, digests );
+            }
+            else
+            {
+                transfer( in, out );
+            }
+        }
+        Files.setLastModifiedTime( target, Files.getLastModifiedTime( source ) );
+    }
+
+    private static void read( Path source, MessageDigest[] digests )
+        throws IOException
+    {
+        try ( FileChannel in = FileChannel.open( source, StandardOpenOption.READ ) )
+        {
+            transfer( in, null, digests );
+        }
+    }
+
+    /**
+     * Reads the channel once through a direct buffer, updating all digests and writing to <code>out</code> if it is
+     * not <code>null</code>.
+     */
+    private static void transfer( FileChannel in, FileChannel out, MessageDigest[] digests )
+        throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocateDirect( BUFFER_SIZE );
+        // calling through Buffer keeps the Java 7 signatures, ByteBuffer overrides these methods since Java 9
+        Buffer view = buffer;
+        while ( in.read( buffer ) >= 0 )
+        {
+            view.flip();
+            for ( MessageDigest digest : digests )
+            {
+                view.mark();
+                digest.update( buffer );
+                view.reset();
+            }
+            if ( out != null )
+            {
+                while ( buffer.hasRemaining() )
+                {
+                    out.write( buffer );
+                }
+            }
+            view.clear();
+        }
+    }
+
+    private static void transfer( FileChannel in, FileChannel out )
+        throws IOException
+    {
+        long size = in.size();
+        long position = 0;
+        while ( position < size )
+        {
+            long count = in.transferTo( position, size - position, out );
+            if ( count <= 0 )
+            {
+                throw new IOException( "Unexpected end of file after " + position + " of " + size + " bytes" );
+            }
+            position += count;
+        }
+    }
+
+    private static MessageDigest[] newDigests( List<String> algorithms )
+        throws IOException
+    {
+        MessageDigest[] digests = new MessageDigest[algorithms.size()];
+        for ( int i = 0; i < digests.length; i++ )
+        {
+            try
+            {
+                digests[i] = MessageDigest.getInstance( algorithms.get( i ) );
+            }
+            catch ( NoSuchAlgorithmException e )
+            {
+                throw new IOException( e.getMessage(), e );
+            }
+        }
+        return digests;
+    }
+
+    private static File getChecksumFile( File target, String algorithm )
+    {
+        return new File( target.getPath() + '.' + algorithm.toLowerCase( Locale.ENGLISH ).replace( "-", "" ) );
+    }
+
+    private static boolean hasChecksums( File target, List<String> algorithms )
+    {
+        for ( String algorithm : algorithms )
+        {
+            if ( !getChecksumFile( target, algorithm ).isFile() )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeChecksums( File target, List<String> algorithms, MessageDigest[] digests )
+        throws IOException
+    {
+        for ( int i = 0; i < digests.length; i++ )
+        {
+            Path checksumFile = getChecksumFile( target, algorithms.get( i ) ).toPath();
+            Path directory = Files.createDirectories( checksumFile.toAbsolutePath().getParent() );
+            Path temporary = Files.createTempFile( directory, checksumFile.getFileName().toString(), ".tmp" );
+            try
+            {
+                Files.write( temporary, toHex( digests[i].digest() ).getBytes( StandardCharsets.US_ASCII ) );
+                move( temporary, checksumFile );
+            }
+            finally
+            {
+                Files.deleteIfExists( temporary );
+            }
+        }
+    }
+
+    private static String toHex( byte[] bytes )
+    {
+        StringBuilder buffer = new StringBuilder( bytes.length * 2 );
+        for ( byte b : bytes )
+        {
+            buffer.append( Character.forDigit( ( b >> NIBBLE_BITS ) & NIBBLE_MASK, HEX_RADIX ) );
+            buffer.append( Character.forDigit( b & NIBBLE_MASK, HEX_RADIX ) );
+        }
+        return buffer.toString();
+    }
+
+    private static void move( Path source, Path target )
+        throws IOException
+    {
+        try
+        {
+            Files.move( source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        }
+        catch ( AtomicMoveNotSupportedException e )
+        {
+            Files.move( source, target, StandardCopyOption.REPLACE_EXISTING );
+        }
+    }
+
+    private static IOException await( Future<Void> future )
+        throws IOException
+    {
+        try
+        {
+            future.get();
+            return null;
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new IOException( "Interrupted while waiting for the installation", e );
+        }
+        catch ( ExecutionException e )
+        {
+            Throwable cause = e.getCause();
+            if ( cause instanceof IOException )
+            {
+                return (IOException) cause;
+            }
+            if ( cause instanceof Error )
+            {
+                throw (Error) cause;
+            }
+            return new IOException( cause.getMessage(), cause );
+        }
+    }
+}
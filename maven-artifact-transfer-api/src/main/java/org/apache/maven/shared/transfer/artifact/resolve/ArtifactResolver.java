@@ -19,12 +19,19 @@ package org.apache.maven.shared.transfer.artifact.resolve;
  * under the License.
  */
 
+import java.util.Collection;
+import java.util.List;
+
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.shared.transfer.artifact.ArtifactCoordinate;
 
 /**
- * Resolves the artifact, i.e download the file when required and attach it to the artifact
+ * Resolves the artifact, i.e download the file when required and attach it to the artifact.
+ * <p>
+ * Unless passed explicitly, the {@link RelocationMode} is read from the repository session configuration property
+ * {@value RelocationMode#CONFIG_PROPERTY}.
+ * </p>
  */
 @Deprecated
 public interface ArtifactResolver
@@ -52,4 +59,58 @@ public interface ArtifactResolver
     ArtifactResult resolveArtifact( ProjectBuildingRequest buildingRequest, ArtifactCoordinate coordinate )
         throws ArtifactResolverException, IllegalArgumentException;
 
+    /**
+     * Same as {@link #resolveArtifact(ProjectBuildingRequest, ArtifactCoordinate)}, but with an explicit
+     * {@link RelocationMode} instead of the one configured on the repository session.
+     *
+     * @param buildingRequest {@link ProjectBuildingRequest}
+     * @param coordinate {@link ArtifactCoordinate}
+     * @param relocationMode {@link RelocationMode}
+     * @return {@link ArtifactResult}
+     * @throws ArtifactResolverException in case of an error.
+     * @throws IllegalArgumentException in case of parameter <code>buildingRequest</code> is <code>null</code>,
+     *             parameter <code>coordinate</code> is <code>null</code> or parameter <code>relocationMode</code> is
+     *             <code>null</code>.
+     * @since 2.0.0
+     */
+    ArtifactResult resolveArtifact( ProjectBuildingRequest buildingRequest, ArtifactCoordinate coordinate,
+                                    RelocationMode relocationMode )
+        throws ArtifactResolverException, IllegalArgumentException;
+
+    /**
+     * Resolves several artifacts at once, so the repository system can download them in parallel. Contrary to
+     * {@link #resolveArtifact(ProjectBuildingRequest, ArtifactCoordinate)} a coordinate which cannot be resolved does
+     * not fail the whole batch, instead the failure is reported by its {@link ArtifactResult}.
+     *
+     * @param buildingRequest {@link ProjectBuildingRequest}
+     * @param coordinates the {@link ArtifactCoordinate}s to resolve
+     * @return one {@link ArtifactResult} per coordinate, in the iteration order of <code>coordinates</code>
+     * @throws ArtifactResolverException in case of an error which affects the whole batch.
+     * @throws IllegalArgumentException in case of parameter <code>buildingRequest</code> is <code>null</code> or
+     *             parameter <code>coordinates</code> is <code>null</code> or contains <code>null</code>.
+     * @since 2.0.0
+     */
+    List<ArtifactResult> resolveArtifacts( ProjectBuildingRequest buildingRequest,
+                                           Collection<ArtifactCoordinate> coordinates )
+        throws ArtifactResolverException, IllegalArgumentException;
+
+    /**
+     * Same as {@link #resolveArtifacts(ProjectBuildingRequest, Collection)}, but with an explicit
+     * {@link RelocationMode} instead of the one configured on the repository session.
+     *
+     * @param buildingRequest {@link ProjectBuildingRequest}
+     * @param coordinates the {@link ArtifactCoordinate}s to resolve
+     * @param relocationMode {@link RelocationMode}
+     * @return one {@link ArtifactResult} per coordinate, in the iteration order of <code>coordinates</code>
+     * @throws ArtifactResolverException in case of an error which affects the whole batch.
+     * @throws IllegalArgumentException in case of parameter <code>buildingRequest</code> is <code>null</code>,
+     *             parameter <code>coordinates</code> is <code>null</code> or contains <code>null</code> or parameter
+     *             <code>relocationMode</code> is <code>null</code>.
+     * @since 2.0.0
+     */
+    List<ArtifactResult> resolveArtifacts( ProjectBuildingRequest buildingRequest,
+                                           Collection<ArtifactCoordinate> coordinates,
+                                           RelocationMode relocationMode )
+        throws ArtifactResolverException, IllegalArgumentException;
+
 }
@@ -19,6 +19,8 @@ package org.apache.maven.shared.transfer.artifact.resolve;
  * under the License.
  */
 
+import java.util.List;
+
 import org.apache.maven.artifact.Artifact;
 
 /**
@@ -31,7 +33,26 @@ import org.apache.maven.artifact.Artifact;
 public interface ArtifactResult
 {
     /**
-     * @return {@link Artifact}
+     * @return {@link Artifact}, or <code>null</code> if the artifact could not be resolved
      */
     Artifact getArtifact();
+
+    /**
+     * @return the exceptions that occurred while resolving the artifact, never <code>null</code>
+     * @since 2.0.0
+     */
+    List<Exception> getExceptions();
+
+    /**
+     * @return <code>true</code> if the artifact has been resolved to a file, otherwise <code>false</code>
+     * @since 2.0.0
+     */
+    boolean isResolved();
+
+    /**
+     * @return where the artifact was resolved from and, if enabled with {@link ResolutionMetrics#CONFIG_PROPERTY},
+     *         where the time went, never <code>null</code>
+     * @since 2.0.0
+     */
+    ResolutionMetrics getMetrics();
 }
@@ -0,0 +1,99 @@
+package org.apache.maven.shared.transfer.artifact.resolve;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.Locale;
+
+/**
+ * Controls for which artifacts the {@link ArtifactResolver} reads the artifact descriptor (the POM) to respect
+ * relocation before resolving the artifact itself. Skipping the descriptor saves a remote round-trip per artifact,
+ * at the price of not following relocations for the skipped artifacts.
+ *
+ * @since 2.0.0
+ */
+@Deprecated
+public enum RelocationMode
+{
+    /**
+     * Read the descriptor of every artifact, this is the default.
+     */
+    ALWAYS,
+
+    /**
+     * Don't read the descriptor of artifacts with a classifier, like sources or javadoc.
+     */
+    SKIP_CLASSIFIED,
+
+    /**
+     * Only read the descriptor of artifacts with extension <code>pom</code>.
+     */
+    SKIP_NON_POM;
+
+    /**
+     * The key of the repository session configuration property used when no relocation mode is passed explicitly.
+     * The value is either a {@link RelocationMode} or its name.
+     */
+    public static final String CONFIG_PROPERTY = "maven.shared.transfer.relocationMode";
+
+    /**
+     * @param classifier the classifier of the artifact, may be <code>null</code>
+     * @param extension the extension of the artifact
+     * @return <code>true</code> if the descriptor of the artifact must be read, otherwise <code>false</code>
+     */
+    public boolean isDescriptorRequired( String classifier, String extension )
+    {
+        switch ( this )
+        {
+            case SKIP_CLASSIFIED:
+                return classifier == null || classifier.isEmpty();
+            case SKIP_NON_POM:
+                return "pom".equals( extension );
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * @param value the value of the {@link #CONFIG_PROPERTY}, may be <code>null</code>
+     * @return the matching relocation mode, {@link #ALWAYS} if <code>value</code> is <code>null</code>
+     * @throws IllegalArgumentException if <code>value</code> does not denote a relocation mode
+     */
+    public static RelocationMode parse( Object value )
+    {
+        if ( value == null )
+        {
+            return ALWAYS;
+        }
+        if ( value instanceof RelocationMode )
+        {
+            return (RelocationMode) value;
+        }
+        String name = value.toString().trim().replace( '-', '_' ).toUpperCase( Locale.ENGLISH );
+        try
+        {
+            return valueOf( name );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new IllegalArgumentException( "Unknown value '" + value + "' for " + CONFIG_PROPERTY
+                + ", expected one of ALWAYS, SKIP_CLASSIFIED or SKIP_NON_POM." );
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package org.apache.maven.shared.transfer.artifact.resolve;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.Locale;
+
+/**
+ * Where an artifact was resolved from and where the time went, captured by the resolver while resolving it. The
+ * timings are the nanoseconds spent resolving the artifact descriptor (the POM), checking repository metadata of the
+ * artifact, downloading the artifact file and resolving the artifact as a whole, which includes its download.
+ * <p>
+ * The capturing is switched on with the {@link #CONFIG_PROPERTY}, as it reports the events of the resolution to an
+ * additional listener. Otherwise the metrics only hold the repository.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@Deprecated
+public final class ResolutionMetrics
+{
+    /**
+     * The key of the repository session configuration property enabling the capturing, {@code false} by default.
+     */
+    public static final String CONFIG_PROPERTY = "maven.shared.transfer.resolutionMetrics";
+
+    /**
+     * The metrics of nothing resolved.
+     */
+    public static final ResolutionMetrics EMPTY = new ResolutionMetrics( null, false, 0L, 0L, 0L, 0L, 0L );
+
+    private final String repositoryId;
+
+    private final boolean downloaded;
+
+    private final long bytesTransferred;
+
+    private final long descriptorNanos;
+
+    private final long metadataNanos;
+
+    private final long downloadNanos;
+
+    private final long resolveNanos;
+
+    /**
+     * @param repositoryId the id of the repository the artifact was resolved from, may be {@code null}
+     * @param downloaded whether the artifact was downloaded, rather than found in the local repository
+     * @param bytesTransferred the bytes downloaded for the artifact, including its checksums
+     * @param descriptorNanos the nanoseconds spent resolving the artifact descriptor
+     * @param metadataNanos the nanoseconds spent resolving repository metadata of the artifact
+     * @param downloadNanos the nanoseconds spent downloading the artifact
+     * @param resolveNanos the nanoseconds spent resolving the artifact, including its download
+     */
+    public ResolutionMetrics( String repositoryId, boolean downloaded, long bytesTransferred, long descriptorNanos,
+                              long metadataNanos, long downloadNanos, long resolveNanos )
+    {
+        this.repositoryId = repositoryId;
+        this.downloaded = downloaded;
+        this.bytesTransferred = bytesTransferred;
+        this.descriptorNanos = descriptorNanos;
+        this.metadataNanos = metadataNanos;
+        this.downloadNanos = downloadNanos;
+        this.resolveNanos = resolveNanos;
+    }
+
+    /**
+     * @param value the value of the {@link #CONFIG_PROPERTY}, may be {@code null}
+     * @return whether the metrics are captured, {@code false} if {@code value} is {@code null}
+     */
+    public static boolean isEnabled( Object value )
+    {
+        return value != null && Boolean.parseBoolean( value.toString().trim() );
+    }
+
+    /**
+     * Adds up the given metrics, for instance those of all artifacts of a dependency resolution.
+     *
+     * @param metrics the metrics to add up
+     * @return the sum of the metrics, without repository
+     */
+    public static ResolutionMetrics sum( Iterable<? extends ResolutionMetrics> metrics )
+    {
+        boolean downloaded = false;
+        long bytesTransferred = 0L;
+        long descriptorNanos = 0L;
+        long metadataNanos = 0L;
+        long downloadNanos = 0L;
+        long resolveNanos = 0L;
+        for ( ResolutionMetrics metric : metrics )
+        {
+            downloaded |= metric.downloaded;
+            bytesTransferred += metric.bytesTransferred;
+            descriptorNanos += metric.descriptorNanos;
+            metadataNanos += metric.metadataNanos;
+            downloadNanos += metric.downloadNanos;
+            resolveNanos += metric.resolveNanos;
+        }
+        return new ResolutionMetrics( null, downloaded, bytesTransferred, descriptorNanos, metadataNanos,
+                                      downloadNanos, resolveNanos );
+    }
+
+    /**
+     * @return the id of the repository the artifact was resolved from, the local repository if it was already
+     *         present, or {@code null} if unknown
+     */
+    public String getRepositoryId()
+    {
+        return repositoryId;
+    }
+
+    /**
+     * @return {@code true} if the artifact was downloaded, {@code false} if it was found in the local repository
+     */
+    public boolean isDownloaded()
+    {
+        return downloaded;
+    }
+
+    /**
+     * @return the bytes downloaded for the artifact, including its checksums
+     */
+    public long getBytesTransferred()
+    {
+        return bytesTransferred;
+    }
+
+    /**
+     * @return the nanoseconds spent resolving the artifact descriptor
+     */
+    public long getDescriptorNanos()
+    {
+        return descriptorNanos;
+    }
+
+    /**
+     * @return the nanoseconds spent resolving repository metadata of the artifact, like snapshot versions
+     */
+    public long getMetadataNanos()
+    {
+        return metadataNanos;
+    }
+
+    /**
+     * @return the nanoseconds spent downloading the artifact
+     */
+    public long getDownloadNanos()
+    {
+        return downloadNanos;
+    }
+
+    /**
+     * @return the nanoseconds spent resolving the artifact, including its download
+     */
+    public long getResolveNanos()
+    {
+        return resolveNanos;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format( Locale.ENGLISH,
+                              "ResolutionMetrics{repository=%s, downloaded=%s, bytes=%d, descriptor=%dns, "
+                                  + "metadata=%dns, download=%dns, resolve=%dns}",
+                              repositoryId, downloaded, bytesTransferred, descriptorNanos, metadataNanos,
+                              downloadNanos, resolveNanos );
+    }
+}
@@ -25,23 +25,29 @@ import org.apache.maven.shared.transfer.artifact.ArtifactCoordinate;
 import org.apache.maven.shared.transfer.artifact.resolve.ArtifactResolver;
 import org.apache.maven.shared.transfer.artifact.resolve.ArtifactResolverException;
 import org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult;
+import org.apache.maven.shared.transfer.artifact.resolve.RelocationMode;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
+import org.codehaus.plexus.personality.plexus.lifecycle.phase.Initializable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
-import static org.apache.maven.shared.transfer.support.Selector.selectDelegate;
+import static org.apache.maven.shared.transfer.support.Selector.requireDelegate;
 
 /**
  *
  */
 @Component( role = ArtifactResolver.class, hint = "default" )
 public class DefaultArtifactResolver
-        implements ArtifactResolver
+        implements ArtifactResolver, Initializable
 {
     @Requirement( role = ArtifactResolverDelegate.class )
     private Map<String, ArtifactResolverDelegate> delegates;
 
+    private ArtifactResolverDelegate delegate;
+
     public DefaultArtifactResolver()
     {
     }
@@ -49,6 +55,16 @@ public class DefaultArtifactResolver
     public DefaultArtifactResolver( Map<String, ArtifactResolverDelegate> delegates )
     {
         this.delegates = delegates;
+        this.delegate = requireDelegate( delegates );
+    }
+
+    /**
+     * Selects the delegate of the runtime once, after the delegates have been injected.
+     */
+    @Override
+    public void initialize()
+    {
+        delegate = requireDelegate( delegates );
     }
 
     @Override
@@ -57,7 +73,7 @@ public class DefaultArtifactResolver
             throws ArtifactResolverException, IllegalArgumentException
     {
         validateParameters( buildingRequest, mavenArtifact );
-        return selectDelegate( delegates ).resolveArtifact( buildingRequest, mavenArtifact );
+        return delegate.resolveArtifact( buildingRequest, mavenArtifact );
     }
 
     @Override
@@ -66,7 +82,38 @@ public class DefaultArtifactResolver
             throws ArtifactResolverException, IllegalArgumentException
     {
         validateParameters( buildingRequest, coordinate );
-        return selectDelegate( delegates ).resolveArtifact( buildingRequest, coordinate );
+        return delegate.resolveArtifact( buildingRequest, coordinate );
+    }
+
+    @Override
+    public ArtifactResult resolveArtifact( ProjectBuildingRequest buildingRequest,
+                                           ArtifactCoordinate coordinate,
+                                           RelocationMode relocationMode )
+            throws ArtifactResolverException, IllegalArgumentException
+    {
+        validateParameters( buildingRequest, coordinate );
+        validateParameters( relocationMode );
+        return delegate.resolveArtifact( buildingRequest, coordinate, relocationMode );
+    }
+
+    @Override
+    public List<ArtifactResult> resolveArtifacts( ProjectBuildingRequest buildingRequest,
+                                                  Collection<ArtifactCoordinate> coordinates )
+            throws ArtifactResolverException, IllegalArgumentException
+    {
+        validateParameters( buildingRequest, coordinates );
+        return delegate.resolveArtifacts( buildingRequest, coordinates );
+    }
+
+    @Override
+    public List<ArtifactResult> resolveArtifacts( ProjectBuildingRequest buildingRequest,
+                                                  Collection<ArtifactCoordinate> coordinates,
+                                                  RelocationMode relocationMode )
+            throws ArtifactResolverException, IllegalArgumentException
+    {
+        validateParameters( buildingRequest, coordinates );
+        validateParameters( relocationMode );
+        return delegate.resolveArtifacts( buildingRequest, coordinates, relocationMode );
     }
 
     private void validateParameters( ProjectBuildingRequest buildingRequest, Artifact mavenArtifact )
@@ -92,4 +139,32 @@ public class DefaultArtifactResolver
             throw new IllegalArgumentException( "The parameter coordinate is not allowed to be null." );
         }
     }
+
+    private void validateParameters( ProjectBuildingRequest buildingRequest,
+                                     Collection<ArtifactCoordinate> coordinates )
+    {
+        if ( buildingRequest == null )
+        {
+            throw new IllegalArgumentException( "The parameter buildingRequest is not allowed to be null." );
+        }
+        if ( coordinates == null )
+        {
+            throw new IllegalArgumentException( "The parameter coordinates is not allowed to be null." );
+        }
+        for ( ArtifactCoordinate coordinate : coordinates )
+        {
+            if ( coordinate == null )
+            {
+                throw new IllegalArgumentException( "The parameter coordinates is not allowed to contain null." );
+            }
+        }
+    }
+
+    private void validateParameters( RelocationMode relocationMode )
+    {
+        if ( relocationMode == null )
+        {
+            throw new IllegalArgumentException( "The parameter relocationMode is not allowed to be null." );
+        }
+    }
 }
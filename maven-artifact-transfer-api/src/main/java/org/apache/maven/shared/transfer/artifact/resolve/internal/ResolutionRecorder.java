@@ -0,0 +1,220 @@
+package org.apache.maven.shared.transfer.artifact.resolve.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.maven.shared.transfer.artifact.resolve.ResolutionMetrics;
+
+/**
+ * Records the repository and transfer events of one resolution call, reported by the provider specific listeners the
+ * resolver delegates install on the session, and turns them into the {@link ResolutionMetrics} of each artifact. The
+ * listeners only pass on the coordinates of the events, the timings are kept here. Artifacts are identified by their
+ * path in a repository with the default layout, which is also the name of the transferred resource.
+ *
+ * @since 2.0.0
+ */
+public final class ResolutionRecorder
+{
+    private static final int PATH_CAPACITY = 128;
+
+    private static final String[] CHECKSUM_EXTENSIONS = { ".sha1", ".md5" };
+
+    private final Map<String, Long> started = new HashMap<>();
+
+    private final Map<String, Long> resolveNanos = new HashMap<>();
+
+    private final Map<String, Long> metadataNanos = new HashMap<>();
+
+    private final Map<String, Long> downloadNanos = new HashMap<>();
+
+    private final Map<String, Long> bytesTransferred = new HashMap<>();
+
+    private final Set<String> downloaded = new HashSet<>();
+
+    /**
+     * @param enabled the value of the {@link ResolutionMetrics#CONFIG_PROPERTY}, may be <code>null</code>
+     * @return a new recorder, or <code>null</code> if the metrics are not enabled
+     */
+    public static ResolutionRecorder newInstance( Object enabled )
+    {
+        return ResolutionMetrics.isEnabled( enabled ) ? new ResolutionRecorder() : null;
+    }
+
+    /**
+     * @param groupId the groupId of the artifact
+     * @param artifactId the artifactId of the artifact
+     * @param baseVersion the base version of the artifact, i.e. <code>SNAPSHOT</code> for any snapshot
+     * @param version the version of the artifact, the timestamped version for a resolved snapshot
+     * @param classifier the classifier of the artifact, may be <code>null</code> or empty
+     * @param extension the extension of the artifact
+     * @return the path of the artifact in a repository with the default layout
+     */
+    public static String path( String groupId, String artifactId, String baseVersion, String version,
+                               String classifier, String extension )
+    {
+        StringBuilder path = new StringBuilder( PATH_CAPACITY );
+        path.append( groupId.replace( '.', '/' ) ).append( '/' ).append( artifactId ).append( '/' );
+        path.append( baseVersion ).append( '/' ).append( artifactId ).append( '-' ).append( version );
+        if ( classifier != null && !classifier.isEmpty() )
+        {
+            path.append( '-' ).append( classifier );
+        }
+        return path.append( '.' ).append( extension ).toString();
+    }
+
+    private static String metadataKey( String groupId, String artifactId )
+    {
+        return groupId + ':' + ( artifactId != null ? artifactId : "" );
+    }
+
+    /**
+     * Marks the start of resolving an artifact, snapshots are identified by their base version.
+     */
+    public synchronized void artifactResolving( String groupId, String artifactId, String baseVersion,
+                                                String classifier, String extension )
+    {
+        started.put( "resolve:" + path( groupId, artifactId, baseVersion, baseVersion, classifier, extension ),
+                     System.nanoTime() );
+    }
+
+    public synchronized void artifactResolved( String groupId, String artifactId, String baseVersion,
+                                               String classifier, String extension )
+    {
+        String path = path( groupId, artifactId, baseVersion, baseVersion, classifier, extension );
+        add( resolveNanos, path, elapsed( "resolve:" + path ) );
+    }
+
+    /**
+     * Marks the start of resolving metadata.
+     *
+     * @param groupId the groupId of the metadata
+     * @param artifactId the artifactId of the metadata, may be <code>null</code> or empty for group metadata
+     */
+    public synchronized void metadataResolving( String groupId, String artifactId )
+    {
+        started.put( "metadata:" + metadataKey( groupId, artifactId ), System.nanoTime() );
+    }
+
+    public synchronized void metadataResolved( String groupId, String artifactId )
+    {
+        String metadataKey = metadataKey( groupId, artifactId );
+        add( metadataNanos, metadataKey, elapsed( "metadata:" + metadataKey ) );
+    }
+
+    /**
+     * @param resourceName the path of the transferred resource
+     */
+    public synchronized void transferInitiated( String resourceName )
+    {
+        started.put( "transfer:" + normalize( resourceName ), System.nanoTime() );
+    }
+
+    /**
+     * @param resourceName the path of the transferred resource
+     * @param bytes the transferred bytes
+     */
+    public synchronized void transferSucceeded( String resourceName, long bytes )
+    {
+        String name = normalize( resourceName );
+        long nanos = elapsed( "transfer:" + name );
+        String path = stripChecksumExtension( name );
+        add( bytesTransferred, path, bytes );
+        if ( path.equals( name ) )
+        {
+            add( downloadNanos, path, nanos );
+            downloaded.add( path );
+        }
+    }
+
+    /**
+     * @param resourceName the path of the transferred resource
+     */
+    public synchronized void transferFailed( String resourceName )
+    {
+        started.remove( "transfer:" + normalize( resourceName ) );
+    }
+
+    /**
+     * @param groupId the groupId of the artifact
+     * @param artifactId the artifactId of the artifact
+     * @param baseVersion the base version of the artifact
+     * @param version the version of the artifact
+     * @param classifier the classifier of the artifact, may be <code>null</code> or empty
+     * @param extension the extension of the artifact
+     * @param repositoryId the id of the repository the artifact was resolved from, may be <code>null</code>
+     * @return the metrics of the artifact
+     */
+    public synchronized ResolutionMetrics getMetrics( String groupId, String artifactId, String baseVersion,
+                                                      String version, String classifier, String extension,
+                                                      String repositoryId )
+    {
+        String path = path( groupId, artifactId, baseVersion, version, classifier, extension );
+        String resolvePath = path( groupId, artifactId, baseVersion, baseVersion, classifier, extension );
+
+        long descriptor = 0L;
+        if ( !"pom".equals( extension ) || ( classifier != null && !classifier.isEmpty() ) )
+        {
+            descriptor = get( resolveNanos, path( groupId, artifactId, baseVersion, baseVersion, null, "pom" ) );
+        }
+
+        return new ResolutionMetrics( repositoryId, downloaded.contains( path ), get( bytesTransferred, path ),
+                                      descriptor, get( metadataNanos, metadataKey( groupId, artifactId ) ),
+                                      get( downloadNanos, path ), get( resolveNanos, resolvePath ) );
+    }
+
+    private long elapsed( String key )
+    {
+        Long start = started.remove( key );
+        return start != null ? System.nanoTime() - start : 0L;
+    }
+
+    private static void add( Map<String, Long> values, String key, long value )
+    {
+        values.put( key, get( values, key ) + value );
+    }
+
+    private static long get( Map<String, Long> values, String key )
+    {
+        Long value = values.get( key );
+        return value != null ? value : 0L;
+    }
+
+    private static String normalize( String resourceName )
+    {
+        return resourceName.startsWith( "/" ) ? resourceName.substring( 1 ) : resourceName;
+    }
+
+    private static String stripChecksumExtension( String resourceName )
+    {
+        for ( String extension : CHECKSUM_EXTENSIONS )
+        {
+            if ( resourceName.endsWith( extension ) )
+            {
+                return resourceName.substring( 0, resourceName.length() - extension.length() );
+            }
+        }
+        return resourceName;
+    }
+}
@@ -41,9 +41,12 @@ public interface CollectResult
   List<Exception> getExceptions();
 
   /**
-   * Gets the root node of the dependency graph.
+   * Gets the root node of the dependency graph. Since 2.0.0 this is {@code null} when the collection did not
+   * produce a graph, e.g. because it failed before the root could be built; earlier versions returned a node
+   * wrapping the missing root instead, whose methods failed with a {@link NullPointerException}.
    *
    * @return The root node of the dependency graph or {@code null} if none.
+   * @since 2.0.0 may return {@code null}
    */
   DependencyNode getRoot();
 
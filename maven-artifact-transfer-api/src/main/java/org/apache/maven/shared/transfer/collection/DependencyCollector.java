@@ -19,6 +19,9 @@ package org.apache.maven.shared.transfer.collection;
  * under the License.
  */
 
+import java.util.Collection;
+import java.util.List;
+
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
 import org.apache.maven.project.ProjectBuildingRequest;
@@ -76,4 +79,25 @@ public interface DependencyCollector
     CollectResult collectDependencies( ProjectBuildingRequest buildingRequest, Model root )
         throws DependencyCollectionException;
 
+    /**
+     * Collects the transitive dependencies of several independent roots, each root getting its own dependency graph.
+     * The roots are collected concurrently, with at most as many threads as configured by the repository session
+     * configuration property <code>maven.shared.transfer.collect.threads</code>, the number of available processors
+     * by default. The artifact descriptors read for one root are shared with the other roots through the session.
+     * <p>
+     * A failure to collect one root does not affect the others: its result holds the partial graph, if any, and the
+     * exceptions that occurred.
+     * </p>
+     *
+     * @param buildingRequest The Maven project buildingrequest, must not be {@code null}.
+     * @param requests The requests, one per root, must not be {@code null}. Requests without repositories use the
+     *            remote repositories of the building request.
+     * @return The collection results, in the order of the requests, never {@code null}.
+     * @throws DependencyCollectionException If interrupted while waiting for the collection.
+     * @since 2.0.0
+     */
+    List<CollectResult> collectDependencies( ProjectBuildingRequest buildingRequest,
+                                             Collection<CollectRequest> requests )
+        throws DependencyCollectionException;
+
 }
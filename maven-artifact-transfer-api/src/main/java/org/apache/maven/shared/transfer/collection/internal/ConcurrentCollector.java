@@ -0,0 +1,165 @@
+package org.apache.maven.shared.transfer.collection.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.maven.shared.transfer.collection.DependencyCollectionException;
+
+/**
+ * Runs the collection of several independent roots on a bounded thread pool, used by the dependency collector
+ * delegates. Each task reports the failures of its root in its result, so a failing root does not affect the others.
+ *
+ * @since 2.0.0
+ */
+public final class ConcurrentCollector
+{
+    /**
+     * The key of the repository session configuration property holding the maximum number of roots collected at the
+     * same time, the number of available processors by default.
+     */
+    public static final String THREADS_PROPERTY = "maven.shared.transfer.collect.threads";
+
+    private ConcurrentCollector()
+    {
+    }
+
+    /**
+     * @param value the value of the {@link #THREADS_PROPERTY}, may be {@code null}
+     * @return the maximum number of threads, at least one
+     * @throws IllegalArgumentException if {@code value} is not a number
+     */
+    public static int parseThreads( Object value )
+    {
+        if ( value == null )
+        {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        if ( value instanceof Number )
+        {
+            return Math.max( 1, ( (Number) value ).intValue() );
+        }
+        try
+        {
+            return Math.max( 1, Integer.parseInt( value.toString().trim() ) );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new IllegalArgumentException( "Invalid value '" + value + "' for " + THREADS_PROPERTY, e );
+        }
+    }
+
+    /**
+     * Runs the tasks with at most {@code threads} of them at the same time. A single task or thread runs on the
+     * calling thread.
+     *
+     * @param tasks the tasks collecting one root each, which report collection failures in their result
+     * @param threads the maximum number of threads
+     * @return the results of the tasks, in the order of the tasks
+     * @throws DependencyCollectionException if interrupted while waiting for the tasks
+     */
+    public static <R> List<R> collectAll( List<? extends Callable<R>> tasks, int threads )
+        throws DependencyCollectionException
+    {
+        List<R> results = new ArrayList<>( tasks.size() );
+        if ( tasks.size() <= 1 || threads <= 1 )
+        {
+            for ( Callable<R> task : tasks )
+            {
+                results.add( call( task ) );
+            }
+            return results;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool( Math.min( threads, tasks.size() ) );
+        try
+        {
+            List<Future<R>> futures = new ArrayList<>( tasks.size() );
+            for ( Callable<R> task : tasks )
+            {
+                futures.add( executor.submit( task ) );
+            }
+            for ( Future<R> future : futures )
+            {
+                results.add( await( future ) );
+            }
+            return results;
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <R> R call( Callable<R> task )
+        throws DependencyCollectionException
+    {
+        try
+        {
+            return task.call();
+        }
+        catch ( RuntimeException | DependencyCollectionException e )
+        {
+            throw e;
+        }
+        catch ( Exception e )
+        {
+            throw new DependencyCollectionException( e.getMessage(), e );
+        }
+    }
+
+    private static <R> R await( Future<R> future )
+        throws DependencyCollectionException
+    {
+        try
+        {
+            return future.get();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new DependencyCollectionException( "Interrupted while collecting the dependencies", e );
+        }
+        catch ( ExecutionException e )
+        {
+            Throwable cause = e.getCause();
+            if ( cause instanceof Error )
+            {
+                throw (Error) cause;
+            }
+            if ( cause instanceof RuntimeException )
+            {
+                throw (RuntimeException) cause;
+            }
+            if ( cause instanceof DependencyCollectionException )
+            {
+                throw (DependencyCollectionException) cause;
+            }
+            throw new DependencyCollectionException( cause.getMessage(), cause );
+        }
+    }
+}
@@ -22,28 +22,34 @@ package org.apache.maven.shared.transfer.collection.internal;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
 import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.shared.transfer.collection.CollectRequest;
 import org.apache.maven.shared.transfer.collection.CollectResult;
 import org.apache.maven.shared.transfer.collection.DependencyCollectionException;
 import org.apache.maven.shared.transfer.collection.DependencyCollector;
 import org.apache.maven.shared.transfer.dependencies.DependableCoordinate;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
+import org.codehaus.plexus.personality.plexus.lifecycle.phase.Initializable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
-import static org.apache.maven.shared.transfer.support.Selector.selectDelegate;
+import static org.apache.maven.shared.transfer.support.Selector.requireDelegate;
 
 /**
  *
  */
 @Component( role = DependencyCollector.class, hint = "default" )
 public class DefaultDependencyCollector
-        implements DependencyCollector
+        implements DependencyCollector, Initializable
 {
     @Requirement( role = DependencyCollectorDelegate.class )
     private Map<String, DependencyCollectorDelegate> delegates;
 
+    private DependencyCollectorDelegate delegate;
+
     public DefaultDependencyCollector()
     {
     }
@@ -51,6 +57,16 @@ public class DefaultDependencyCollector
     public DefaultDependencyCollector( Map<String, DependencyCollectorDelegate> delegates )
     {
         this.delegates = delegates;
+        this.delegate = requireDelegate( delegates );
+    }
+
+    /**
+     * Selects the delegate of the runtime once, after the delegates have been injected.
+     */
+    @Override
+    public void initialize()
+    {
+        delegate = requireDelegate( delegates );
     }
 
     @Override
@@ -59,7 +75,7 @@ public class DefaultDependencyCollector
             throws DependencyCollectionException
     {
         validateParameters( buildingRequest, root );
-        return selectDelegate( delegates ).collectDependencies( buildingRequest, root );
+        return delegate.collectDependencies( buildingRequest, root );
     }
 
     @Override
@@ -68,7 +84,7 @@ public class DefaultDependencyCollector
             throws DependencyCollectionException
     {
         validateParameters( buildingRequest, root );
-        return selectDelegate( delegates ).collectDependencies( buildingRequest, root );
+        return delegate.collectDependencies( buildingRequest, root );
     }
 
     @Override
@@ -77,7 +93,26 @@ public class DefaultDependencyCollector
             throws DependencyCollectionException
     {
         validateParameters( buildingRequest, root );
-        return selectDelegate( delegates ).collectDependencies( buildingRequest, root );
+        return delegate.collectDependencies( buildingRequest, root );
+    }
+
+    @Override
+    public List<CollectResult> collectDependencies( ProjectBuildingRequest buildingRequest,
+                                                    Collection<CollectRequest> requests )
+            throws DependencyCollectionException
+    {
+        validateParameters( buildingRequest, requests );
+        return delegate.collectDependencies( buildingRequest, requests );
+    }
+
+    private void validateParameters( ProjectBuildingRequest buildingRequest, Collection<CollectRequest> requests )
+    {
+        validateBuildingRequest( buildingRequest );
+        Objects.requireNonNull( requests, "The parameter requests is not allowed to be null." );
+        for ( CollectRequest request : requests )
+        {
+            Objects.requireNonNull( request, "The parameter requests is not allowed to contain null." );
+        }
     }
 
     private void validateParameters( ProjectBuildingRequest buildingRequest, DependableCoordinate root )
@@ -19,6 +19,8 @@ package org.apache.maven.shared.transfer.dependencies;
  * under the License.
  */
 
+import org.apache.maven.shared.transfer.support.CoordinateInterner;
+
 /**
  * Common usage of an DependableCoordinate for a Mojo
  * 
@@ -162,6 +164,25 @@ public class DefaultDependableCoordinate implements DependableCoordinate
         this.classifier = classifier;
     }
     
+    /**
+     * @return an immutable copy of this coordinate.
+     * @since 2.0.0
+     */
+    public ImmutableDependableCoordinate build()
+    {
+        return new ImmutableDependableCoordinate( groupId, artifactId, version, type, classifier );
+    }
+
+    /**
+     * @param interner The interner to share the coordinate and its strings with.
+     * @return the shared immutable coordinate equal to this coordinate.
+     * @since 2.0.0
+     */
+    public ImmutableDependableCoordinate build( CoordinateInterner interner )
+    {
+        return interner.intern( build() );
+    }
+
     /**
      * @see org.apache.maven.artifact.DefaultArtifact#toString()
      */
@@ -0,0 +1,153 @@
+package org.apache.maven.shared.transfer.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.Objects;
+
+/**
+ * A {@link DependableCoordinate} with value semantics, which can be used as key in maps and sets. The hash code is
+ * computed once. Instances are created with {@link DefaultDependableCoordinate#build()}, or with
+ * {@link org.apache.maven.shared.transfer.support.CoordinateInterner#intern(ImmutableDependableCoordinate)} to share
+ * equal instances and their strings.
+ *
+ * @since 2.0.0
+ */
+@Deprecated
+public final class ImmutableDependableCoordinate
+    implements DependableCoordinate
+{
+    private final String groupId;
+
+    private final String artifactId;
+
+    private final String version;
+
+    private final String type;
+
+    private final String classifier;
+
+    private final int hashCode;
+
+    /**
+     * @param groupId The groupId to be set.
+     * @param artifactId The artifactId to be set.
+     * @param version The version or version range to be set.
+     * @param type The type to be set, <code>jar</code> if <code>null</code>.
+     * @param classifier The classifier to be set, may be <code>null</code>.
+     */
+    public ImmutableDependableCoordinate( String groupId, String artifactId, String version, String type,
+                                          String classifier )
+    {
+        this.groupId = groupId;
+        this.artifactId = artifactId;
+        this.version = version;
+        this.type = type != null ? type : "jar";
+        this.classifier = classifier;
+        this.hashCode = Objects.hash( groupId, artifactId, version, this.type, classifier );
+    }
+
+    /**
+     * @param coordinate The coordinate to copy.
+     * @return the coordinate itself if it is already immutable, otherwise an immutable copy.
+     */
+    public static ImmutableDependableCoordinate of( DependableCoordinate coordinate )
+    {
+        if ( coordinate instanceof ImmutableDependableCoordinate )
+        {
+            return (ImmutableDependableCoordinate) coordinate;
+        }
+        return new ImmutableDependableCoordinate( coordinate.getGroupId(), coordinate.getArtifactId(),
+                                                  coordinate.getVersion(), coordinate.getType(),
+                                                  coordinate.getClassifier() );
+    }
+
+    @Override
+    public String getGroupId()
+    {
+        return groupId;
+    }
+
+    @Override
+    public String getArtifactId()
+    {
+        return artifactId;
+    }
+
+    @Override
+    public String getVersion()
+    {
+        return version;
+    }
+
+    @Override
+    public String getType()
+    {
+        return type;
+    }
+
+    @Override
+    public String getClassifier()
+    {
+        return classifier;
+    }
+
+    @Override
+    public boolean equals( Object obj )
+    {
+        if ( this == obj )
+        {
+            return true;
+        }
+        if ( !( obj instanceof ImmutableDependableCoordinate ) )
+        {
+            return false;
+        }
+        ImmutableDependableCoordinate that = (ImmutableDependableCoordinate) obj;
+        return hashCode == that.hashCode && Objects.equals( groupId, that.groupId )
+            && Objects.equals( artifactId, that.artifactId ) && Objects.equals( version, that.version )
+            && type.equals( that.type ) && Objects.equals( classifier, that.classifier );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hashCode;
+    }
+
+    /**
+     * @see org.apache.maven.artifact.DefaultArtifact#toString()
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder sb =
+            new StringBuilder().append( groupId ).append( ':' ).append( artifactId ).append( ':' ).append( type );
+
+        if ( classifier != null )
+        {
+            sb.append( ':' ).append( classifier );
+        }
+
+        sb.append( ':' ).append( version );
+
+        return sb.toString();
+    }
+}
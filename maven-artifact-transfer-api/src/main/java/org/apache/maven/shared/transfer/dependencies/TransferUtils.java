@@ -25,6 +25,7 @@ import org.apache.maven.model.Model;
 import org.apache.maven.model.Parent;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.model.ReportPlugin;
+import org.apache.maven.shared.transfer.support.CoordinateInterner;
 
 /**
  * Utility class to convert different things like {@link Dependency}, {@link Extension}, {@link Model}, {@link Parent},
@@ -134,4 +135,139 @@ public final class TransferUtils
         return coordinate;
     }
 
+    /**
+     * Parses coordinates in the format {@code <groupId>:<artifactId>[:<type>[:<classifier>]]:<version>} in a
+     * single pass, without regular expressions. Only the parts of the coordinates are allocated.
+     *
+     * @param coordinates The coordinates to parse, not <code>null</code>.
+     * @return the parsed {@link DependableCoordinate}, with type <code>jar</code> if it is omitted or empty.
+     * @throws IllegalArgumentException if the coordinates do not have the expected format.
+     * @since 2.0.0
+     */
+    public static ImmutableDependableCoordinate parseDependableCoordinate( CharSequence coordinates )
+    {
+        return parseDependableCoordinate( coordinates, null );
+    }
+
+    /**
+     * Parses coordinates like {@link #parseDependableCoordinate(CharSequence)}, sharing the result and its strings
+     * with other users of the interner.
+     *
+     * @param coordinates The coordinates to parse, not <code>null</code>.
+     * @param interner The interner to use, may be <code>null</code>.
+     * @return the parsed {@link DependableCoordinate}.
+     * @throws IllegalArgumentException if the coordinates do not have the expected format.
+     * @since 2.0.0
+     */
+    public static ImmutableDependableCoordinate parseDependableCoordinate( CharSequence coordinates,
+                                                                           CoordinateInterner interner )
+    {
+        int length = coordinates.length();
+        int first = -1;
+        int second = -1;
+        int third = -1;
+        int fourth = -1;
+        for ( int i = 0; i < length; i++ )
+        {
+            char c = coordinates.charAt( i );
+            if ( c == ':' )
+            {
+                if ( first < 0 )
+                {
+                    first = i;
+                }
+                else if ( second < 0 )
+                {
+                    second = i;
+                }
+                else if ( third < 0 )
+                {
+                    third = i;
+                }
+                else if ( fourth < 0 )
+                {
+                    fourth = i;
+                }
+                else
+                {
+                    throw badDependableCoordinate( coordinates );
+                }
+            }
+            else if ( c == ' ' )
+            {
+                throw badDependableCoordinate( coordinates );
+            }
+        }
+        if ( second < 0 )
+        {
+            throw badDependableCoordinate( coordinates );
+        }
+
+        int versionStart = ( fourth >= 0 ? fourth : third >= 0 ? third : second ) + 1;
+        String type = null;
+        String classifier = null;
+        if ( third >= 0 )
+        {
+            type = third > second + 1 ? coordinates.subSequence( second + 1, third ).toString() : null;
+        }
+        if ( fourth >= 0 )
+        {
+            if ( fourth == third + 1 )
+            {
+                throw badDependableCoordinate( coordinates );
+            }
+            classifier = coordinates.subSequence( third + 1, fourth ).toString();
+        }
+        if ( first == 0 || second == first + 1 || versionStart == length )
+        {
+            throw badDependableCoordinate( coordinates );
+        }
+
+        ImmutableDependableCoordinate coordinate =
+            new ImmutableDependableCoordinate( coordinates.subSequence( 0, first ).toString(),
+                       coordinates.subSequence( first + 1, second ).toString(),
+                       coordinates.subSequence( versionStart, length ).toString(), type, classifier );
+        return interner != null ? interner.intern( coordinate ) : coordinate;
+    }
+
+    /**
+     * Formats the coordinates in the format read by {@link #parseDependableCoordinate(CharSequence)}, i.e.
+     * {@code <groupId>:<artifactId>:<type>[:<classifier>]:<version>}.
+     *
+     * @param coordinate The {@link DependableCoordinate} to format, not <code>null</code>.
+     * @return the formatted coordinates.
+     * @since 2.0.0
+     */
+    public static String formatDependableCoordinate( DependableCoordinate coordinate )
+    {
+        return formatDependableCoordinate( new StringBuilder(), coordinate ).toString();
+    }
+
+    /**
+     * Appends the coordinates formatted like {@link #formatDependableCoordinate(DependableCoordinate)} to a buffer,
+     * so a caller writing many coordinates can reuse the buffer.
+     *
+     * @param buffer The buffer to append to, not <code>null</code>.
+     * @param coordinate The {@link DependableCoordinate} to format, not <code>null</code>.
+     * @return the passed buffer.
+     * @since 2.0.0
+     */
+    public static StringBuilder formatDependableCoordinate( StringBuilder buffer, DependableCoordinate coordinate )
+    {
+        buffer.append( coordinate.getGroupId() ).append( ':' ).append( coordinate.getArtifactId() ).append( ':' )
+            .append( coordinate.getType() );
+        String classifier = coordinate.getClassifier();
+        if ( classifier != null && !classifier.isEmpty() )
+        {
+            buffer.append( ':' ).append( classifier );
+        }
+        return buffer.append( ':' ).append( coordinate.getVersion() );
+    }
+
+    private static IllegalArgumentException badDependableCoordinate( CharSequence coordinates )
+    {
+        return new IllegalArgumentException( "Bad dependable coordinates " + coordinates
+            + ", expected format is <groupId>:<artifactId>[:<type>[:<classifier>]]"
+            + ":<version>" );
+    }
 }
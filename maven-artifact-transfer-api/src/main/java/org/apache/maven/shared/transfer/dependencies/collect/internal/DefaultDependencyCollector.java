@@ -28,21 +28,24 @@ import org.apache.maven.shared.transfer.dependencies.collect.DependencyCollector
 import org.apache.maven.shared.transfer.dependencies.collect.DependencyCollectorException;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
+import org.codehaus.plexus.personality.plexus.lifecycle.phase.Initializable;
 
 import java.util.Map;
 
-import static org.apache.maven.shared.transfer.support.Selector.selectDelegate;
+import static org.apache.maven.shared.transfer.support.Selector.requireDelegate;
 
 /**
  *
  */
 @Component( role = DependencyCollector.class, hint = "default" )
 public class DefaultDependencyCollector
-        implements DependencyCollector
+        implements DependencyCollector, Initializable
 {
     @Requirement( role = DependencyCollectorDelegate.class )
     private Map<String, DependencyCollectorDelegate> delegates;
 
+    private DependencyCollectorDelegate delegate;
+
     public DefaultDependencyCollector()
     {
     }
@@ -50,6 +53,16 @@ public class DefaultDependencyCollector
     public DefaultDependencyCollector( Map<String, DependencyCollectorDelegate> delegates )
     {
         this.delegates = delegates;
+        this.delegate = requireDelegate( delegates );
+    }
+
+    /**
+     * Selects the delegate of the runtime once, after the delegates have been injected.
+     */
+    @Override
+    public void initialize()
+    {
+        delegate = requireDelegate( delegates );
     }
 
     @Override
@@ -57,7 +70,7 @@ public class DefaultDependencyCollector
                                                 Dependency root ) throws DependencyCollectorException
     {
         validateParameters( buildingRequest, root );
-        return selectDelegate( delegates ).collectDependencies( buildingRequest, root );
+        return delegate.collectDependencies( buildingRequest, root );
     }
 
     @Override
@@ -65,7 +78,7 @@ public class DefaultDependencyCollector
                                                 DependableCoordinate root ) throws DependencyCollectorException
     {
         validateParameters( buildingRequest, root );
-        return selectDelegate( delegates ).collectDependencies( buildingRequest, root );
+        return delegate.collectDependencies( buildingRequest, root );
     }
 
     @Override
@@ -73,7 +86,7 @@ public class DefaultDependencyCollector
                                                 Model root ) throws DependencyCollectorException
     {
         validateParameters( buildingRequest, root );
-        return selectDelegate( delegates ).collectDependencies( buildingRequest, root );
+        return delegate.collectDependencies( buildingRequest, root );
     }
 
     private void validateParameters( ProjectBuildingRequest buildingRequest, DependableCoordinate root )
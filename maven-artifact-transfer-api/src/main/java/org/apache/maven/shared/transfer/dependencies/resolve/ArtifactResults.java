@@ -0,0 +1,115 @@
+package org.apache.maven.shared.transfer.dependencies.resolve;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult;
+import org.apache.maven.shared.transfer.artifact.resolve.ResolutionMetrics;
+
+/**
+ * The artifacts resolved by the {@link DependencyResolver}, as an unmodifiable list which wraps each provider specific
+ * result on first access only. Iterating it doesn't copy the results, and finding the first match doesn't wrap the
+ * others. Since it is a {@link RandomAccess} list, its size is known up front, which also applies to its stream on
+ * Java 8 and later.
+ *
+ * @param <T> the provider specific type of the results
+ * @since 2.0.0
+ */
+@Deprecated
+public abstract class ArtifactResults<T>
+    extends AbstractList<ArtifactResult>
+    implements RandomAccess, DependencyResult
+{
+    private final List<? extends T> results;
+
+    private final List<Exception> collectorExceptions;
+
+    private volatile ArtifactResult[] wrapped;
+
+    /**
+     * @param results the provider specific results
+     * @param collectorExceptions the exceptions that occurred while building the dependency graph
+     */
+    protected ArtifactResults( List<? extends T> results, List<Exception> collectorExceptions )
+    {
+        this.results = Objects.requireNonNull( results, "Null results" );
+        this.collectorExceptions = collectorExceptions != null
+            ? Collections.unmodifiableList( collectorExceptions )
+            : Collections.<Exception>emptyList();
+    }
+
+    /**
+     * @param result a provider specific result
+     * @return the wrapped result
+     */
+    protected abstract ArtifactResult wrap( T result );
+
+    @Override
+    public ArtifactResult get( int index )
+    {
+        ArtifactResult[] current = wrapped;
+        if ( current == null )
+        {
+            current = new ArtifactResult[results.size()];
+            wrapped = current;
+        }
+        // racing threads wrap the same result at worst twice, both wrappers being equivalent
+        ArtifactResult result = current[index];
+        if ( result == null )
+        {
+            result = wrap( results.get( index ) );
+            current[index] = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int size()
+    {
+        return results.size();
+    }
+
+    @Override
+    public List<Exception> getCollectorExceptions()
+    {
+        return collectorExceptions;
+    }
+
+    /**
+     * Adds up the metrics of all results, which wraps them all.
+     */
+    @Override
+    public ResolutionMetrics getMetrics()
+    {
+        List<ResolutionMetrics> metrics = new ArrayList<>( size() );
+        for ( ArtifactResult result : this )
+        {
+            metrics.add( result.getMetrics() );
+        }
+        return ResolutionMetrics.sum( metrics );
+    }
+}
@@ -43,7 +43,7 @@ public interface DependencyResolver
      * @param buildingRequest {@link ProjectBuildingRequest}
      * @param coordinate {@link DependableCoordinate}
      * @param filter {@link TransformableFilter} (can be {@code null}).
-     * @return the resolved dependencies.
+     * @return the resolved dependencies, an {@link ArtifactResults} list.
      * @throws DependencyResolverException in case of an error.
      */
     Iterable<ArtifactResult> resolveDependencies( ProjectBuildingRequest buildingRequest,
@@ -59,7 +59,7 @@ public interface DependencyResolver
      * @param buildingRequest {@link ProjectBuildingRequest}
      * @param model {@link Model}
      * @param filter {@link TransformableFilter} (can be {@code null}).
-     * @return the resolved dependencies.
+     * @return the resolved dependencies, an {@link ArtifactResults} list.
      * @throws DependencyResolverException in case of an error.
      */
     Iterable<ArtifactResult> resolveDependencies( ProjectBuildingRequest buildingRequest, Model model,
@@ -71,7 +71,7 @@ public interface DependencyResolver
      * @param dependencies the dependencies to resolve, can be {@code null}
      * @param managedDependencies managed dependencies, can be {@code null}
      * @param filter a filter, can be {@code null}
-     * @return the resolved dependencies.
+     * @return the resolved dependencies, an {@link ArtifactResults} list.
      * @throws DependencyResolverException in case of an error.
      */
     Iterable<ArtifactResult> resolveDependencies( ProjectBuildingRequest buildingRequest,
@@ -21,6 +21,8 @@ package org.apache.maven.shared.transfer.dependencies.resolve;
 
 import java.util.List;
 
+import org.apache.maven.shared.transfer.artifact.resolve.ResolutionMetrics;
+
 /**
  * 
  * @author Robert Scholte
@@ -35,4 +37,12 @@ public interface DependencyResult
      * @return The list of exceptions {@link Exception}.
      */
     List<Exception> getCollectorExceptions();
+
+    /**
+     * Gets the metrics of all resolved artifacts added up.
+     *
+     * @return The {@link ResolutionMetrics}, never {@code null}.
+     * @since 2.0.0
+     */
+    ResolutionMetrics getMetrics();
 }
@@ -29,22 +29,25 @@ import org.apache.maven.shared.transfer.dependencies.resolve.DependencyResolver;
 import org.apache.maven.shared.transfer.dependencies.resolve.DependencyResolverException;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
+import org.codehaus.plexus.personality.plexus.lifecycle.phase.Initializable;
 
 import java.util.Collection;
 import java.util.Map;
 
-import static org.apache.maven.shared.transfer.support.Selector.selectDelegate;
+import static org.apache.maven.shared.transfer.support.Selector.requireDelegate;
 
 /**
  *
  */
 @Component( role = DependencyResolver.class, hint = "default" )
 public class DefaultDependencyResolver
-        implements DependencyResolver
+        implements DependencyResolver, Initializable
 {
     @Requirement( role = DependencyResolverDelegate.class )
     private Map<String, DependencyResolverDelegate> delegates;
 
+    private DependencyResolverDelegate delegate;
+
     public DefaultDependencyResolver()
     {
     }
@@ -52,6 +55,16 @@ public class DefaultDependencyResolver
     public DefaultDependencyResolver( Map<String, DependencyResolverDelegate> delegates )
     {
         this.delegates = delegates;
+        this.delegate = requireDelegate( delegates );
+    }
+
+    /**
+     * Selects the delegate of the runtime once, after the delegates have been injected.
+     */
+    @Override
+    public void initialize()
+    {
+        delegate = requireDelegate( delegates );
     }
 
     @Override
@@ -61,7 +74,7 @@ public class DefaultDependencyResolver
             throws DependencyResolverException
     {
         validateParameters( buildingRequest, coordinate );
-        return selectDelegate( delegates ).resolveDependencies( buildingRequest, coordinate, filter );
+        return delegate.resolveDependencies( buildingRequest, coordinate, filter );
     }
 
     @Override
@@ -71,7 +84,7 @@ public class DefaultDependencyResolver
             throws DependencyResolverException
     {
         validateParameters( buildingRequest, model );
-        return selectDelegate( delegates ).resolveDependencies( buildingRequest, model, filter );
+        return delegate.resolveDependencies( buildingRequest, model, filter );
     }
 
     @Override
@@ -82,7 +95,7 @@ public class DefaultDependencyResolver
             throws DependencyResolverException
     {
         validateBuildingRequest( buildingRequest );
-        return selectDelegate( delegates ).resolveDependencies(
+        return delegate.resolveDependencies(
                 buildingRequest, dependencies, managedDependencies, filter );
     }
 
@@ -0,0 +1,35 @@
+package org.apache.maven.shared.transfer.graph;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+/**
+ * A {@link DependencyVisitor} which can be called from several threads at the same time, as done by the
+ * {@link ParallelDependencyTraversal}. For a single node, {@link #visitEnter(DependencyNode)} happens before the visit
+ * of its children, which happens before {@link #visitLeave(DependencyNode)}, but the subtrees of sibling nodes are
+ * visited concurrently and in no particular order.
+ *
+ * @since 2.0.0
+ */
+@Deprecated
+public interface ConcurrentDependencyVisitor
+    extends DependencyVisitor
+{
+}
@@ -0,0 +1,295 @@
+package org.apache.maven.shared.transfer.graph;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.shared.transfer.artifact.ArtifactCoordinate;
+import org.apache.maven.shared.transfer.artifact.ImmutableArtifactCoordinate;
+import org.apache.maven.shared.transfer.support.CoordinateInterner;
+
+/**
+ * An immutable and compact copy of a dependency graph, e.g. of the root of a
+ * {@link org.apache.maven.shared.transfer.collection.CollectResult}. Unlike the {@link DependencyNode} tree, which
+ * holds on to the whole graph of the repository system, a snapshot only keeps the coordinate, scope and optional flag
+ * of each node, so many graphs can be cached at little cost.
+ * <p>
+ * The nodes are numbered breadth first, the root being {@link #ROOT}, and their data is kept in parallel arrays
+ * indexed by node. The children of all nodes are kept in a single array, those of node <code>n</code> ranging from
+ * offset <code>n</code> to offset <code>n + 1</code>. A node reached through several parents is stored once, so
+ * shared sub graphs and cycles are preserved. The coordinates are interned, pass the same
+ * {@link CoordinateInterner} when taking several snapshots to share the coordinates between them.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@Deprecated
+public final class DependencyGraphSnapshot
+{
+    /**
+     * The index of the root node.
+     */
+    public static final int ROOT = 0;
+
+    private static final byte OPTIONAL_UNKNOWN = 0;
+
+    private static final byte OPTIONAL_FALSE = 1;
+
+    private static final byte OPTIONAL_TRUE = 2;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final ImmutableArtifactCoordinate[] coordinates;
+
+    private final String[] scopeTable;
+
+    private final byte[] scopes;
+
+    private final byte[] optionals;
+
+    private final int[] childOffsets;
+
+    private final int[] children;
+
+    private DependencyGraphSnapshot( ImmutableArtifactCoordinate[] coordinates, String[] scopeTable, byte[] scopes,
+                                     byte[] optionals, int[] childOffsets, int[] children )
+    {
+        this.coordinates = coordinates;
+        this.scopeTable = scopeTable;
+        this.scopes = scopes;
+        this.optionals = optionals;
+        this.childOffsets = childOffsets;
+        this.children = children;
+    }
+
+    /**
+     * Takes a snapshot of the graph, sharing the coordinates within the graph only.
+     *
+     * @param root the root of the graph, not {@code null}
+     * @return the snapshot
+     */
+    public static DependencyGraphSnapshot of( DependencyNode root )
+    {
+        return of( root, new CoordinateInterner() );
+    }
+
+    /**
+     * Takes a snapshot of the graph, sharing the coordinates through the interner.
+     *
+     * @param root the root of the graph, not {@code null}
+     * @param interner the interner of the coordinates, not {@code null}
+     * @return the snapshot
+     * @throws IllegalArgumentException if the graph uses more than {@link Byte#MAX_VALUE} distinct scopes
+     */
+    public static DependencyGraphSnapshot of( DependencyNode root, CoordinateInterner interner )
+    {
+        Objects.requireNonNull( root, "Null root" );
+        Objects.requireNonNull( interner, "Null interner" );
+
+        // the list of nodes is the breadth first queue, so the children of each node are appended contiguously
+        List<DependencyNode> nodes = new ArrayList<>();
+        Map<DependencyNode, Integer> indices = new IdentityHashMap<>();
+        nodes.add( root );
+        indices.put( root, ROOT );
+
+        int[] childOffsets = new int[INITIAL_CAPACITY];
+        int[] children = new int[INITIAL_CAPACITY];
+        int edgeCount = 0;
+        for ( int node = 0; node < nodes.size(); node++ )
+        {
+            if ( node + 1 >= childOffsets.length )
+            {
+                childOffsets = Arrays.copyOf( childOffsets, childOffsets.length * 2 );
+            }
+            childOffsets[node] = edgeCount;
+
+            for ( DependencyNode child : nodes.get( node ).getChildren() )
+            {
+                Integer index = indices.get( child );
+                if ( index == null )
+                {
+                    index = nodes.size();
+                    indices.put( child, index );
+                    nodes.add( child );
+                }
+                if ( edgeCount == children.length )
+                {
+                    children = Arrays.copyOf( children, children.length * 2 );
+                }
+                children[edgeCount++] = index;
+            }
+        }
+        int nodeCount = nodes.size();
+        childOffsets[nodeCount] = edgeCount;
+
+        ImmutableArtifactCoordinate[] coordinates = new ImmutableArtifactCoordinate[nodeCount];
+        List<String> scopeTable = new ArrayList<>();
+        byte[] scopes = new byte[nodeCount];
+        byte[] optionals = new byte[nodeCount];
+        for ( int node = 0; node < nodeCount; node++ )
+        {
+            DependencyNode dependencyNode = nodes.get( node );
+            Artifact artifact = dependencyNode.getArtifact();
+            if ( artifact == null )
+            {
+                // the root of a graph collected from direct dependencies only, it has no dependency either
+                scopes[node] = scopeIndex( scopeTable, null );
+                continue;
+            }
+            coordinates[node] = interner.intern( toCoordinate( artifact ) );
+            scopes[node] = scopeIndex( scopeTable, interner.intern( dependencyNode.getScope() ) );
+            optionals[node] = toOptional( dependencyNode.getOptional() );
+        }
+
+        return new DependencyGraphSnapshot( coordinates, scopeTable.toArray( new String[scopeTable.size()] ),
+                                            scopes, optionals, Arrays.copyOf( childOffsets, nodeCount + 1 ),
+                                            Arrays.copyOf( children, edgeCount ) );
+    }
+
+    /**
+     * @return the number of nodes, at least one
+     */
+    public int getNodeCount()
+    {
+        return coordinates.length;
+    }
+
+    /**
+     * @return the number of parent to child edges
+     */
+    public int getEdgeCount()
+    {
+        return children.length;
+    }
+
+    /**
+     * @param node the index of the node
+     * @return the coordinate of the node, {@code null} for a root without artifact
+     */
+    public ArtifactCoordinate getCoordinate( int node )
+    {
+        return coordinates[node];
+    }
+
+    /**
+     * @param node the index of the node
+     * @return the scope of the node, may be {@code null}
+     */
+    public String getScope( int node )
+    {
+        return scopeTable[scopes[node]];
+    }
+
+    /**
+     * @param node the index of the node
+     * @return the optional flag of the node, {@code null} if unknown
+     */
+    public Boolean getOptional( int node )
+    {
+        switch ( optionals[node] )
+        {
+            case OPTIONAL_TRUE:
+                return Boolean.TRUE;
+            case OPTIONAL_FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @param node the index of the node
+     * @return the number of children of the node
+     */
+    public int getChildCount( int node )
+    {
+        return childOffsets[node + 1] - childOffsets[node];
+    }
+
+    /**
+     * @param node the index of the node
+     * @param position the position of the child, from zero to {@link #getChildCount(int)} exclusive
+     * @return the index of the child node
+     * @throws IndexOutOfBoundsException if there is no child at that position
+     */
+    public int getChild( int node, int position )
+    {
+        if ( position < 0 || position >= getChildCount( node ) )
+        {
+            throw new IndexOutOfBoundsException( "Node " + node + " has no child at " + position );
+        }
+        return children[childOffsets[node] + position];
+    }
+
+    /**
+     * @param node the index of the node
+     * @return a copy of the indices of the children of the node
+     */
+    public int[] getChildren( int node )
+    {
+        return Arrays.copyOfRange( children, childOffsets[node], childOffsets[node + 1] );
+    }
+
+    @Override
+    public String toString()
+    {
+        return "DependencyGraphSnapshot{root=" + coordinates[ROOT] + ", nodes=" + getNodeCount() + ", edges="
+            + getEdgeCount() + "}";
+    }
+
+    private static ImmutableArtifactCoordinate toCoordinate( Artifact artifact )
+    {
+        String extension = artifact.getArtifactHandler() != null ? artifact.getArtifactHandler().getExtension()
+                        : artifact.getType();
+        return new ImmutableArtifactCoordinate( artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion(),
+                                                extension, artifact.getClassifier() );
+    }
+
+    private static byte scopeIndex( List<String> scopeTable, String scope )
+    {
+        int index = scopeTable.indexOf( scope );
+        if ( index < 0 )
+        {
+            if ( scopeTable.size() == Byte.MAX_VALUE )
+            {
+                throw new IllegalArgumentException( "More than " + Byte.MAX_VALUE + " distinct scopes" );
+            }
+            index = scopeTable.size();
+            scopeTable.add( scope );
+        }
+        return (byte) index;
+    }
+
+    private static byte toOptional( Boolean optional )
+    {
+        if ( optional == null )
+        {
+            return OPTIONAL_UNKNOWN;
+        }
+        return optional ? OPTIONAL_TRUE : OPTIONAL_FALSE;
+    }
+}
@@ -61,7 +61,8 @@ public interface DependencyNode
     String getScope();
 
     /**
-     * Traverses this node and potentially its children using the specified visitor.
+     * Traverses this node and potentially its children using the specified visitor. A node reached through several
+     * paths is visited once per path, see {@link IterativeDependencyTraversal} to visit every node only once.
      *
      * @param visitor The visitor to call back, must not be {@code null}.
      * @return {@code true} to visit siblings nodes of this node as well, {@code false} to skip siblings.
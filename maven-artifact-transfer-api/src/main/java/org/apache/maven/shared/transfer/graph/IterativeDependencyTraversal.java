@@ -0,0 +1,252 @@
+package org.apache.maven.shared.transfer.graph;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.maven.artifact.Artifact;
+
+/**
+ * Visits a dependency graph depth first with an explicit stack instead of recursion, so deep chains can't overflow the
+ * thread stack. The visitor sees the same sequence of calls as with {@link DependencyNode#accept(DependencyVisitor)},
+ * except for the nodes skipped by the {@link Mode}, which are neither entered nor left.
+ *
+ * @since 2.0.0
+ */
+@Deprecated
+public final class IterativeDependencyTraversal
+{
+    /**
+     * Which nodes are visited again when they are reached through another path.
+     */
+    public enum Mode
+    {
+        /**
+         * Visit a node once for every path leading to it, only skipping a node which is already on the current path.
+         * This is the behavior of {@link DependencyNode#accept(DependencyVisitor)}, made safe for cycles. A node
+         * shared by several parents is walked again with its whole subgraph for every path, so the cost grows
+         * exponentially with the number of nested diamonds. The stack entries are reused from one path to the next and
+         * the current path is searched in place, only deep paths are tracked in a set, so a walk allocates next to
+         * nothing per visited node.
+         */
+        ALL_PATHS,
+
+        /**
+         * Visit every node once, identified by identity, so graphs with shared nodes are walked in linear time. Use it
+         * rather than {@link DependencyNode#accept(DependencyVisitor)} when the visitor doesn't need every path.
+         */
+        EACH_NODE_ONCE,
+
+        /**
+         * Visit the first node of every artifact only, identified by {@link Artifact#getId()}. Nodes without artifact
+         * are identified by identity.
+         */
+        EACH_ARTIFACT_ONCE
+    }
+
+    // the depth up to which the current path is searched for cycles rather than tracked in a set
+    private static final int PATH_SCAN_DEPTH = 64;
+
+    private static final int INITIAL_DEPTH = 16;
+
+    private IterativeDependencyTraversal()
+    {
+    }
+
+    /**
+     * @param root the root of the graph, must not be {@code null}
+     * @param visitor the visitor, must not be {@code null}
+     * @param mode the traversal mode, must not be {@code null}
+     * @return the result of {@link DependencyVisitor#visitLeave(DependencyNode)} for the root
+     */
+    public static boolean accept( DependencyNode root, DependencyVisitor visitor, Mode mode )
+    {
+        Objects.requireNonNull( root, "Null root" );
+        Objects.requireNonNull( visitor, "Null visitor" );
+        Objects.requireNonNull( mode, "Null mode" );
+
+        if ( mode == Mode.ALL_PATHS )
+        {
+            return acceptAllPaths( root, visitor );
+        }
+
+        Set<DependencyNode> nodes =
+            Collections.newSetFromMap( new IdentityHashMap<DependencyNode, Boolean>() );
+        Set<String> artifacts = mode == Mode.EACH_ARTIFACT_ONCE ? new HashSet<String>() : null;
+        Deque<Frame> stack = new ArrayDeque<>();
+
+        mark( root, mode, nodes, artifacts );
+        stack.push( new Frame().enter( root, visitor ) );
+        while ( true )
+        {
+            Frame frame = stack.peek();
+            if ( frame.index < frame.children.size() )
+            {
+                DependencyNode child = frame.children.get( frame.index++ );
+                if ( mark( child, mode, nodes, artifacts ) )
+                {
+                    stack.push( new Frame().enter( child, visitor ) );
+                }
+                continue;
+            }
+
+            stack.pop();
+            boolean result = visitor.visitLeave( frame.node );
+            if ( stack.isEmpty() )
+            {
+                return result;
+            }
+            if ( !result )
+            {
+                // skip the next siblings
+                Frame parent = stack.peek();
+                parent.index = parent.children.size();
+            }
+        }
+    }
+
+    /**
+     * Walks every path, the frames of the stack are kept in an array and reused by the next path reaching their depth.
+     */
+    private static boolean acceptAllPaths( DependencyNode root, DependencyVisitor visitor )
+    {
+        Frame[] frames = new Frame[INITIAL_DEPTH];
+        // the nodes on the current path, only tracked once a path got too deep to be searched
+        Set<DependencyNode> path = null;
+        int depth = 0;
+
+        frames[0] = new Frame().enter( root, visitor );
+        while ( true )
+        {
+            Frame frame = frames[depth];
+            if ( frame.index < frame.children.size() )
+            {
+                DependencyNode child = frame.children.get( frame.index++ );
+                if ( path != null ? path.contains( child ) : isOnPath( child, frames, depth ) )
+                {
+                    continue;
+                }
+                depth++;
+                if ( depth == frames.length )
+                {
+                    frames = Arrays.copyOf( frames, 2 * depth );
+                }
+                if ( frames[depth] == null )
+                {
+                    frames[depth] = new Frame();
+                }
+                if ( path == null && depth >= PATH_SCAN_DEPTH )
+                {
+                    path = Collections.newSetFromMap( new IdentityHashMap<DependencyNode, Boolean>() );
+                    for ( int i = 0; i < depth; i++ )
+                    {
+                        path.add( frames[i].node );
+                    }
+                }
+                if ( path != null )
+                {
+                    path.add( child );
+                }
+                frames[depth].enter( child, visitor );
+                continue;
+            }
+
+            DependencyNode node = frame.node;
+            frame.clear();
+            if ( path != null )
+            {
+                path.remove( node );
+            }
+            boolean result = visitor.visitLeave( node );
+            if ( depth == 0 )
+            {
+                return result;
+            }
+            depth--;
+            if ( !result )
+            {
+                // skip the next siblings
+                Frame parent = frames[depth];
+                parent.index = parent.children.size();
+            }
+        }
+    }
+
+    private static boolean isOnPath( DependencyNode node, Frame[] frames, int depth )
+    {
+        for ( int i = depth; i >= 0; i-- )
+        {
+            if ( frames[i].node == node )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true} if the node must be visited, {@code false} if the mode skips it
+     */
+    private static boolean mark( DependencyNode node, Mode mode, Set<DependencyNode> nodes, Set<String> artifacts )
+    {
+        if ( mode == Mode.EACH_ARTIFACT_ONCE )
+        {
+            Artifact artifact = node.getArtifact();
+            if ( artifact != null )
+            {
+                return artifacts.add( artifact.getId() );
+            }
+        }
+        return nodes.add( node );
+    }
+
+    private static final class Frame
+    {
+        private DependencyNode node;
+
+        private List<DependencyNode> children;
+
+        private int index;
+
+        private Frame enter( DependencyNode node, DependencyVisitor visitor )
+        {
+            this.node = node;
+            this.children =
+                visitor.visitEnter( node ) ? node.getChildren() : Collections.<DependencyNode>emptyList();
+            this.index = 0;
+            return this;
+        }
+
+        private void clear()
+        {
+            node = null;
+            children = null;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.apache.maven.shared.transfer.graph;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Visits a dependency graph with a {@link ConcurrentDependencyVisitor}, forking the subtrees of sibling nodes on a
+ * {@link ForkJoinPool}. Unlike {@link DependencyNode#accept(DependencyVisitor)}, a <code>false</code> returned by
+ * {@link DependencyVisitor#visitLeave(DependencyNode)} does not skip the next siblings, which may already be visited
+ * at that time. A <code>false</code> returned by {@link DependencyVisitor#visitEnter(DependencyNode)} still skips the
+ * children of the node.
+ *
+ * @since 2.0.0
+ */
+@Deprecated
+public final class ParallelDependencyTraversal
+{
+    private ParallelDependencyTraversal()
+    {
+    }
+
+    /**
+     * Visits the graph on a new pool with one thread per available processor, which is shut down afterwards.
+     *
+     * @param root the root of the graph, must not be {@code null}
+     * @param visitor the visitor, must not be {@code null}
+     * @return the result of {@link DependencyVisitor#visitLeave(DependencyNode)} for the root
+     */
+    public static boolean accept( DependencyNode root, ConcurrentDependencyVisitor visitor )
+    {
+        ForkJoinPool pool = new ForkJoinPool();
+        try
+        {
+            return accept( root, visitor, pool );
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Visits the graph on the given pool. A {@link RuntimeException} or {@link Error} thrown by the visitor is
+     * rethrown on the calling thread, possibly as the cause of a new exception of the same type.
+     *
+     * @param root the root of the graph, must not be {@code null}
+     * @param visitor the visitor, must not be {@code null}
+     * @param pool the pool to visit the subtrees on, must not be {@code null}
+     * @return the result of {@link DependencyVisitor#visitLeave(DependencyNode)} for the root
+     */
+    public static boolean accept( DependencyNode root, ConcurrentDependencyVisitor visitor, ForkJoinPool pool )
+    {
+        Objects.requireNonNull( root, "Null root" );
+        Objects.requireNonNull( visitor, "Null visitor" );
+        Objects.requireNonNull( pool, "Null pool" );
+
+        VisitAction action = new VisitAction( root, visitor );
+        pool.invoke( action );
+        return action.result;
+    }
+
+    private static final class VisitAction
+        extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final transient DependencyNode node;
+
+        private final transient ConcurrentDependencyVisitor visitor;
+
+        private boolean result;
+
+        private VisitAction( DependencyNode node, ConcurrentDependencyVisitor visitor )
+        {
+            this.node = node;
+            this.visitor = visitor;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if ( visitor.visitEnter( node ) )
+            {
+                List<DependencyNode> children = node.getChildren();
+                if ( children.size() == 1 )
+                {
+                    new VisitAction( children.get( 0 ), visitor ).compute();
+                }
+                else if ( !children.isEmpty() )
+                {
+                    List<VisitAction> actions = new ArrayList<>( children.size() );
+                    for ( DependencyNode child : children )
+                    {
+                        actions.add( new VisitAction( child, visitor ) );
+                    }
+                    invokeAll( actions );
+                }
+            }
+            result = visitor.visitLeave( node );
+        }
+    }
+}
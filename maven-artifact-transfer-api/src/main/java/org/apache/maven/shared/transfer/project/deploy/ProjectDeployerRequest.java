@@ -31,6 +31,12 @@ public class ProjectDeployerRequest
 
     private int retryFailedDeploymentCount;
 
+    private int maxRetryFailedDeploymentCount = 10;
+
+    private long retryBackoffMillis = 1000L;
+
+    private int parallelDeploymentThreads = 1;
+
     // From DeployMojo
 
     private MavenProject project;
@@ -50,6 +56,10 @@ public class ProjectDeployerRequest
     }
 
     /**
+     * The number of attempts to deploy an artifact, bounded by the maxRetryFailedDeploymentCount. The artifacts are
+     * deployed in one request, a retry of a release only deploys again the artifacts which failed to upload. A retry
+     * of a SNAPSHOT deploys all artifacts again, as the snapshot metadata is generated from the deployed artifacts.
+     *
      * @param theRetryFailedDeploymentCountToBeSet the retryFailedDeploymentCount to set
      * @return {@link ProjectDeployerRequest} for chaining.
      */
@@ -59,6 +69,80 @@ public class ProjectDeployerRequest
         return this;
     }
 
+    /**
+     * @return the upper bound of the retryFailedDeploymentCount
+     * @since 2.0.0
+     */
+    public int getMaxRetryFailedDeploymentCount()
+    {
+        return maxRetryFailedDeploymentCount;
+    }
+
+    /**
+     * @param theMaxRetryFailedDeploymentCountToBeSet the upper bound of the retryFailedDeploymentCount to set, the
+     *            default is <code>10</code>
+     * @return {@link ProjectDeployerRequest} for chaining.
+     * @since 2.0.0
+     */
+    public ProjectDeployerRequest setMaxRetryFailedDeploymentCount( int theMaxRetryFailedDeploymentCountToBeSet )
+    {
+        this.maxRetryFailedDeploymentCount = theMaxRetryFailedDeploymentCountToBeSet;
+        return this;
+    }
+
+    /**
+     * @return the base delay in milliseconds before retrying a failed deployment
+     * @since 2.0.0
+     */
+    public long getRetryBackoffMillis()
+    {
+        return retryBackoffMillis;
+    }
+
+    /**
+     * The delay before a retry doubles with every failed attempt, starting at this base delay, with a random jitter of
+     * up to half the delay. The default is <code>1000</code>, <code>0</code> retries immediately.
+     *
+     * @param theRetryBackoffMillisToBeSet the base delay in milliseconds to set
+     * @return {@link ProjectDeployerRequest} for chaining.
+     * @since 2.0.0
+     */
+    public ProjectDeployerRequest setRetryBackoffMillis( long theRetryBackoffMillisToBeSet )
+    {
+        this.retryBackoffMillis = theRetryBackoffMillisToBeSet;
+        return this;
+    }
+
+    /**
+     * @return the number of threads used to deploy the artifacts of the project concurrently
+     * @since 2.0.0
+     */
+    public int getParallelDeploymentThreads()
+    {
+        return parallelDeploymentThreads;
+    }
+
+    /**
+     * Upload the attached artifacts of a release project concurrently, with at most the given number of threads. Each
+     * attachment is deployed on its own with its checksums, without the metadata attached to the artifact. The main
+     * artifact and the POM are deployed last in a single request, so the <code>maven-metadata.xml</code> listing the
+     * version is uploaded last. Attachments carrying metadata of their own are deployed with the main artifact.
+     * <p>
+     * The artifacts of a SNAPSHOT project are always deployed together, since they share the timestamp and the
+     * snapshot metadata of the deployment, and this setting is ignored for them. The default value <code>1</code>
+     * deploys all artifacts sequentially.
+     * </p>
+     *
+     * @param theParallelDeploymentThreadsToBeSet the number of threads to set
+     * @return {@link ProjectDeployerRequest} for chaining.
+     * @since 2.0.0
+     */
+    public ProjectDeployerRequest setParallelDeploymentThreads( int theParallelDeploymentThreadsToBeSet )
+    {
+        this.parallelDeploymentThreads = theParallelDeploymentThreadsToBeSet;
+        return this;
+    }
+
     /**
      * @return the project
      */
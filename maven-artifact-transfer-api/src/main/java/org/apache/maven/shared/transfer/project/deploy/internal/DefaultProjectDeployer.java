@@ -25,6 +25,7 @@ import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.project.artifact.ProjectArtifactMetadata;
 import org.apache.maven.shared.transfer.artifact.deploy.ArtifactDeployer;
 import org.apache.maven.shared.transfer.artifact.deploy.ArtifactDeployerException;
+import org.apache.maven.shared.transfer.artifact.deploy.internal.ArtifactUploader;
 import org.apache.maven.shared.transfer.project.NoFileAssignedException;
 import org.apache.maven.shared.transfer.project.deploy.ProjectDeployer;
 import org.apache.maven.shared.transfer.project.deploy.ProjectDeployerRequest;
@@ -35,8 +36,15 @@ import org.codehaus.plexus.component.annotations.Requirement;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  *
@@ -91,8 +99,6 @@ public class DefaultProjectDeployer
 
         artifact.setRepository( artifactRepository );
 
-        int retryFailedDeploymentCount = projectDeployerRequest.getRetryFailedDeploymentCount();
-
         List<Artifact> deployableArtifacts = new ArrayList<>();
         if ( isPomArtifact )
         {
@@ -120,9 +126,64 @@ public class DefaultProjectDeployer
             }
         }
 
-        deployableArtifacts.addAll( attachedArtifacts );
+        RetryPolicy retryPolicy = new RetryPolicy( projectDeployerRequest );
+        int parallelDeploymentThreads = projectDeployerRequest.getParallelDeploymentThreads();
+
+        if ( parallelDeploymentThreads > 1 && isUploadSupported( artifact, attachedArtifacts ) )
+        {
+            // upload the attachments without metadata, those carrying metadata are deployed with the main artifact
+            List<Artifact> uploadableArtifacts = new ArrayList<>( attachedArtifacts.size() );
+            for ( Artifact attachedArtifact : attachedArtifacts )
+            {
+                if ( attachedArtifact.getMetadataList().isEmpty() )
+                {
+                    uploadableArtifacts.add( attachedArtifact );
+                }
+                else
+                {
+                    deployableArtifacts.add( attachedArtifact );
+                }
+            }
+
+            uploadConcurrently( buildingRequest, uploadableArtifacts, artifactRepository, retryPolicy,
+                                parallelDeploymentThreads );
+
+            // main artifact and POM last, so the metadata is generated and uploaded once all attachments are uploaded
+            deploy( buildingRequest, deployableArtifacts, artifactRepository, retryPolicy, true );
+        }
+        else
+        {
+            deployableArtifacts.addAll( attachedArtifacts );
+
+            // A retry of a SNAPSHOT deploys all artifacts again, the snapshot metadata is generated from the artifacts
+            // of the deployment and would otherwise only list the retried ones.
+            deploy( buildingRequest, deployableArtifacts, artifactRepository, retryPolicy, !artifact.isSnapshot() );
+        }
+    }
 
-        deploy( buildingRequest, deployableArtifacts, artifactRepository, retryFailedDeploymentCount );
+    /**
+     * The attachments of a SNAPSHOT are never uploaded on their own: the repository system assigns them the timestamp
+     * of the deployment and lists them in the snapshot metadata, which requires deploying them together.
+     */
+    private boolean isUploadSupported( Artifact artifact, List<Artifact> attachedArtifacts )
+    {
+        if ( attachedArtifacts.isEmpty() )
+        {
+            return false;
+        }
+        if ( artifact.isSnapshot() )
+        {
+            logger.info( "Deploying the artifacts of the SNAPSHOT " + artifact.getId()
+                + " together, parallel deployment is only available for releases" );
+            return false;
+        }
+        if ( !( deployer instanceof ArtifactUploader ) )
+        {
+            logger.warn( "Deploying the artifacts of " + artifact.getId()
+                + " together, the artifact deployer does not support uploading without metadata" );
+            return false;
+        }
+        return true;
     }
 
     private void validateParameters( ProjectBuildingRequest buildingRequest,
@@ -143,31 +204,34 @@ public class DefaultProjectDeployer
         }
     }
 
+    /**
+     * Deploys the artifacts in one request. If <code>retryFailedOnly</code> is set, a retry only deploys the artifacts
+     * reported as failed by the deployer, or all of them if they are not known.
+     */
     private void deploy( ProjectBuildingRequest request, Collection<Artifact> artifacts,
-                         ArtifactRepository deploymentRepository, int retryFailedDeploymentCount )
+                         ArtifactRepository deploymentRepository, RetryPolicy retryPolicy, boolean retryFailedOnly )
         throws ArtifactDeployerException
     {
-
-        // for now retry means redeploy the complete artifacts collection
-        int retryFailedDeploymentCounter = Math.max( 1, Math.min( 10, retryFailedDeploymentCount ) );
+        Collection<Artifact> pendingArtifacts = artifacts;
         ArtifactDeployerException exception = null;
-        for ( int count = 0; count < retryFailedDeploymentCounter; count++ )
+        for ( int count = 0; count < retryPolicy.attempts; count++ )
         {
             try
             {
                 if ( count > 0 )
                 {
-                    logger.info( "Retrying deployment attempt " + ( count + 1 ) + " of "
-                        + retryFailedDeploymentCounter );
+                    long delay = retryPolicy.delayMillis( count );
+                    logger.info( "Retrying deployment of " + pendingArtifacts.size() + " artifacts, attempt "
+                        + ( count + 1 ) + " of " + retryPolicy.attempts + " in " + delay + " ms" );
+                    Thread.sleep( delay );
                 }
 
-                deployer.deploy( request, deploymentRepository, artifacts );
-                exception = null;
-                break;
+                deployer.deploy( request, deploymentRepository, pendingArtifacts );
+                return;
             }
             catch ( ArtifactDeployerException e )
             {
-                if ( count + 1 < retryFailedDeploymentCounter )
+                if ( count + 1 < retryPolicy.attempts )
                 {
                     logger.warn( "Encountered issue during deployment: " + e.getLocalizedMessage() );
                     logger.debug( e.getMessage() );
@@ -176,11 +240,195 @@ public class DefaultProjectDeployer
                 {
                     exception = e;
                 }
+                if ( retryFailedOnly )
+                {
+                    List<Artifact> failedArtifacts = new ArrayList<>( e.getFailedArtifacts() );
+                    failedArtifacts.retainAll( pendingArtifacts );
+                    if ( !failedArtifacts.isEmpty() )
+                    {
+                        pendingArtifacts = failedArtifacts;
+                    }
+                }
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+                throw new ArtifactDeployerException( "Interrupted while waiting to retry the deployment", e );
+            }
+        }
+        throw exception;
+    }
+
+    /**
+     * Uploads each artifact on its own, without metadata, with at most <code>threads</code> uploads running at the same
+     * time. All uploads are awaited, the first failure is thrown with the other failures added as suppressed.
+     */
+    private void uploadConcurrently( final ProjectBuildingRequest request, Collection<Artifact> artifacts,
+                                     final ArtifactRepository deploymentRepository, final RetryPolicy retryPolicy,
+                                     int threads )
+        throws ArtifactDeployerException
+    {
+        if ( artifacts.isEmpty() )
+        {
+            return;
+        }
+
+        logger.info( "Uploading " + artifacts.size() + " attached artifacts using " + threads + " threads" );
+
+        final ArtifactUploader uploader = (ArtifactUploader) deployer;
+        ExecutorService executor = Executors.newFixedThreadPool( Math.min( threads, artifacts.size() ) );
+        try
+        {
+            List<Future<Void>> futures = new ArrayList<>( artifacts.size() );
+            for ( final Artifact artifact : artifacts )
+            {
+                futures.add( executor.submit( new Callable<Void>()
+                {
+                    @Override
+                    public Void call()
+                        throws ArtifactDeployerException
+                    {
+                        upload( uploader, request, artifact, deploymentRepository, retryPolicy );
+                        return null;
+                    }
+                } ) );
+            }
+
+            ArtifactDeployerException exception = null;
+            for ( Future<Void> future : futures )
+            {
+                ArtifactDeployerException failure = await( future );
+                if ( failure != null )
+                {
+                    if ( exception == null )
+                    {
+                        exception = failure;
+                    }
+                    else
+                    {
+                        exception.addSuppressed( failure );
+                    }
+                }
+            }
+            if ( exception != null )
+            {
+                throw exception;
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private void upload( ArtifactUploader uploader, ProjectBuildingRequest request, Artifact artifact,
+                         ArtifactRepository deploymentRepository, RetryPolicy retryPolicy )
+        throws ArtifactDeployerException
+    {
+        ArtifactDeployerException exception = null;
+        for ( int count = 0; count < retryPolicy.attempts; count++ )
+        {
+            try
+            {
+                if ( count > 0 )
+                {
+                    long delay = retryPolicy.delayMillis( count );
+                    logger.info( "Retrying upload of " + artifact.getId() + ", attempt " + ( count + 1 ) + " of "
+                        + retryPolicy.attempts + " in " + delay + " ms" );
+                    Thread.sleep( delay );
+                }
+
+                uploader.upload( request, deploymentRepository, Collections.singletonList( artifact ) );
+                return;
+            }
+            catch ( ArtifactDeployerException e )
+            {
+                if ( count + 1 < retryPolicy.attempts )
+                {
+                    logger.warn( "Encountered issue during upload: " + e.getLocalizedMessage() );
+                    logger.debug( e.getMessage() );
+                }
+                if ( exception == null )
+                {
+                    exception = e;
+                }
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+                throw new ArtifactDeployerException( "Interrupted while waiting to retry the upload", e );
+            }
+        }
+        throw exception;
+    }
+
+    private static ArtifactDeployerException await( Future<Void> future )
+        throws ArtifactDeployerException
+    {
+        try
+        {
+            future.get();
+            return null;
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new ArtifactDeployerException( "Interrupted while waiting for the deployment", e );
+        }
+        catch ( ExecutionException e )
+        {
+            Throwable cause = e.getCause();
+            if ( cause instanceof ArtifactDeployerException )
+            {
+                return (ArtifactDeployerException) cause;
             }
+            if ( cause instanceof Error )
+            {
+                throw (Error) cause;
+            }
+            return new ArtifactDeployerException( cause.getMessage(), (Exception) cause );
+        }
+    }
+
+    /**
+     * The number of deployment attempts and the exponential backoff, with jitter, between them.
+     */
+    private static final class RetryPolicy
+    {
+        /**
+         * Upper bound of a single delay between two attempts.
+         */
+        private static final long MAX_DELAY_MILLIS = 60000L;
+
+        private final int attempts;
+
+        private final long backoffMillis;
+
+        private RetryPolicy( ProjectDeployerRequest projectDeployerRequest )
+        {
+            this.attempts = Math.max( 1, Math.min( projectDeployerRequest.getMaxRetryFailedDeploymentCount(),
+                                                   projectDeployerRequest.getRetryFailedDeploymentCount() ) );
+            this.backoffMillis = Math.max( 0L, projectDeployerRequest.getRetryBackoffMillis() );
         }
-        if ( exception != null )
+
+        /**
+         * @param retry the number of the retry, starting at 1
+         * @return a delay between half and all of <code>backoffMillis * 2^(retry - 1)</code>, at most
+         *         {@link #MAX_DELAY_MILLIS}
+         */
+        private long delayMillis( int retry )
         {
-            throw exception;
+            if ( backoffMillis == 0 )
+            {
+                return 0;
+            }
+            long delay = MAX_DELAY_MILLIS;
+            if ( retry - 1 < Long.numberOfLeadingZeros( backoffMillis ) - 1 )
+            {
+                delay = Math.min( MAX_DELAY_MILLIS, backoffMillis << ( retry - 1 ) );
+            }
+            long half = delay / 2;
+            return half + ThreadLocalRandom.current().nextLong( delay - half + 1 );
         }
     }
 }
@@ -37,8 +37,8 @@ import org.codehaus.plexus.component.annotations.Requirement;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
@@ -89,14 +89,16 @@ public class DefaultProjectInstaller
 
         ProjectArtifactMetadata metadata;
 
+        // install everything with a single request, so the local repository metadata is only written once
+        List<Artifact> installableArtifacts = new ArrayList<>( attachedArtifacts.size() + 1 );
+
         Collection<File> metadataFiles = new LinkedHashSet<>();
 
         if ( isPomArtifact )
         {
             if ( pomFile != null )
             {
-                installer.install( buildingRequest,
-                                   Collections.<Artifact>singletonList( new ProjectArtifact( project ) ) );
+                installableArtifacts.add( new ProjectArtifact( project ) );
                 addMetaDataFilesForArtifact( buildingRequest, artifact, metadataFiles );
             }
         }
@@ -114,7 +116,7 @@ public class DefaultProjectInstaller
             // but not package). We are designing in a proper solution for Maven 2.1
             if ( file != null && file.isFile() )
             {
-                installer.install( buildingRequest, Collections.singletonList( artifact ) );
+                installableArtifacts.add( artifact );
                 addMetaDataFilesForArtifact( buildingRequest, artifact, metadataFiles );
             }
             else if ( !attachedArtifacts.isEmpty() )
@@ -133,10 +135,17 @@ public class DefaultProjectInstaller
         for ( Artifact attached : attachedArtifacts )
         {
             logger.debug( "Installing artifact: {}", attached.getId() );
-            installer.install( buildingRequest, Collections.singletonList( attached ) );
+            installableArtifacts.add( attached );
             addMetaDataFilesForArtifact( buildingRequest, attached, metadataFiles );
         }
 
+        if ( installableArtifacts.isEmpty() )
+        {
+            return;
+        }
+
+        installer.install( buildingRequest, installableArtifacts );
+
     }
 
     private void validateParameters( ProjectBuildingRequest buildingRequest, ProjectInstallerRequest installerRequest )
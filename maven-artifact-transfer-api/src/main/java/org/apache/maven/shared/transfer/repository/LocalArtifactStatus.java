@@ -0,0 +1,113 @@
+package org.apache.maven.shared.transfer.repository;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.io.File;
+import java.util.Objects;
+
+import org.apache.maven.shared.transfer.artifact.ArtifactCoordinate;
+
+/**
+ * Whether the file of an artifact is present in the local repository, and if so its size and last modification time.
+ * Returned by {@link RepositoryManager#getLocalArtifactStatus(org.apache.maven.project.ProjectBuildingRequest,
+ * java.util.Collection)}.
+ *
+ * @since 2.0.0
+ */
+@Deprecated
+public final class LocalArtifactStatus
+{
+    private final ArtifactCoordinate coordinate;
+
+    private final File file;
+
+    private final boolean present;
+
+    private final long size;
+
+    private final long lastModified;
+
+    /**
+     * @param coordinate the coordinate of the artifact
+     * @param file the file of the artifact in the local repository
+     * @param present whether the file exists
+     * @param size the size of the file in bytes, ignored if not present
+     * @param lastModified the last modification time of the file in milliseconds, ignored if not present
+     */
+    public LocalArtifactStatus( ArtifactCoordinate coordinate, File file, boolean present, long size,
+                                long lastModified )
+    {
+        this.coordinate = Objects.requireNonNull( coordinate, "Null coordinate" );
+        this.file = Objects.requireNonNull( file, "Null file" );
+        this.present = present;
+        this.size = present ? size : -1L;
+        this.lastModified = present ? lastModified : 0L;
+    }
+
+    public ArtifactCoordinate getCoordinate()
+    {
+        return coordinate;
+    }
+
+    /**
+     * @return the file of the artifact in the local repository, which may not exist
+     */
+    public File getFile()
+    {
+        return file;
+    }
+
+    public boolean isPresent()
+    {
+        return present;
+    }
+
+    /**
+     * @return the size of the file in bytes, {@code -1} if not present
+     */
+    public long getSize()
+    {
+        return size;
+    }
+
+    /**
+     * @return the last modification time of the file in milliseconds since the epoch, {@code 0} if not present
+     */
+    public long getLastModified()
+    {
+        return lastModified;
+    }
+
+    /**
+     * @param timestamp a time in milliseconds since the epoch
+     * @return {@code true} if the file is present and was not modified before {@code timestamp}
+     */
+    public boolean isPresentSince( long timestamp )
+    {
+        return present && lastModified >= timestamp;
+    }
+
+    @Override
+    public String toString()
+    {
+        return coordinate + ( present ? " present, " + size + " bytes" : " missing" );
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.maven.shared.transfer.repository;
  */
 
 import java.io.File;
+import java.util.Collection;
+import java.util.List;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.metadata.ArtifactMetadata;
@@ -46,6 +48,32 @@ public interface RepositoryManager
      * @return the path for the local artifact.
      */
     String getPathForLocalArtifact( ProjectBuildingRequest buildingRequest, ArtifactCoordinate coordinate );
+
+    /**
+     * Computes the paths of many artifacts at once, which is cheaper than calling
+     * {@link #getPathForLocalArtifact(ProjectBuildingRequest, ArtifactCoordinate)} for each of them.
+     *
+     * @param buildingRequest {@link ProjectBuildingRequest}
+     * @param coordinates the {@link ArtifactCoordinate}s
+     * @return the paths for the local artifacts, in the order of the coordinates.
+     * @since 2.0.0
+     */
+    List<String> getPathsForLocalArtifacts( ProjectBuildingRequest buildingRequest,
+                                            Collection<? extends ArtifactCoordinate> coordinates );
+
+    /**
+     * Checks which of the artifacts are present in the local repository, probing their files in parallel. This is
+     * cheaper than checking the file of each path returned by
+     * {@link #getPathsForLocalArtifacts(ProjectBuildingRequest, Collection)}, and allows to skip the remote
+     * resolution of the artifacts which are already present.
+     *
+     * @param buildingRequest {@link ProjectBuildingRequest}
+     * @param coordinates the {@link ArtifactCoordinate}s
+     * @return the status of the local artifacts, in the order of the coordinates.
+     * @since 2.0.0
+     */
+    List<LocalArtifactStatus> getLocalArtifactStatus( ProjectBuildingRequest buildingRequest,
+                                                      Collection<? extends ArtifactCoordinate> coordinates );
     
     /**
      * @param buildingRequest {@link ProjectBuildingRequest}
@@ -55,7 +83,9 @@ public interface RepositoryManager
     String getPathForLocalMetadata( ProjectBuildingRequest buildingRequest, ArtifactMetadata metadata );
 
     /**
-     * Create a new {@code ProjectBuildingRequest} with an adjusted repository session.
+     * Create a new {@code ProjectBuildingRequest} with an adjusted repository session. Each call returns a new copy of
+     * the current state of the original session, while its local repository manager and repository cache are reused by
+     * later calls for the same original session and base directory.
      * 
      * @param request the project building request
      * @param basedir the base directory of the local repository
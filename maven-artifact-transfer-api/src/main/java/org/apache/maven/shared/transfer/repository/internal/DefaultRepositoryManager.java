@@ -25,35 +25,64 @@ import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.project.artifact.ProjectArtifactMetadata;
 import org.apache.maven.shared.transfer.artifact.ArtifactCoordinate;
 import org.apache.maven.shared.transfer.artifact.DefaultArtifactCoordinate;
+import org.apache.maven.shared.transfer.repository.LocalArtifactStatus;
 import org.apache.maven.shared.transfer.repository.RepositoryManager;
 import org.codehaus.plexus.component.annotations.Component;
 import org.codehaus.plexus.component.annotations.Requirement;
+import org.codehaus.plexus.personality.plexus.lifecycle.phase.Initializable;
 
 import java.io.File;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
-import static org.apache.maven.shared.transfer.support.Selector.selectDelegate;
+import static org.apache.maven.shared.transfer.support.Selector.requireDelegate;
 
 /**
  *
  */
 @Component( role = RepositoryManager.class, hint = "default" )
 public class DefaultRepositoryManager
-        implements RepositoryManager
+        implements RepositoryManager, Initializable
 {
     @Requirement( role = RepositoryManagerDelegate.class )
-    private Map<String, RepositoryManagerDelegate> delegate;
+    private Map<String, RepositoryManagerDelegate> delegates;
+
+    private RepositoryManagerDelegate delegate;
+
+    /**
+     * Selects the delegate of the runtime once, after the delegates have been injected.
+     */
+    @Override
+    public void initialize()
+    {
+        delegate = requireDelegate( delegates );
+    }
 
     @Override
     public String getPathForLocalArtifact( ProjectBuildingRequest buildingRequest, Artifact artifact )
     {
-        return selectDelegate( delegate ).getPathForLocalArtifact( buildingRequest, artifact );
+        return delegate.getPathForLocalArtifact( buildingRequest, artifact );
     }
 
     @Override
     public String getPathForLocalArtifact( ProjectBuildingRequest buildingRequest, ArtifactCoordinate coordinate )
     {
-        return selectDelegate( delegate ).getPathForLocalArtifact( buildingRequest, coordinate );
+        return delegate.getPathForLocalArtifact( buildingRequest, coordinate );
+    }
+
+    @Override
+    public List<String> getPathsForLocalArtifacts( ProjectBuildingRequest buildingRequest,
+                                                   Collection<? extends ArtifactCoordinate> coordinates )
+    {
+        return delegate.getPathsForLocalArtifacts( buildingRequest, coordinates );
+    }
+
+    @Override
+    public List<LocalArtifactStatus> getLocalArtifactStatus( ProjectBuildingRequest buildingRequest,
+                                                             Collection<? extends ArtifactCoordinate> coordinates )
+    {
+        return delegate.getLocalArtifactStatus( buildingRequest, coordinates );
     }
 
     @Override
@@ -69,18 +98,18 @@ public class DefaultRepositoryManager
             return getPathForLocalArtifact( buildingRequest, pomCoordinate );
         }
 
-        return selectDelegate( delegate ).getPathForLocalMetadata( buildingRequest, metadata );
+        return delegate.getPathForLocalMetadata( buildingRequest, metadata );
     }
 
     @Override
     public ProjectBuildingRequest setLocalRepositoryBasedir( ProjectBuildingRequest request, File basedir )
     {
-        return selectDelegate( delegate ).setLocalRepositoryBasedir( request, basedir );
+        return delegate.setLocalRepositoryBasedir( request, basedir );
     }
 
     @Override
     public File getLocalRepositoryBasedir( ProjectBuildingRequest request )
     {
-        return selectDelegate( delegate ).getLocalRepositoryBasedir( request );
+        return delegate.getLocalRepositoryBasedir( request );
     }
 }
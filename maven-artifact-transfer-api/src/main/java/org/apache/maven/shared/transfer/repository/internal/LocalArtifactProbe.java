@@ -0,0 +1,296 @@
+package org.apache.maven.shared.transfer.repository.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.maven.shared.transfer.artifact.ArtifactCoordinate;
+import org.apache.maven.shared.transfer.repository.LocalArtifactStatus;
+
+/**
+ * Probes the files of many artifacts in a local repository at once, used by the repository manager delegates.
+ * <p>
+ * The artifacts are grouped by directory and the directories are probed in parallel. A missing directory answers for
+ * all its artifacts with a single lookup. If a directory holds several of the requested artifacts and the listing is
+ * enabled, it is listed once so that only the present files are looked up. The artifacts found in the index of the
+ * local repository are not looked up at all as long as the last modification time of their directory matches the
+ * indexed one, which costs a single lookup per directory. A file deleted, added or replaced by a move changes the
+ * directory, a file rewritten in place by other means does not and keeps its indexed size and modification time.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public final class LocalArtifactProbe
+{
+    /**
+     * The key of the repository session configuration property enabling the directory listing, {@code true} by
+     * default.
+     */
+    public static final String LIST_DIRECTORIES_PROPERTY = "maven.shared.transfer.localStatus.listDirectories";
+
+    private LocalArtifactProbe()
+    {
+    }
+
+    /**
+     * @param value the value of the {@link #LIST_DIRECTORIES_PROPERTY}, may be {@code null}
+     * @return whether the directory listing is enabled, {@code true} if {@code value} is {@code null}
+     */
+    public static boolean parseListDirectories( Object value )
+    {
+        return value == null || Boolean.parseBoolean( value.toString().trim() );
+    }
+
+    /**
+     * Probes the artifacts on the file system only.
+     *
+     * @param basedir the base directory of the local repository
+     * @param coordinates the coordinates of the artifacts
+     * @param paths the paths of the artifacts relative to {@code basedir}, in the order of the coordinates
+     * @param listDirectories whether to list directories holding several of the artifacts
+     * @return the status of the artifacts, in the order of the coordinates
+     */
+    public static List<LocalArtifactStatus> probe( File basedir, List<? extends ArtifactCoordinate> coordinates,
+                                                   List<String> paths, boolean listDirectories )
+    {
+        return probe( basedir, coordinates, paths, listDirectories, null );
+    }
+
+    /**
+     * @param basedir the base directory of the local repository
+     * @param coordinates the coordinates of the artifacts
+     * @param paths the paths of the artifacts relative to {@code basedir}, in the order of the coordinates
+     * @param listDirectories whether to list directories holding several of the artifacts
+     * @param index the index of the local repository answering for the artifacts it holds, may be {@code null}
+     * @return the status of the artifacts, in the order of the coordinates
+     * @since 2.0.0
+     */
+    public static List<LocalArtifactStatus> probe( File basedir,
+                                                   final List<? extends ArtifactCoordinate> coordinates,
+                                                   List<String> paths, boolean listDirectories,
+                                                   LocalRepositoryIndex index )
+    {
+        return probe( basedir, coordinates, paths, listDirectories, index, FileSystemAccess.DEFAULT );
+    }
+
+    static List<LocalArtifactStatus> probe( File basedir, final List<? extends ArtifactCoordinate> coordinates,
+                                            List<String> paths, final boolean listDirectories,
+                                            LocalRepositoryIndex index, final FileSystemAccess access )
+    {
+        if ( coordinates.size() != paths.size() )
+        {
+            throw new IllegalArgumentException( "Expected " + coordinates.size() + " paths, got " + paths.size() );
+        }
+
+        final LocalArtifactStatus[] result = new LocalArtifactStatus[coordinates.size()];
+
+        // the indices of the artifacts by directory, to probe on the file system or found in the index
+        Map<File, List<Integer>> directories = new LinkedHashMap<>();
+        Map<File, List<Integer>> indexedDirectories = new LinkedHashMap<>();
+        LocalRepositoryIndex.Entry[] entries = new LocalRepositoryIndex.Entry[result.length];
+        final File[] files = new File[result.length];
+        for ( int i = 0; i < result.length; i++ )
+        {
+            files[i] = new File( basedir, paths.get( i ) );
+            entries[i] = index != null ? index.lookup( paths.get( i ) ) : null;
+            add( entries[i] != null ? indexedDirectories : directories, files[i].getParentFile(), i );
+        }
+
+        // the index is a hint, the artifacts of a directory changed since they were recorded are probed as well
+        for ( Map.Entry<File, List<Integer>> entry : indexedDirectories.entrySet() )
+        {
+            BasicFileAttributes attributes = access.readAttributes( entry.getKey() );
+            long lastModified = attributes != null && attributes.isDirectory()
+                ? attributes.lastModifiedTime().toMillis() : 0L;
+            for ( int i : entry.getValue() )
+            {
+                LocalRepositoryIndex.Entry indexed = entries[i];
+                if ( lastModified != 0L && lastModified == indexed.getDirectoryModified() )
+                {
+                    result[i] = new LocalArtifactStatus( coordinates.get( i ), files[i], true, indexed.getSize(),
+                                                         indexed.getLastModified() );
+                }
+                else
+                {
+                    add( directories, entry.getKey(), i );
+                }
+            }
+        }
+
+        if ( directories.size() <= 1 )
+        {
+            for ( Map.Entry<File, List<Integer>> entry : directories.entrySet() )
+            {
+                probe( entry.getKey(), entry.getValue(), coordinates, files, listDirectories, access, result );
+            }
+            return Arrays.asList( result );
+        }
+
+        int threads = Math.min( directories.size(), Runtime.getRuntime().availableProcessors() );
+        ExecutorService executor = Executors.newFixedThreadPool( threads );
+        try
+        {
+            List<Future<Void>> futures = new ArrayList<>( directories.size() );
+            for ( final Map.Entry<File, List<Integer>> entry : directories.entrySet() )
+            {
+                futures.add( executor.submit( new Callable<Void>()
+                {
+                    @Override
+                    public Void call()
+                    {
+                        probe( entry.getKey(), entry.getValue(), coordinates, files, listDirectories, access,
+                               result );
+                        return null;
+                    }
+                } ) );
+            }
+            for ( Future<Void> future : futures )
+            {
+                await( future );
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        // the futures guarantee the visibility of the written elements
+        return Arrays.asList( result );
+    }
+
+    private static void add( Map<File, List<Integer>> directories, File directory, int index )
+    {
+        List<Integer> indices = directories.get( directory );
+        if ( indices == null )
+        {
+            indices = new ArrayList<>();
+            directories.put( directory, indices );
+        }
+        indices.add( index );
+    }
+
+    private static void probe( File directory, List<Integer> indices, List<? extends ArtifactCoordinate> coordinates,
+                               File[] files, boolean listDirectories, FileSystemAccess access,
+                               LocalArtifactStatus[] result )
+    {
+        Set<String> names = null;
+        if ( listDirectories && indices.size() > 1 )
+        {
+            String[] list = access.list( directory );
+            names = list != null ? new HashSet<>( Arrays.asList( list ) ) : new HashSet<String>();
+        }
+        else
+        {
+            BasicFileAttributes attributes = access.readAttributes( directory );
+            if ( attributes == null || !attributes.isDirectory() )
+            {
+                names = new HashSet<>();
+            }
+        }
+
+        for ( int i : indices )
+        {
+            File file = files[i];
+            if ( names != null && !names.contains( file.getName() ) )
+            {
+                result[i] = new LocalArtifactStatus( coordinates.get( i ), file, false, 0L, 0L );
+                continue;
+            }
+            BasicFileAttributes attributes = access.readAttributes( file );
+            result[i] = attributes != null
+                ? new LocalArtifactStatus( coordinates.get( i ), file, attributes.isRegularFile(), attributes.size(),
+                                           attributes.lastModifiedTime().toMillis() )
+                : new LocalArtifactStatus( coordinates.get( i ), file, false, 0L, 0L );
+        }
+    }
+
+    private static void await( Future<Void> future )
+    {
+        try
+        {
+            future.get();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException( "Interrupted while probing the local repository", e );
+        }
+        catch ( ExecutionException e )
+        {
+            Throwable cause = e.getCause();
+            if ( cause instanceof Error )
+            {
+                throw (Error) cause;
+            }
+            if ( cause instanceof RuntimeException )
+            {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException( cause );
+        }
+    }
+
+    /**
+     * The file system lookups of the probe, each call costing one file system operation.
+     */
+    static class FileSystemAccess
+    {
+        static final FileSystemAccess DEFAULT = new FileSystemAccess();
+
+        /**
+         * @return the attributes of the file, or {@code null} if it doesn't exist
+         */
+        BasicFileAttributes readAttributes( File file )
+        {
+            try
+            {
+                return Files.readAttributes( file.toPath(), BasicFileAttributes.class );
+            }
+            catch ( IOException e )
+            {
+                return null;
+            }
+        }
+
+        /**
+         * @return the names of the files in the directory, or {@code null} if it doesn't exist
+         */
+        String[] list( File directory )
+        {
+            return directory.list();
+        }
+    }
+}
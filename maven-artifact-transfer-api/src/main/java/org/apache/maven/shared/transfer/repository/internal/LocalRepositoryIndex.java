@@ -0,0 +1,662 @@
+package org.apache.maven.shared.transfer.repository.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Persistent index of the artifact files in a local repository, mapping the hash of the path of a file relative to
+ * the base directory to its size, last modification time, SHA-1 checksum, if known, and the last modification time of
+ * its directory. Each record also holds a second, independent hash of the path, so that a lookup only answers for the
+ * path which was recorded.
+ * <p>
+ * The index consists of two files next to the local repository content: a memory-mapped file of fixed size records
+ * sorted by path hash, looked up with a binary search, and a journal the installers append new records to. Once the
+ * journal grows beyond {@link #MAX_JOURNAL_RECORDS}, it is merged into a new sorted file. If the sorted file can't be
+ * replaced, e.g. because it is still mapped on Windows, the journal is kept and merging is only attempted again once
+ * it has doubled. Opening the index and looking
+ * up a path therefore doesn't depend on the number of files in the repository. Writers hold a lock on the journal, so
+ * the index can be shared by concurrent builds.
+ * </p>
+ * <p>
+ * The index is only maintained by the installers of this library, so a path missing from the index must still be
+ * looked up on the file system. Files changed or deleted by other means are not noticed by the index itself, its
+ * callers compare the indexed last modification time of the directory with the current one.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public final class LocalRepositoryIndex
+{
+    /**
+     * The key of the repository session configuration property enabling the index, {@code false} by default.
+     */
+    public static final String CONFIG_PROPERTY = "maven.shared.transfer.localIndex";
+
+    /**
+     * The name of the sorted index file in the base directory of the local repository.
+     */
+    public static final String INDEX_FILE = ".artifact-transfer.idx";
+
+    /**
+     * The name of the journal file in the base directory of the local repository.
+     */
+    public static final String JOURNAL_FILE = ".artifact-transfer.jnl";
+
+    /**
+     * The number of journal records above which the journal is merged into the index.
+     */
+    public static final int MAX_JOURNAL_RECORDS = 4096;
+
+    private static final int MAGIC = 0x4D415449;
+
+    private static final int FORMAT = 2;
+
+    // magic, format, count, reserved
+    private static final int HEADER_SIZE = 16;
+
+    private static final int FORMAT_OFFSET = 4;
+
+    private static final int COUNT_OFFSET = 8;
+
+    // key, check, size, lastModified, flags, checksum, directory lastModified
+    private static final int RECORD_SIZE = 64;
+
+    private static final int CHECK_OFFSET = 8;
+
+    private static final int SIZE_OFFSET = 16;
+
+    private static final int MODIFIED_OFFSET = 24;
+
+    private static final int FLAGS_OFFSET = 32;
+
+    private static final int CHECKSUM_OFFSET = 36;
+
+    private static final int SHA1_LENGTH = 20;
+
+    private static final int DIRECTORY_MODIFIED_OFFSET = CHECKSUM_OFFSET + SHA1_LENGTH;
+
+    private static final int FLAG_CHECKSUM = 1;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final long CHECK_SEED = 1125899906842597L;
+
+    private static final int CHECK_MULTIPLIER = 31;
+
+    private static final int HEX_RADIX = 16;
+
+    private static final int NIBBLE_BITS = 4;
+
+    private static final int NIBBLE_MASK = 0xF;
+
+    private static final int BYTE_MASK = 0xFF;
+
+    // weakly referenced, an index no longer used by any caller is dropped along with its mapped file
+    private static final Map<File, Reference<LocalRepositoryIndex>> INSTANCES = new HashMap<>();
+
+    private final File indexFile;
+
+    private final File journalFile;
+
+    private final int maxJournalRecords;
+
+    private int compactionThreshold;
+
+    private MappedByteBuffer index;
+
+    private int indexCount;
+
+    private long indexLength = -1L;
+
+    private long indexModified;
+
+    private final Map<Long, Entry> journal = new HashMap<>();
+
+    private long journalLength;
+
+    LocalRepositoryIndex( File basedir, int maxJournalRecords )
+    {
+        this.indexFile = new File( basedir, INDEX_FILE );
+        this.journalFile = new File( basedir, JOURNAL_FILE );
+        this.maxJournalRecords = maxJournalRecords;
+        this.compactionThreshold = maxJournalRecords;
+    }
+
+    /**
+     * @param value the value of the {@link #CONFIG_PROPERTY}, may be {@code null}
+     * @return whether the index is enabled, {@code false} if {@code value} is {@code null}
+     */
+    public static boolean isEnabled( Object value )
+    {
+        return value != null && Boolean.parseBoolean( value.toString().trim() );
+    }
+
+    /**
+     * Returns the index of the local repository at the given base directory, shared by all callers in this JVM as
+     * long as any of them still uses it.
+     *
+     * @param basedir the base directory of the local repository
+     * @return the index, never {@code null}
+     */
+    public static LocalRepositoryIndex forBasedir( File basedir )
+    {
+        File key = basedir.getAbsoluteFile();
+        synchronized ( INSTANCES )
+        {
+            Reference<LocalRepositoryIndex> reference = INSTANCES.get( key );
+            LocalRepositoryIndex index = reference != null ? reference.get() : null;
+            if ( index == null )
+            {
+                for ( Iterator<Reference<LocalRepositoryIndex>> it = INSTANCES.values().iterator(); it.hasNext(); )
+                {
+                    if ( it.next().get() == null )
+                    {
+                        it.remove();
+                    }
+                }
+                index = new LocalRepositoryIndex( key, MAX_JOURNAL_RECORDS );
+                INSTANCES.put( key, new WeakReference<>( index ) );
+            }
+            return index;
+        }
+    }
+
+    /**
+     * @return the number of indices shared by {@link #forBasedir(File)}, including those no longer used
+     */
+    static int getInstanceCount()
+    {
+        synchronized ( INSTANCES )
+        {
+            return INSTANCES.size();
+        }
+    }
+
+    /**
+     * Picks up the records written since the last refresh, possibly by another process. Call this once before a
+     * batch of lookups.
+     *
+     * @throws IOException if the index files could not be read
+     */
+    public synchronized void refresh()
+        throws IOException
+    {
+        BasicFileAttributes indexAttributes = readAttributes( indexFile );
+        long length = indexAttributes != null ? indexAttributes.size() : 0L;
+        long modified = indexAttributes != null ? indexAttributes.lastModifiedTime().toMillis() : 0L;
+        BasicFileAttributes journalAttributes = readAttributes( journalFile );
+        long journalSize = journalAttributes != null ? journalAttributes.size() : 0L;
+        if ( length != indexLength || modified != indexModified || journalSize < journalLength )
+        {
+            mapIndex( indexAttributes );
+            journal.clear();
+            journalLength = 0L;
+        }
+        readJournal( journalSize );
+    }
+
+    /**
+     * @param path the path of a file relative to the base directory of the local repository
+     * @return the indexed entry of the file, or {@code null} if not indexed
+     */
+    public synchronized Entry lookup( String path )
+    {
+        long key = hash( path );
+        long check = check( path );
+        Entry entry = journal.get( key );
+        if ( entry != null )
+        {
+            // another path with the same hash
+            return entry.check == check ? entry : null;
+        }
+        if ( index != null )
+        {
+            int low = 0;
+            int high = indexCount - 1;
+            while ( low <= high )
+            {
+                int middle = ( low + high ) >>> 1;
+                int offset = HEADER_SIZE + middle * RECORD_SIZE;
+                long current = index.getLong( offset );
+                if ( current < key )
+                {
+                    low = middle + 1;
+                }
+                else if ( current > key )
+                {
+                    high = middle - 1;
+                }
+                else
+                {
+                    return index.getLong( offset + CHECK_OFFSET ) == check ? readEntry( index, offset ) : null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records the current size, last modification time and SHA-1 checksum of the given file. The checksum is read
+     * from the {@code .sha1} file next to it, if any.
+     *
+     * @param path the path of the file relative to the base directory of the local repository
+     * @param file the file
+     * @throws IOException if the file or the index could not be read or written
+     */
+    public synchronized void record( String path, File file )
+        throws IOException
+    {
+        BasicFileAttributes attributes = Files.readAttributes( file.toPath(), BasicFileAttributes.class );
+        BasicFileAttributes directory = readAttributes( file.getParentFile() );
+        Entry entry = new Entry( check( path ), attributes.size(), attributes.lastModifiedTime().toMillis(),
+                                 readChecksum( new File( file.getPath() + ".sha1" ) ),
+                                 directory != null ? directory.lastModifiedTime().toMillis() : 0L );
+
+        try ( RandomAccessFile journalAccess = new RandomAccessFile( journalFile, "rw" );
+              FileLock lock = journalAccess.getChannel().lock() )
+        {
+            refresh();
+
+            ByteBuffer record = ByteBuffer.allocate( RECORD_SIZE );
+            writeEntry( record, hash( path ), entry );
+            FileChannel channel = journalAccess.getChannel();
+            channel.position( channel.size() );
+            // ByteBuffer.flip() only exists since Java 9
+            ( (Buffer) record ).flip();
+            while ( record.hasRemaining() )
+            {
+                channel.write( record );
+            }
+            journal.put( hash( path ), entry );
+            journalLength = channel.size();
+
+            if ( journal.size() > compactionThreshold )
+            {
+                compact( channel );
+            }
+        }
+    }
+
+    /**
+     * @return the number of records in the sorted index file
+     */
+    public synchronized int getIndexedCount()
+    {
+        return indexCount;
+    }
+
+    /**
+     * @return the number of records in the journal
+     */
+    public synchronized int getJournalCount()
+    {
+        return journal.size();
+    }
+
+    /**
+     * @return the number of journal records above which the journal is merged into the index
+     */
+    synchronized int getCompactionThreshold()
+    {
+        return compactionThreshold;
+    }
+
+    /**
+     * Merges the journal into the sorted index file, the caller holds the journal lock. If the index file can't be
+     * replaced, the journal is kept and the next attempt is deferred until it has doubled.
+     */
+    private void compact( FileChannel journalChannel )
+        throws IOException
+    {
+        List<Long> keys = new ArrayList<>( journal.keySet() );
+        Collections.sort( keys );
+
+        File temporary = File.createTempFile( INDEX_FILE, ".tmp", indexFile.getParentFile() );
+        try
+        {
+            int count = 0;
+            try ( RandomAccessFile access = new RandomAccessFile( temporary, "rw" ) )
+            {
+                OutputStream stream = Channels.newOutputStream( access.getChannel() );
+                DataOutputStream out = new DataOutputStream( new BufferedOutputStream( stream ) );
+                out.write( new byte[HEADER_SIZE] );
+
+                ByteBuffer record = ByteBuffer.allocate( RECORD_SIZE );
+                int i = 0;
+                int j = 0;
+                while ( i < indexCount || j < keys.size() )
+                {
+                    long indexKey = i < indexCount ? index.getLong( HEADER_SIZE + i * RECORD_SIZE ) : Long.MAX_VALUE;
+                    long journalKey = j < keys.size() ? keys.get( j ) : Long.MAX_VALUE;
+                    ( (Buffer) record ).clear();
+                    if ( j < keys.size() && ( i >= indexCount || journalKey <= indexKey ) )
+                    {
+                        writeEntry( record, journalKey, journal.get( journalKey ) );
+                        if ( i < indexCount && journalKey == indexKey )
+                        {
+                            // replaced by the journal
+                            i++;
+                        }
+                        j++;
+                    }
+                    else
+                    {
+                        writeEntry( record, indexKey, readEntry( index, HEADER_SIZE + i * RECORD_SIZE ) );
+                        i++;
+                    }
+                    out.write( record.array() );
+                    count++;
+                }
+                out.flush();
+
+                access.seek( 0L );
+                access.writeInt( MAGIC );
+                access.writeInt( FORMAT );
+                access.writeInt( count );
+            }
+
+            // drop the mapping of the replaced file, some platforms refuse to replace a mapped file
+            index = null;
+            indexCount = 0;
+            if ( !replace( temporary ) )
+            {
+                mapIndex( readAttributes( indexFile ) );
+                compactionThreshold = Math.max( compactionThreshold, journal.size() ) * 2;
+                return;
+            }
+        }
+        finally
+        {
+            Files.deleteIfExists( temporary.toPath() );
+        }
+
+        journalChannel.truncate( 0L );
+        mapIndex( readAttributes( indexFile ) );
+        journal.clear();
+        journalLength = 0L;
+        compactionThreshold = maxJournalRecords;
+    }
+
+    /**
+     * @return whether the index file was replaced by the temporary file
+     */
+    private boolean replace( File temporary )
+    {
+        try
+        {
+            try
+            {
+                Files.move( temporary.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE );
+            }
+            catch ( AtomicMoveNotSupportedException e )
+            {
+                Files.move( temporary.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+            }
+            return true;
+        }
+        catch ( IOException e )
+        {
+            return false;
+        }
+    }
+
+    private void mapIndex( BasicFileAttributes attributes )
+        throws IOException
+    {
+        index = null;
+        indexCount = 0;
+        indexLength = attributes != null ? attributes.size() : 0L;
+        indexModified = attributes != null ? attributes.lastModifiedTime().toMillis() : 0L;
+        if ( attributes == null || !attributes.isRegularFile() || indexLength < HEADER_SIZE )
+        {
+            return;
+        }
+
+        try ( RandomAccessFile access = new RandomAccessFile( indexFile, "r" ) )
+        {
+            MappedByteBuffer mapped = access.getChannel().map( FileChannel.MapMode.READ_ONLY, 0L, indexLength );
+            if ( mapped.getInt( 0 ) != MAGIC || mapped.getInt( FORMAT_OFFSET ) != FORMAT )
+            {
+                throw new IOException( "Unsupported local repository index " + indexFile );
+            }
+            int count = mapped.getInt( COUNT_OFFSET );
+            if ( count < 0 || HEADER_SIZE + (long) count * RECORD_SIZE > indexLength )
+            {
+                throw new IOException( "Corrupt local repository index " + indexFile );
+            }
+            index = mapped;
+            indexCount = count;
+        }
+    }
+
+    private void readJournal( long length )
+        throws IOException
+    {
+        if ( length - journalLength < RECORD_SIZE )
+        {
+            return;
+        }
+
+        try ( RandomAccessFile access = new RandomAccessFile( journalFile, "r" ) )
+        {
+            access.seek( journalLength );
+            InputStream stream = Channels.newInputStream( access.getChannel() );
+            DataInputStream in = new DataInputStream( new BufferedInputStream( stream ) );
+            byte[] bytes = new byte[RECORD_SIZE];
+            ByteBuffer record = ByteBuffer.wrap( bytes );
+            while ( length - journalLength >= RECORD_SIZE )
+            {
+                try
+                {
+                    in.readFully( bytes );
+                }
+                catch ( EOFException e )
+                {
+                    break;
+                }
+                journal.put( record.getLong( 0 ), readEntry( record, 0 ) );
+                journalLength += RECORD_SIZE;
+            }
+        }
+    }
+
+    private static Entry readEntry( ByteBuffer buffer, int offset )
+    {
+        String checksum = null;
+        if ( ( buffer.getInt( offset + FLAGS_OFFSET ) & FLAG_CHECKSUM ) != 0 )
+        {
+            StringBuilder hex = new StringBuilder( 2 * SHA1_LENGTH );
+            for ( int i = 0; i < SHA1_LENGTH; i++ )
+            {
+                int b = buffer.get( offset + CHECKSUM_OFFSET + i ) & BYTE_MASK;
+                hex.append( Character.forDigit( b >>> NIBBLE_BITS, HEX_RADIX ) );
+                hex.append( Character.forDigit( b & NIBBLE_MASK, HEX_RADIX ) );
+            }
+            checksum = hex.toString();
+        }
+        return new Entry( buffer.getLong( offset + CHECK_OFFSET ), buffer.getLong( offset + SIZE_OFFSET ),
+                          buffer.getLong( offset + MODIFIED_OFFSET ), checksum,
+                          buffer.getLong( offset + DIRECTORY_MODIFIED_OFFSET ) );
+    }
+
+    private static void writeEntry( ByteBuffer buffer, long key, Entry entry )
+    {
+        buffer.putLong( key );
+        buffer.putLong( entry.check );
+        buffer.putLong( entry.getSize() );
+        buffer.putLong( entry.getLastModified() );
+        String checksum = entry.getChecksum();
+        buffer.putInt( checksum != null ? FLAG_CHECKSUM : 0 );
+        for ( int i = 0; i < SHA1_LENGTH; i++ )
+        {
+            if ( checksum != null )
+            {
+                int high = Character.digit( checksum.charAt( 2 * i ), HEX_RADIX );
+                int low = Character.digit( checksum.charAt( 2 * i + 1 ), HEX_RADIX );
+                buffer.put( (byte) ( high << NIBBLE_BITS | low ) );
+            }
+            else
+            {
+                buffer.put( (byte) 0 );
+            }
+        }
+        buffer.putLong( entry.directoryModified );
+    }
+
+    private static BasicFileAttributes readAttributes( File file )
+    {
+        try
+        {
+            return Files.readAttributes( file.toPath(), BasicFileAttributes.class );
+        }
+        catch ( IOException e )
+        {
+            return null;
+        }
+    }
+
+    private static String readChecksum( File file )
+        throws IOException
+    {
+        if ( !file.isFile() )
+        {
+            return null;
+        }
+        String content = new String( Files.readAllBytes( file.toPath() ), StandardCharsets.US_ASCII ).trim();
+        int end = content.indexOf( ' ' );
+        String checksum = ( end >= 0 ? content.substring( 0, end ) : content ).toLowerCase( Locale.ENGLISH );
+        return checksum.matches( "[0-9a-f]{40}" ) ? checksum : null;
+    }
+
+    /**
+     * The 64-bit FNV-1a hash of the path, with the separators normalized to {@code /}.
+     */
+    static long hash( String path )
+    {
+        long hash = FNV_OFFSET_BASIS;
+        for ( int i = 0; i < path.length(); i++ )
+        {
+            char c = path.charAt( i );
+            hash ^= c == '\\' ? '/' : c;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * A second 64-bit polynomial hash of the path, independent of {@link #hash(String)}, with the separators
+     * normalized to {@code /}.
+     */
+    static long check( String path )
+    {
+        long hash = CHECK_SEED;
+        for ( int i = 0; i < path.length(); i++ )
+        {
+            char c = path.charAt( i );
+            hash = CHECK_MULTIPLIER * hash + ( c == '\\' ? '/' : c );
+        }
+        return hash;
+    }
+
+    /**
+     * The indexed state of a file.
+     */
+    public static final class Entry
+    {
+        private final long check;
+
+        private final long size;
+
+        private final long lastModified;
+
+        private final String checksum;
+
+        private final long directoryModified;
+
+        Entry( long check, long size, long lastModified, String checksum, long directoryModified )
+        {
+            this.check = check;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.checksum = checksum;
+            this.directoryModified = directoryModified;
+        }
+
+        public long getSize()
+        {
+            return size;
+        }
+
+        public long getLastModified()
+        {
+            return lastModified;
+        }
+
+        /**
+         * @return the lower case hexadecimal SHA-1 checksum of the file, or {@code null} if unknown
+         */
+        public String getChecksum()
+        {
+            return checksum;
+        }
+
+        /**
+         * @return the last modification time of the directory of the file when recorded, or {@code 0} if unknown
+         */
+        long getDirectoryModified()
+        {
+            return directoryModified;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package org.apache.maven.shared.transfer.support;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of artifact descriptor outcomes, i.e. the GAV an artifact is relocated to, keyed by the requested GAV
+ * and the set of remote repositories it was read from. One instance is shared per repository session. Only the
+ * artifact resolver delegates read it, so they read a descriptor at most once per GAV and repositories. The collector
+ * and dependency resolver delegates can't consult it, as Aether reads the descriptors of a collection itself, but they
+ * fill it from the graphs they collect.
+ * <p>
+ * The repositories are passed as an opaque key, usually the list of provider specific remote repositories, which must
+ * implement {@link Object#equals(Object)} and {@link Object#hashCode()}. The least recently used entries are evicted
+ * once the maximum size is reached, a maximum size of zero disables the cache.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@Deprecated
+public final class ArtifactDescriptorCache
+{
+    /**
+     * The key of the repository session configuration property holding the maximum number of cached descriptors.
+     */
+    public static final String MAX_SIZE_PROPERTY = "maven.shared.transfer.descriptorCache.maxSize";
+
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    /**
+     * The key under which the cache is stored in the repository session data.
+     */
+    public static final String SESSION_DATA_KEY = ArtifactDescriptorCache.class.getName();
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int maxSize;
+
+    private final Map<Key, Gav> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param maxSize the maximum number of cached descriptors, zero or less to disable the cache
+     */
+    public ArtifactDescriptorCache( final int maxSize )
+    {
+        this.maxSize = Math.max( 0, maxSize );
+        this.entries = new LinkedHashMap<Key, Gav>( INITIAL_CAPACITY, LOAD_FACTOR, true )
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry( final Map.Entry<Key, Gav> eldest )
+            {
+                return size() > ArtifactDescriptorCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Parses the maximum size from the value of the {@link #MAX_SIZE_PROPERTY}.
+     *
+     * @param value the configured value, may be {@code null}
+     * @return the maximum size, {@link #DEFAULT_MAX_SIZE} if {@code value} is {@code null}
+     */
+    public static int parseMaxSize( final Object value )
+    {
+        if ( value == null )
+        {
+            return DEFAULT_MAX_SIZE;
+        }
+        if ( value instanceof Number )
+        {
+            return ( (Number) value ).intValue();
+        }
+        try
+        {
+            return Integer.parseInt( value.toString().trim() );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new IllegalArgumentException( "Invalid value '" + value + "' for " + MAX_SIZE_PROPERTY, e );
+        }
+    }
+
+    /**
+     * Returns the cached outcome of reading the descriptor of the given GAV, may return {@code null} if not cached.
+     */
+    public Gav get( final String groupId, final String artifactId, final String version, final Object repositories )
+    {
+        if ( maxSize == 0 )
+        {
+            return null;
+        }
+        Gav result;
+        synchronized ( entries )
+        {
+            result = entries.get( new Key( groupId, artifactId, version, repositories ) );
+        }
+        if ( result != null )
+        {
+            hits.incrementAndGet();
+        }
+        else
+        {
+            misses.incrementAndGet();
+        }
+        return result;
+    }
+
+    /**
+     * Records that the descriptor of the given GAV, read from {@code repositories}, relocates to {@code relocated}.
+     * Pass the requested GAV itself if the artifact is not relocated.
+     */
+    public void put( final String groupId, final String artifactId, final String version, final Object repositories,
+                     final Gav relocated )
+    {
+        Objects.requireNonNull( relocated, "Null relocated" );
+        if ( maxSize == 0 )
+        {
+            return;
+        }
+        Key key = new Key( groupId, artifactId, version, repositories );
+        synchronized ( entries )
+        {
+            entries.put( key, relocated );
+        }
+    }
+
+    public int getMaxSize()
+    {
+        return maxSize;
+    }
+
+    public int size()
+    {
+        synchronized ( entries )
+        {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount()
+    {
+        return hits.get();
+    }
+
+    public long getMissCount()
+    {
+        return misses.get();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ArtifactDescriptorCache{size=" + size() + ", maxSize=" + maxSize + ", hits=" + getHitCount()
+            + ", misses=" + getMissCount() + "}";
+    }
+
+    /**
+     * The groupId, artifactId and version of an artifact.
+     */
+    public static final class Gav
+    {
+        private final String groupId;
+
+        private final String artifactId;
+
+        private final String version;
+
+        public Gav( final String groupId, final String artifactId, final String version )
+        {
+            this.groupId = Objects.requireNonNull( groupId, "Null groupId" );
+            this.artifactId = Objects.requireNonNull( artifactId, "Null artifactId" );
+            this.version = Objects.requireNonNull( version, "Null version" );
+        }
+
+        public String getGroupId()
+        {
+            return groupId;
+        }
+
+        public String getArtifactId()
+        {
+            return artifactId;
+        }
+
+        public String getVersion()
+        {
+            return version;
+        }
+
+        /**
+         * @return {@code true} if this GAV equals the given groupId, artifactId and version
+         */
+        public boolean matches( final String groupId, final String artifactId, final String version )
+        {
+            return this.groupId.equals( groupId ) && this.artifactId.equals( artifactId )
+                && this.version.equals( version );
+        }
+
+        @Override
+        public String toString()
+        {
+            return groupId + ":" + artifactId + ":" + version;
+        }
+    }
+
+    private static final class Key
+    {
+        private final String groupId;
+
+        private final String artifactId;
+
+        private final String version;
+
+        private final Object repositories;
+
+        private final int hashCode;
+
+        private Key( final String groupId, final String artifactId, final String version,
+                     final Object repositories )
+        {
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.version = version;
+            this.repositories = repositories;
+            this.hashCode = Objects.hash( groupId, artifactId, version, repositories );
+        }
+
+        @Override
+        public boolean equals( final Object obj )
+        {
+            if ( this == obj )
+            {
+                return true;
+            }
+            if ( !( obj instanceof Key ) )
+            {
+                return false;
+            }
+            Key that = (Key) obj;
+            return hashCode == that.hashCode && Objects.equals( groupId, that.groupId )
+                && Objects.equals( artifactId, that.artifactId ) && Objects.equals( version, that.version )
+                && Objects.equals( repositories, that.repositories );
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.apache.maven.shared.transfer.support;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import org.apache.maven.shared.transfer.artifact.ImmutableArtifactCoordinate;
+import org.apache.maven.shared.transfer.dependencies.ImmutableDependableCoordinate;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Shares equal immutable coordinates, and the strings they are made of, between their users. This saves memory when
+ * building many coordinates, e.g. while scanning a large repository, where the same groupIds and artifactIds occur
+ * over and over. An interner is thread safe and holds on to every interned value until {@link #clear()} is called,
+ * so it should be scoped to the task that needs it.
+ *
+ * @since 2.0.0
+ */
+@Deprecated
+public final class CoordinateInterner
+{
+    private final ConcurrentMap<String, String> strings = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Object, Object> coordinates = new ConcurrentHashMap<>();
+
+    /**
+     * @param value the string to intern, may be {@code null}
+     * @return the shared string equal to {@code value}
+     */
+    public String intern( final String value )
+    {
+        if ( value == null )
+        {
+            return null;
+        }
+        String existing = strings.putIfAbsent( value, value );
+        return existing != null ? existing : value;
+    }
+
+    /**
+     * @param coordinate the coordinate to intern, not {@code null}
+     * @return the shared coordinate equal to {@code coordinate}, made of shared strings
+     */
+    public ImmutableArtifactCoordinate intern( final ImmutableArtifactCoordinate coordinate )
+    {
+        Object existing = coordinates.get( coordinate );
+        if ( existing != null )
+        {
+            return (ImmutableArtifactCoordinate) existing;
+        }
+        ImmutableArtifactCoordinate interned =
+            new ImmutableArtifactCoordinate( intern( coordinate.getGroupId() ), intern( coordinate.getArtifactId() ),
+                                             intern( coordinate.getVersion() ), intern( coordinate.getExtension() ),
+                                             intern( coordinate.getClassifier() ) );
+        existing = coordinates.putIfAbsent( interned, interned );
+        return existing != null ? (ImmutableArtifactCoordinate) existing : interned;
+    }
+
+    /**
+     * @param coordinate the coordinate to intern, not {@code null}
+     * @return the shared coordinate equal to {@code coordinate}, made of shared strings
+     */
+    public ImmutableDependableCoordinate intern( final ImmutableDependableCoordinate coordinate )
+    {
+        Object existing = coordinates.get( coordinate );
+        if ( existing != null )
+        {
+            return (ImmutableDependableCoordinate) existing;
+        }
+        ImmutableDependableCoordinate interned =
+            new ImmutableDependableCoordinate( intern( coordinate.getGroupId() ), intern( coordinate.getArtifactId() ),
+                                               intern( coordinate.getVersion() ), intern( coordinate.getType() ),
+                                               intern( coordinate.getClassifier() ) );
+        existing = coordinates.putIfAbsent( interned, interned );
+        return existing != null ? (ImmutableDependableCoordinate) existing : interned;
+    }
+
+    /**
+     * @return the number of interned coordinates
+     */
+    public int size()
+    {
+        return coordinates.size();
+    }
+
+    /**
+     * Releases all interned strings and coordinates.
+     */
+    public void clear()
+    {
+        coordinates.clear();
+        strings.clear();
+    }
+}
@@ -0,0 +1,219 @@
+package org.apache.maven.shared.transfer.support;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded cache of the paths of artifacts and metadata relative to the base directory of a local repository. The
+ * repository manager delegates keep one instance per local repository manager, so a path is computed at most once
+ * per coordinate, without allocating the provider specific artifact or metadata on a hit.
+ * <p>
+ * The least recently used entries are evicted once the maximum size is reached, a maximum size of zero disables the
+ * cache.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@Deprecated
+public final class LocalPathCache
+{
+    /**
+     * The key of the repository session configuration property holding the maximum number of cached paths.
+     */
+    public static final String MAX_SIZE_PROPERTY = "maven.shared.transfer.localPathCache.maxSize";
+
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int maxSize;
+
+    private final Map<Key, String> entries;
+
+    /**
+     * @param maxSize the maximum number of cached paths, zero or less to disable the cache
+     */
+    public LocalPathCache( final int maxSize )
+    {
+        this.maxSize = Math.max( 0, maxSize );
+        this.entries = new LinkedHashMap<Key, String>( INITIAL_CAPACITY, LOAD_FACTOR, true )
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry( final Map.Entry<Key, String> eldest )
+            {
+                return size() > LocalPathCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Parses the maximum size from the value of the {@link #MAX_SIZE_PROPERTY}.
+     *
+     * @param value the configured value, may be {@code null}
+     * @return the maximum size, {@link #DEFAULT_MAX_SIZE} if {@code value} is {@code null}
+     */
+    public static int parseMaxSize( final Object value )
+    {
+        if ( value == null )
+        {
+            return DEFAULT_MAX_SIZE;
+        }
+        if ( value instanceof Number )
+        {
+            return ( (Number) value ).intValue();
+        }
+        try
+        {
+            return Integer.parseInt( value.toString().trim() );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new IllegalArgumentException( "Invalid value '" + value + "' for " + MAX_SIZE_PROPERTY, e );
+        }
+    }
+
+    /**
+     * Returns the cached path of the given artifact, may return {@code null} if not cached.
+     */
+    public String getArtifactPath( final String groupId, final String artifactId, final String version,
+                                   final String classifier, final String extension )
+    {
+        return get( new Key( false, groupId, artifactId, version, classifier, extension ) );
+    }
+
+    public void putArtifactPath( final String groupId, final String artifactId, final String version,
+                                 final String classifier, final String extension, final String path )
+    {
+        put( new Key( false, groupId, artifactId, version, classifier, extension ), path );
+    }
+
+    /**
+     * Returns the cached path of the metadata of the given group, artifact or version, may return {@code null} if not
+     * cached. The artifactId and version are {@code null} for metadata stored in the group or artifact directory.
+     */
+    public String getMetadataPath( final String groupId, final String artifactId, final String version )
+    {
+        return get( new Key( true, groupId, artifactId, version, null, null ) );
+    }
+
+    public void putMetadataPath( final String groupId, final String artifactId, final String version,
+                                 final String path )
+    {
+        put( new Key( true, groupId, artifactId, version, null, null ), path );
+    }
+
+    public int getMaxSize()
+    {
+        return maxSize;
+    }
+
+    public int size()
+    {
+        synchronized ( entries )
+        {
+            return entries.size();
+        }
+    }
+
+    private String get( final Key key )
+    {
+        if ( maxSize == 0 )
+        {
+            return null;
+        }
+        synchronized ( entries )
+        {
+            return entries.get( key );
+        }
+    }
+
+    private void put( final Key key, final String path )
+    {
+        Objects.requireNonNull( path, "Null path" );
+        if ( maxSize == 0 )
+        {
+            return;
+        }
+        synchronized ( entries )
+        {
+            entries.put( key, path );
+        }
+    }
+
+    private static final class Key
+    {
+        private final boolean metadata;
+
+        private final String groupId;
+
+        private final String artifactId;
+
+        private final String version;
+
+        private final String classifier;
+
+        private final String extension;
+
+        private final int hashCode;
+
+        private Key( final boolean metadata, final String groupId, final String artifactId, final String version,
+                     final String classifier, final String extension )
+        {
+            this.metadata = metadata;
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.version = version;
+            this.classifier = classifier;
+            this.extension = extension;
+            this.hashCode = Objects.hash( metadata, groupId, artifactId, version, classifier, extension );
+        }
+
+        @Override
+        public boolean equals( final Object obj )
+        {
+            if ( this == obj )
+            {
+                return true;
+            }
+            if ( !( obj instanceof Key ) )
+            {
+                return false;
+            }
+            Key that = (Key) obj;
+            return hashCode == that.hashCode && metadata == that.metadata && Objects.equals( groupId, that.groupId )
+                && Objects.equals( artifactId, that.artifactId ) && Objects.equals( version, that.version )
+                && Objects.equals( classifier, that.classifier ) && Objects.equals( extension, that.extension );
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+    }
+}
@@ -32,7 +32,10 @@ public final class Selector
 
     public static final String MAVEN_3_1_X = "maven-3.1.x";
 
-    public static final String RUNTIME = detectRuntime();
+    /**
+     * The runtime visible to the class loader that loaded this class, which also links the delegates.
+     */
+    public static final String RUNTIME = detectRuntime( Selector.class.getClassLoader() );
 
     /**
      * Selects delegate from the passed in map, may return {@code null} if no fit delegate not found.
@@ -44,39 +47,38 @@ public final class Selector
     }
 
     /**
-     * Detects runtime, or prevents this class to load at all, failing all of components.
+     * Selects delegate from the passed in map, failing fast if no fit delegate found.
+     *
+     * @throws IllegalStateException if there is no delegate for the detected runtime
+     * @since 2.0.0
      */
-    private static String detectRuntime()
+    public static <D> D requireDelegate( final Map<String, D> delegates )
     {
-        // go from older to newer?
-        String runtime = null;
-        try
+        D delegate = selectDelegate( delegates );
+        if ( delegate == null )
         {
-            Trap.MAVEN_3_0_X.check();
-            runtime = MAVEN_3_0_X;
+            throw new IllegalStateException( "No delegate for runtime " + RUNTIME + ", found " + delegates.keySet() );
         }
-        catch ( Trap.TrapException e )
+        return delegate;
+    }
+
+    /**
+     * Detects runtime with the traps, failing if the class loader sees none. A failure for the class loader of this
+     * class prevents this class to load at all, failing all of components.
+     */
+    static String detectRuntime( final ClassLoader classLoader )
+    {
+        // go from older to newer?
+        if ( Trap.MAVEN_3_0_X.matches( classLoader ) )
         {
-            // skip
+            return MAVEN_3_0_X;
         }
-        if ( runtime == null )
+        if ( Trap.MAVEN_3_1_X.matches( classLoader ) )
         {
-            try
-            {
-                Trap.MAVEN_3_1_X.check();
-                runtime = MAVEN_3_1_X;
-            }
-            catch ( Trap.TrapException e )
-            {
-                // skip
-            }
+            return MAVEN_3_1_X;
         }
 
-        if ( runtime == null )
-        {
-            // if here, die
-            throw new IllegalStateException( "Could not determine runtime" );
-        }
-        return runtime;
+        // if here, die
+        throw new IllegalStateException( "Could not determine runtime" );
     }
-}
\ No newline at end of file
+}
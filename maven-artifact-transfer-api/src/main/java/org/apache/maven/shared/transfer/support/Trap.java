@@ -23,50 +23,60 @@ package org.apache.maven.shared.transfer.support;
  * Traps does a check (loadClass attempt) to detect runtime environment.
  */
 @Deprecated
-public abstract class Trap
+public final class Trap
 {
-    public abstract void check();
+    private final String className;
 
-    public static final Trap MAVEN_3_0_X = new Trap()
+    private final String environment;
+
+    private Trap( final String className, final String environment )
     {
-        @Override
-        public void check()
-        {
-            try
-            {
-                Thread.currentThread().getContextClassLoader().loadClass( "org.sonatype.aether.artifact.Artifact" );
-            }
-            catch ( ClassNotFoundException e )
-            {
-                throw new TrapException( "Environment does not match Maven 3.0.x", e );
-            }
-        }
-    };
+        this.className = className;
+        this.environment = environment;
+    }
 
-    public static final Trap MAVEN_3_1_X = new Trap()
+    /**
+     * Checks the environment by loading the class through the context class loader of the current thread.
+     *
+     * @throws TrapException if the environment does not match
+     */
+    public void check()
     {
-        @Override
-        public void check()
+        try
+        {
+            Thread.currentThread().getContextClassLoader().loadClass( className );
+        }
+        catch ( ClassNotFoundException e )
         {
-            try
-            {
-                Thread.currentThread().getContextClassLoader().loadClass( "org.eclipse.aether.artifact.Artifact" );
-            }
-            catch ( ClassNotFoundException e )
-            {
-                throw new TrapException( "Environment does not match Maven 3.1.x", e );
-            }
+            throw new TrapException( "Environment does not match " + environment, e );
         }
-    };
+    }
+
+    /**
+     * Checks whether the given class loader sees the environment, by looking up the class file as a resource. Unlike
+     * {@link #check()} this neither loads the class nor creates an exception if the environment does not match.
+     *
+     * @param classLoader the class loader to check, not {@code null}
+     * @return {@code true} if the environment matches
+     * @since 2.0.0
+     */
+    public boolean matches( final ClassLoader classLoader )
+    {
+        return classLoader.getResource( className.replace( '.', '/' ) + ".class" ) != null;
+    }
+
+    public static final Trap MAVEN_3_0_X = new Trap( "org.sonatype.aether.artifact.Artifact", "Maven 3.0.x" );
+
+    public static final Trap MAVEN_3_1_X = new Trap( "org.eclipse.aether.artifact.Artifact", "Maven 3.1.x" );
 
     /**
      * Trap exception: trap triggered.
      */
     public static class TrapException extends RuntimeException
     {
-        public TrapException( String message, Throwable cause )
+        public TrapException( final String message, final Throwable cause )
         {
             super( message, cause );
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,112 @@
+package org.apache.maven.shared.transfer.benchmarks;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.shared.transfer.artifact.ArtifactCoordinate;
+import org.apache.maven.shared.transfer.artifact.resolve.ArtifactResolver;
+import org.apache.maven.shared.transfer.artifact.resolve.ArtifactResolverException;
+import org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult;
+import org.apache.maven.shared.transfer.artifact.resolve.RelocationMode;
+import org.apache.maven.shared.transfer.artifact.resolve.internal.ArtifactResolverDelegate;
+import org.apache.maven.shared.transfer.artifact.resolve.internal.DefaultArtifactResolver;
+import org.apache.maven.shared.transfer.artifact.resolve.internal.Maven31ArtifactResolver;
+import org.apache.maven.shared.transfer.support.Selector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the dispatch of {@link DefaultArtifactResolver} to the Maven 3.1.x delegate, one artifact at a time and in
+ * batches, against the delegate called directly.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class ArtifactResolverBenchmark
+{
+    @Param( { "ALWAYS", "SKIP_NON_POM" } )
+    private String relocationMode;
+
+    @Param( { "100" } )
+    private int batchSize;
+
+    private ArtifactResolver resolver;
+
+    private ArtifactResolverDelegate delegate;
+
+    private ProjectBuildingRequest buildingRequest;
+
+    private RelocationMode mode;
+
+    private ArtifactCoordinate coordinate;
+
+    private List<ArtifactCoordinate> coordinates;
+
+    @Setup
+    public void setUp()
+    {
+        InMemoryRepositorySystem repositorySystem = new InMemoryRepositorySystem();
+        delegate = new Maven31ArtifactResolver( repositorySystem );
+        resolver = new DefaultArtifactResolver(
+                Collections.singletonMap( Selector.MAVEN_3_1_X, delegate ) );
+        buildingRequest = BenchmarkSupport.newBuildingRequest( repositorySystem );
+        mode = RelocationMode.valueOf( relocationMode );
+        coordinates = BenchmarkSupport.newCoordinates( batchSize );
+        coordinate = coordinates.get( 0 );
+    }
+
+    @Benchmark
+    public ArtifactResult resolveArtifact()
+        throws ArtifactResolverException
+    {
+        return resolver.resolveArtifact( buildingRequest, coordinate, mode );
+    }
+
+    @Benchmark
+    public ArtifactResult resolveArtifactByDelegate()
+        throws ArtifactResolverException
+    {
+        return delegate.resolveArtifact( buildingRequest, coordinate, mode );
+    }
+
+    @Benchmark
+    public List<ArtifactResult> resolveArtifacts()
+        throws ArtifactResolverException
+    {
+        return resolver.resolveArtifacts( buildingRequest, coordinates, mode );
+    }
+}
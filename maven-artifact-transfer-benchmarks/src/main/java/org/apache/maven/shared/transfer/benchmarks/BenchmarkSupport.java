@@ -0,0 +1,224 @@
+package org.apache.maven.shared.transfer.benchmarks;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.artifact.handler.ArtifactHandler;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.handler.manager.ArtifactHandlerManager;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.artifact.repository.ArtifactRepositoryPolicy;
+import org.apache.maven.artifact.repository.MavenArtifactRepository;
+import org.apache.maven.artifact.repository.layout.DefaultRepositoryLayout;
+import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.project.artifact.ProjectArtifactMetadata;
+import org.apache.maven.shared.transfer.artifact.ArtifactCoordinate;
+import org.apache.maven.shared.transfer.artifact.DefaultArtifactCoordinate;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.repository.LocalRepository;
+
+/**
+ * Builds the sessions, coordinates, artifacts and dependency graphs shared by the benchmarks.
+ */
+final class BenchmarkSupport
+{
+    /**
+     * The number of distinct groupIds of the generated artifacts.
+     */
+    private static final int GROUPS = 64;
+
+    /**
+     * Every that many generated coordinates, one has a classifier.
+     */
+    private static final int CLASSIFIER_INTERVAL = 4;
+
+    private BenchmarkSupport()
+    {
+        // no instances
+    }
+
+    /**
+     * Creates a building request with a fresh repository session on top of the given repository system, with a
+     * single remote repository.
+     */
+    static ProjectBuildingRequest newBuildingRequest( RepositorySystem repositorySystem )
+    {
+        File basedir = new File( System.getProperty( "java.io.tmpdir" ), "artifact-transfer-benchmarks" );
+
+        DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+        session.setLocalRepositoryManager(
+                repositorySystem.newLocalRepositoryManager( session, new LocalRepository( basedir ) ) );
+
+        ProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest();
+        buildingRequest.setRepositorySession( session );
+        buildingRequest.setRemoteRepositories( Collections.singletonList( newRemoteRepository() ) );
+        return buildingRequest;
+    }
+
+    /**
+     * Creates an artifact handler manager which maps every type to the extension of the same name, as Maven does for
+     * the types it does not know.
+     */
+    static ArtifactHandlerManager newArtifactHandlerManager()
+    {
+        return new ArtifactHandlerManager()
+        {
+            @Override
+            public ArtifactHandler getArtifactHandler( String type )
+            {
+                return new DefaultArtifactHandler( type );
+            }
+
+            @Override
+            public void addHandlers( Map<String, ArtifactHandler> handlers )
+            {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    static ArtifactRepository newRemoteRepository()
+    {
+        ArtifactRepositoryPolicy policy = new ArtifactRepositoryPolicy( true,
+                ArtifactRepositoryPolicy.UPDATE_POLICY_NEVER, ArtifactRepositoryPolicy.CHECKSUM_POLICY_IGNORE );
+        return new MavenArtifactRepository( "central", "https://repo.maven.apache.org/maven2",
+                new DefaultRepositoryLayout(), policy, policy );
+    }
+
+    static String groupId( int index )
+    {
+        return "org.example.group" + ( index % GROUPS );
+    }
+
+    static String artifactId( int index )
+    {
+        return "artifact-" + index;
+    }
+
+    /**
+     * Creates {@code count} distinct coordinates, every fourth one with the <code>sources</code> classifier.
+     */
+    static List<ArtifactCoordinate> newCoordinates( int count )
+    {
+        List<ArtifactCoordinate> coordinates = new ArrayList<>( count );
+        for ( int i = 0; i < count; i++ )
+        {
+            DefaultArtifactCoordinate coordinate = new DefaultArtifactCoordinate();
+            coordinate.setGroupId( groupId( i ) );
+            coordinate.setArtifactId( artifactId( i ) );
+            coordinate.setVersion( "1.0" );
+            coordinate.setExtension( "jar" );
+            coordinate.setClassifier( i % CLASSIFIER_INTERVAL == CLASSIFIER_INTERVAL - 1 ? "sources" : null );
+            coordinates.add( coordinate );
+        }
+        return coordinates;
+    }
+
+    /**
+     * Creates {@code count} distinct Maven artifacts, each with its POM attached. The files are left unset, so
+     * installing them does not stage anything on disk.
+     */
+    static List<org.apache.maven.artifact.Artifact> newMavenArtifacts( int count, ArtifactRepository repository )
+    {
+        DefaultArtifactHandler handler = new DefaultArtifactHandler( "jar" );
+        List<org.apache.maven.artifact.Artifact> artifacts = new ArrayList<>( count );
+        for ( int i = 0; i < count; i++ )
+        {
+            org.apache.maven.artifact.Artifact artifact = new org.apache.maven.artifact.DefaultArtifact( groupId( i ),
+                    artifactId( i ), "1.0", null, "jar", null, handler );
+            artifact.addMetadata( new ProjectArtifactMetadata( artifact, null ) );
+            artifact.setRepository( repository );
+            artifacts.add( artifact );
+        }
+        return artifacts;
+    }
+
+    /**
+     * The shapes of the generated dependency graphs.
+     */
+    enum GraphShape
+    {
+        /**
+         * Every node but the root has exactly one parent.
+         */
+        TREE,
+
+        /**
+         * Besides its own children, every parent but the first also depends on the last child of the parent before
+         * it, so these shared nodes close a diamond each and are reached on more than one path.
+         */
+        DIAMOND
+    }
+
+    /**
+     * Creates a dependency graph of {@code size} nodes in breadth first order, every node having up to
+     * {@code fanOut} children of its own. A wide and shallow graph like this keeps the recursion of the visitors
+     * shallow. The graph is acyclic for either shape, as a node only ever depends on nodes created after it.
+     *
+     * @return the root of the graph
+     */
+    static DependencyNode newDependencyGraph( int size, int fanOut, GraphShape shape )
+    {
+        DefaultDependencyNode root = newNode( 0 );
+        Deque<DefaultDependencyNode> parents = new ArrayDeque<>();
+        parents.add( root );
+
+        DependencyNode shared = null;
+        int created = 1;
+        while ( created < size )
+        {
+            DefaultDependencyNode parent = parents.poll();
+            List<DependencyNode> children = new ArrayList<>( fanOut + 1 );
+            if ( shape == GraphShape.DIAMOND && shared != null )
+            {
+                children.add( shared );
+            }
+            for ( int i = 0; i < fanOut && created < size; i++ )
+            {
+                DefaultDependencyNode child = newNode( created++ );
+                children.add( child );
+                parents.add( child );
+                shared = child;
+            }
+            parent.setChildren( children );
+        }
+        return root;
+    }
+
+    private static DefaultDependencyNode newNode( int index )
+    {
+        DefaultArtifact artifact = new DefaultArtifact( groupId( index ), artifactId( index ), "jar", "1.0" );
+        return new DefaultDependencyNode( new Dependency( artifact, "compile" ) );
+    }
+}
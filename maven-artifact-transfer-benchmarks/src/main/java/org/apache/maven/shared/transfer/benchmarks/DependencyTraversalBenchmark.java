@@ -0,0 +1,141 @@
+package org.apache.maven.shared.transfer.benchmarks;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.shared.transfer.collection.DependencyCollectionException;
+import org.apache.maven.shared.transfer.collection.DependencyCollector;
+import org.apache.maven.shared.transfer.collection.internal.DefaultDependencyCollector;
+import org.apache.maven.shared.transfer.collection.internal.DependencyCollectorDelegate;
+import org.apache.maven.shared.transfer.collection.internal.Maven31DependencyCollector;
+import org.apache.maven.shared.transfer.dependencies.DefaultDependableCoordinate;
+import org.apache.maven.shared.transfer.graph.DependencyNode;
+import org.apache.maven.shared.transfer.graph.DependencyVisitor;
+import org.apache.maven.shared.transfer.support.Selector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures walking the {@link DependencyNode} adapters of the Maven 3.1.x delegate over synthetic graphs, both the
+ * first walk right after collection, which creates the adapters, and repeated walks over a collected graph. The
+ * graphs are either pure trees or contain shared nodes, which the walk enters once for every path leading to them.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class DependencyTraversalBenchmark
+{
+    @Param( { "1000", "10000", "100000" } )
+    private int graphSize;
+
+    @Param( { "8" } )
+    private int fanOut;
+
+    @Param( { "TREE", "DIAMOND" } )
+    private BenchmarkSupport.GraphShape shape;
+
+    private DependencyCollector collector;
+
+    private ProjectBuildingRequest buildingRequest;
+
+    private DefaultDependableCoordinate rootCoordinate;
+
+    private DependencyNode collectedRoot;
+
+    @Setup
+    public void setUp()
+        throws Exception
+    {
+        InMemoryRepositorySystem repositorySystem = new InMemoryRepositorySystem();
+        repositorySystem.setDependencyGraph( BenchmarkSupport.newDependencyGraph( graphSize, fanOut, shape ) );
+
+        DependencyCollectorDelegate delegate = new Maven31DependencyCollector( repositorySystem,
+                BenchmarkSupport.newArtifactHandlerManager() );
+        collector = new DefaultDependencyCollector( Collections.singletonMap( Selector.MAVEN_3_1_X, delegate ) );
+        buildingRequest = BenchmarkSupport.newBuildingRequest( repositorySystem );
+
+        rootCoordinate = new DefaultDependableCoordinate();
+        rootCoordinate.setGroupId( BenchmarkSupport.groupId( 0 ) );
+        rootCoordinate.setArtifactId( BenchmarkSupport.artifactId( 0 ) );
+        rootCoordinate.setVersion( "1.0" );
+        rootCoordinate.setType( "jar" );
+
+        collectedRoot = collector.collectDependencies( buildingRequest, rootCoordinate ).getRoot();
+        collectedRoot.accept( new CountingVisitor() );
+    }
+
+    @Benchmark
+    public int collectAndWalk()
+        throws DependencyCollectionException
+    {
+        CountingVisitor visitor = new CountingVisitor();
+        collector.collectDependencies( buildingRequest, rootCoordinate ).getRoot().accept( visitor );
+        return visitor.count;
+    }
+
+    @Benchmark
+    public int walk()
+    {
+        CountingVisitor visitor = new CountingVisitor();
+        collectedRoot.accept( visitor );
+        return visitor.count;
+    }
+
+    /**
+     * Counts the nodes, touching the artifact of each so the adapters cannot skip converting it.
+     */
+    private static final class CountingVisitor
+        implements DependencyVisitor
+    {
+        private int count;
+
+        @Override
+        public boolean visitEnter( DependencyNode node )
+        {
+            if ( node.getArtifact() != null )
+            {
+                count++;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean visitLeave( DependencyNode node )
+        {
+            return true;
+        }
+    }
+}
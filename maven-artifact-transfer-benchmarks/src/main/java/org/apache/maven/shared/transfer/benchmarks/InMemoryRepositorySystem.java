@@ -0,0 +1,292 @@
+package org.apache.maven.shared.transfer.benchmarks;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.aether.RepositoryEvent;
+import org.eclipse.aether.RepositoryEvent.EventType;
+import org.eclipse.aether.RepositoryListener;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SyncContext;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.collection.CollectResult;
+import org.eclipse.aether.deployment.DeployRequest;
+import org.eclipse.aether.deployment.DeployResult;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.DependencyVisitor;
+import org.eclipse.aether.installation.InstallRequest;
+import org.eclipse.aether.installation.InstallResult;
+import org.eclipse.aether.internal.impl.SimpleLocalRepositoryManagerFactory;
+import org.eclipse.aether.metadata.Metadata;
+import org.eclipse.aether.repository.ArtifactRepository;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.NoLocalRepositoryManagerException;
+import org.eclipse.aether.resolution.ArtifactDescriptorRequest;
+import org.eclipse.aether.resolution.ArtifactDescriptorResult;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.eclipse.aether.resolution.DependencyRequest;
+import org.eclipse.aether.resolution.DependencyResult;
+import org.eclipse.aether.resolution.MetadataRequest;
+import org.eclipse.aether.resolution.MetadataResult;
+import org.eclipse.aether.resolution.VersionRangeRequest;
+import org.eclipse.aether.resolution.VersionRangeResult;
+import org.eclipse.aether.resolution.VersionRequest;
+import org.eclipse.aether.resolution.VersionResult;
+import org.eclipse.aether.util.version.GenericVersionScheme;
+import org.eclipse.aether.version.InvalidVersionSpecificationException;
+
+/**
+ * A {@link RepositorySystem} that never touches the network nor the file system, so the benchmarks measure the
+ * facades and delegates rather than the transport. Every artifact resolves to its path in the local repository,
+ * descriptors are never relocated, and installs and deploys only count the artifacts. Resolution fires the same
+ * repository events as the real system, so the listeners installed by the delegates are exercised too.
+ */
+public class InMemoryRepositorySystem
+    implements RepositorySystem
+{
+    private static final SyncContext NO_SYNC = new SyncContext()
+    {
+        @Override
+        public void acquire( Collection<? extends Artifact> artifacts, Collection<? extends Metadata> metadatas )
+        {
+            // nothing to lock
+        }
+
+        @Override
+        public void close()
+        {
+            // nothing to release
+        }
+    };
+
+    private final GenericVersionScheme versionScheme = new GenericVersionScheme();
+
+    private final AtomicLong installed = new AtomicLong();
+
+    private final AtomicLong deployed = new AtomicLong();
+
+    private volatile DependencyNode dependencyGraph;
+
+    /**
+     * Sets the graph returned by {@link #collectDependencies(RepositorySystemSession, CollectRequest)}, whatever the
+     * requested root.
+     *
+     * @param dependencyGraph the root of the graph, {@code null} to return the requested root without children
+     */
+    public void setDependencyGraph( DependencyNode dependencyGraph )
+    {
+        this.dependencyGraph = dependencyGraph;
+    }
+
+    /**
+     * @return the number of artifacts installed so far
+     */
+    public long getInstalledCount()
+    {
+        return installed.get();
+    }
+
+    /**
+     * @return the number of artifacts deployed so far
+     */
+    public long getDeployedCount()
+    {
+        return deployed.get();
+    }
+
+    @Override
+    public VersionRangeResult resolveVersionRange( RepositorySystemSession session, VersionRangeRequest request )
+    {
+        VersionRangeResult result = new VersionRangeResult( request );
+        try
+        {
+            result.setVersionConstraint( versionScheme.parseVersionConstraint( request.getArtifact().getVersion() ) );
+            if ( result.getVersionConstraint().getRange() == null )
+            {
+                result.addVersion( result.getVersionConstraint().getVersion() );
+            }
+        }
+        catch ( InvalidVersionSpecificationException e )
+        {
+            result.addException( e );
+        }
+        return result;
+    }
+
+    @Override
+    public VersionResult resolveVersion( RepositorySystemSession session, VersionRequest request )
+    {
+        return new VersionResult( request ).setVersion( request.getArtifact().getVersion() );
+    }
+
+    @Override
+    public ArtifactDescriptorResult readArtifactDescriptor( RepositorySystemSession session,
+                                                            ArtifactDescriptorRequest request )
+    {
+        ArtifactDescriptorResult result = new ArtifactDescriptorResult( request );
+        result.setArtifact( request.getArtifact() );
+        result.setRepositories( request.getRepositories() );
+        return result;
+    }
+
+    @Override
+    public CollectResult collectDependencies( RepositorySystemSession session, CollectRequest request )
+    {
+        DependencyNode root = dependencyGraph;
+        if ( root == null )
+        {
+            root = request.getRoot() != null ? new DefaultDependencyNode( request.getRoot() )
+                            : new DefaultDependencyNode( request.getRootArtifact() );
+        }
+        return new CollectResult( request ).setRoot( root );
+    }
+
+    @Override
+    public DependencyResult resolveDependencies( RepositorySystemSession session, DependencyRequest request )
+    {
+        DependencyNode root = request.getRoot();
+        if ( root == null )
+        {
+            root = collectDependencies( session, request.getCollectRequest() ).getRoot();
+        }
+
+        final List<ArtifactRequest> requests = new ArrayList<>();
+        root.accept( new DependencyVisitor()
+        {
+            @Override
+            public boolean visitEnter( DependencyNode node )
+            {
+                if ( node.getDependency() != null )
+                {
+                    requests.add( new ArtifactRequest( node ) );
+                }
+                return true;
+            }
+
+            @Override
+            public boolean visitLeave( DependencyNode node )
+            {
+                return true;
+            }
+        } );
+
+        return new DependencyResult( request ).setRoot( root )
+                        .setArtifactResults( resolveArtifacts( session, requests ) );
+    }
+
+    @Override
+    public ArtifactResult resolveArtifact( RepositorySystemSession session, ArtifactRequest request )
+    {
+        Artifact artifact = request.getArtifact();
+        ArtifactRepository repository = request.getRepositories().isEmpty() ? session.getLocalRepository()
+                        : request.getRepositories().get( 0 );
+        RepositoryListener listener = session.getRepositoryListener();
+
+        if ( listener != null )
+        {
+            listener.artifactResolving( new RepositoryEvent.Builder( session, EventType.ARTIFACT_RESOLVING )
+                            .setArtifact( artifact ).build() );
+        }
+
+        String path = session.getLocalRepositoryManager().getPathForLocalArtifact( artifact );
+        artifact = artifact.setFile( new File( session.getLocalRepository().getBasedir(), path ) );
+
+        if ( listener != null )
+        {
+            listener.artifactResolved( new RepositoryEvent.Builder( session, EventType.ARTIFACT_RESOLVED )
+                            .setArtifact( artifact ).setRepository( repository ).setFile( artifact.getFile() )
+                            .build() );
+        }
+
+        return new ArtifactResult( request ).setArtifact( artifact ).setRepository( repository );
+    }
+
+    @Override
+    public List<ArtifactResult> resolveArtifacts( RepositorySystemSession session,
+                                                  Collection<? extends ArtifactRequest> requests )
+    {
+        List<ArtifactResult> results = new ArrayList<>( requests.size() );
+        for ( ArtifactRequest request : requests )
+        {
+            results.add( resolveArtifact( session, request ) );
+        }
+        return results;
+    }
+
+    @Override
+    public List<MetadataResult> resolveMetadata( RepositorySystemSession session,
+                                                 Collection<? extends MetadataRequest> requests )
+    {
+        List<MetadataResult> results = new ArrayList<>( requests.size() );
+        for ( MetadataRequest request : requests )
+        {
+            // the metadata is missing, as for a repository which never saw a deploy
+            results.add( new MetadataResult( request ) );
+        }
+        return results;
+    }
+
+    @Override
+    public InstallResult install( RepositorySystemSession session, InstallRequest request )
+    {
+        installed.addAndGet( request.getArtifacts().size() );
+        return new InstallResult( request ).setArtifacts( request.getArtifacts() )
+                        .setMetadata( request.getMetadata() );
+    }
+
+    @Override
+    public DeployResult deploy( RepositorySystemSession session, DeployRequest request )
+    {
+        deployed.addAndGet( request.getArtifacts().size() );
+        return new DeployResult( request ).setArtifacts( request.getArtifacts() )
+                        .setMetadata( request.getMetadata() );
+    }
+
+    @Override
+    public LocalRepositoryManager newLocalRepositoryManager( RepositorySystemSession session,
+                                                             LocalRepository localRepository )
+    {
+        try
+        {
+            return new SimpleLocalRepositoryManagerFactory().newInstance( session, localRepository );
+        }
+        catch ( NoLocalRepositoryManagerException e )
+        {
+            throw new IllegalArgumentException( e.getMessage(), e );
+        }
+    }
+
+    @Override
+    public SyncContext newSyncContext( RepositorySystemSession session, boolean shared )
+    {
+        return NO_SYNC;
+    }
+}
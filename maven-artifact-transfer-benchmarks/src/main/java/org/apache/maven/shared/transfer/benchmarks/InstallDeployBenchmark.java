@@ -0,0 +1,113 @@
+package org.apache.maven.shared.transfer.benchmarks;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.shared.transfer.artifact.deploy.ArtifactDeployer;
+import org.apache.maven.shared.transfer.artifact.deploy.ArtifactDeployerException;
+import org.apache.maven.shared.transfer.artifact.deploy.internal.ArtifactDeployerDelegate;
+import org.apache.maven.shared.transfer.artifact.deploy.internal.DefaultArtifactDeployer;
+import org.apache.maven.shared.transfer.artifact.deploy.internal.Maven31ArtifactDeployer;
+import org.apache.maven.shared.transfer.artifact.install.ArtifactInstaller;
+import org.apache.maven.shared.transfer.artifact.install.ArtifactInstallerException;
+import org.apache.maven.shared.transfer.artifact.install.internal.ArtifactInstallerDelegate;
+import org.apache.maven.shared.transfer.artifact.install.internal.DefaultArtifactInstaller;
+import org.apache.maven.shared.transfer.artifact.install.internal.Maven31ArtifactInstaller;
+import org.apache.maven.shared.transfer.repository.internal.Maven31RepositoryManager;
+import org.apache.maven.shared.transfer.support.Selector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures turning Maven artifacts, each with its POM attached, into install and deploy requests of the Maven 3.1.x
+ * delegates. The artifacts have no files and the repository system only counts them, so neither staging nor
+ * transport is part of the measurement.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class InstallDeployBenchmark
+{
+    @Param( { "10", "1000" } )
+    private int artifactCount;
+
+    private InMemoryRepositorySystem repositorySystem;
+
+    private ArtifactInstaller installer;
+
+    private ArtifactDeployer deployer;
+
+    private ProjectBuildingRequest buildingRequest;
+
+    private ArtifactRepository remoteRepository;
+
+    private List<org.apache.maven.artifact.Artifact> artifacts;
+
+    @Setup
+    public void setUp()
+    {
+        repositorySystem = new InMemoryRepositorySystem();
+
+        ArtifactInstallerDelegate installerDelegate =
+                new Maven31ArtifactInstaller( repositorySystem, new Maven31RepositoryManager( repositorySystem ) );
+        installer = new DefaultArtifactInstaller( Collections.singletonMap( Selector.MAVEN_3_1_X, installerDelegate ) );
+
+        ArtifactDeployerDelegate deployerDelegate = new Maven31ArtifactDeployer( repositorySystem );
+        deployer = new DefaultArtifactDeployer( Collections.singletonMap( Selector.MAVEN_3_1_X, deployerDelegate ) );
+
+        buildingRequest = BenchmarkSupport.newBuildingRequest( repositorySystem );
+        remoteRepository = BenchmarkSupport.newRemoteRepository();
+        artifacts = BenchmarkSupport.newMavenArtifacts( artifactCount, remoteRepository );
+    }
+
+    @Benchmark
+    public long install()
+        throws ArtifactInstallerException
+    {
+        installer.install( buildingRequest, artifacts );
+        return repositorySystem.getInstalledCount();
+    }
+
+    @Benchmark
+    public long deploy()
+        throws ArtifactDeployerException
+    {
+        deployer.deploy( buildingRequest, remoteRepository, artifacts );
+        return repositorySystem.getDeployedCount();
+    }
+}
@@ -0,0 +1,114 @@
+package org.apache.maven.shared.transfer.benchmarks;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.shared.transfer.artifact.ArtifactCoordinate;
+import org.apache.maven.shared.transfer.artifact.TransferUtils;
+import org.apache.maven.shared.transfer.support.CoordinateInterner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the coordinate conversions of {@link TransferUtils} over a batch of distinct coordinates: parsing, with and
+ * without interning, formatting, and converting Maven artifacts.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class TransferUtilsBenchmark
+{
+    private static final int BATCH_SIZE = 1000;
+
+    private List<String> formatted;
+
+    private List<ArtifactCoordinate> coordinates;
+
+    private List<org.apache.maven.artifact.Artifact> artifacts;
+
+    private CoordinateInterner interner;
+
+    @Setup
+    public void setUp()
+    {
+        coordinates = BenchmarkSupport.newCoordinates( BATCH_SIZE );
+        artifacts = BenchmarkSupport.newMavenArtifacts( BATCH_SIZE, null );
+        formatted = new ArrayList<>( BATCH_SIZE );
+        for ( ArtifactCoordinate coordinate : coordinates )
+        {
+            formatted.add( TransferUtils.formatArtifactCoordinate( coordinate ) );
+        }
+        interner = new CoordinateInterner();
+    }
+
+    @Benchmark
+    public void parseArtifactCoordinate( Blackhole blackhole )
+    {
+        for ( int i = 0; i < BATCH_SIZE; i++ )
+        {
+            blackhole.consume( TransferUtils.parseArtifactCoordinate( formatted.get( i ) ) );
+        }
+    }
+
+    @Benchmark
+    public void parseArtifactCoordinateInterned( Blackhole blackhole )
+    {
+        for ( int i = 0; i < BATCH_SIZE; i++ )
+        {
+            blackhole.consume( TransferUtils.parseArtifactCoordinate( formatted.get( i ), interner ) );
+        }
+    }
+
+    @Benchmark
+    public void formatArtifactCoordinate( Blackhole blackhole )
+    {
+        StringBuilder buffer = new StringBuilder();
+        for ( int i = 0; i < BATCH_SIZE; i++ )
+        {
+            buffer.setLength( 0 );
+            blackhole.consume( TransferUtils.formatArtifactCoordinate( buffer, coordinates.get( i ) ).length() );
+        }
+    }
+
+    @Benchmark
+    public void toArtifactCoordinate( Blackhole blackhole )
+    {
+        for ( int i = 0; i < BATCH_SIZE; i++ )
+        {
+            blackhole.consume( TransferUtils.toArtifactCoordinate( artifacts.get( i ) ) );
+        }
+    }
+}
@@ -21,6 +21,10 @@ package org.apache.maven.shared.transfer.artifact;
 
 import static org.junit.Assert.*;
 
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.maven.shared.transfer.support.CoordinateInterner;
 import org.junit.Test;
 
 public class DefaultArtifactCoordinateTest
@@ -46,4 +50,61 @@ public class DefaultArtifactCoordinateTest
         coordinate.setExtension( "EXTENSION" );
         assertEquals( "GROUPID:ARTIFACTID:EXTENSION:CLASSIFIER:VERSION", coordinate.toString() );
     }
+
+    @Test
+    public void testEqualsOfBuiltCoordinates()
+    {
+        DefaultArtifactCoordinate coordinate = newCoordinate();
+        DefaultArtifactCoordinate other = newCoordinate();
+        other.setExtension( "jar" );
+        // only the immutable coordinates have value semantics
+        assertNotEquals( coordinate, other );
+        assertEquals( coordinate.build(), other.build() );
+        assertEquals( coordinate.build().hashCode(), other.build().hashCode() );
+
+        other.setClassifier( "sources" );
+        assertNotEquals( coordinate.build(), other.build() );
+    }
+
+    @Test
+    public void testBuild()
+    {
+        DefaultArtifactCoordinate coordinate = newCoordinate();
+        ImmutableArtifactCoordinate immutable = coordinate.build();
+        assertEquals( "GROUPID:ARTIFACTID:jar:VERSION", immutable.toString() );
+        assertEquals( "jar", immutable.getExtension() );
+        assertEquals( immutable, ImmutableArtifactCoordinate.of( coordinate ) );
+        assertSame( immutable, ImmutableArtifactCoordinate.of( immutable ) );
+
+        Set<ArtifactCoordinate> set = new HashSet<>();
+        set.add( immutable );
+        assertTrue( set.contains( newCoordinate().build() ) );
+
+        coordinate.setVersion( "OTHER" );
+        assertEquals( "VERSION", immutable.getVersion() );
+    }
+
+    @Test
+    public void testBuildInterned()
+    {
+        CoordinateInterner interner = new CoordinateInterner();
+        ImmutableArtifactCoordinate first = newCoordinate().build( interner );
+
+        DefaultArtifactCoordinate coordinate = newCoordinate();
+        coordinate.setGroupId( new String( "GROUPID" ) );
+        assertSame( first, coordinate.build( interner ) );
+
+        coordinate.setClassifier( "sources" );
+        assertSame( first.getGroupId(), coordinate.build( interner ).getGroupId() );
+        assertEquals( 2, interner.size() );
+    }
+
+    private static DefaultArtifactCoordinate newCoordinate()
+    {
+        DefaultArtifactCoordinate coordinate = new DefaultArtifactCoordinate();
+        coordinate.setGroupId( "GROUPID" );
+        coordinate.setArtifactId( "ARTIFACTID" );
+        coordinate.setVersion( "VERSION" );
+        return coordinate;
+    }
 }
@@ -0,0 +1,103 @@
+package org.apache.maven.shared.transfer.artifact;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import org.apache.maven.shared.transfer.support.CoordinateInterner;
+import org.junit.Test;
+
+public class TransferUtilsTest
+{
+    @Test
+    public void testParseArtifactCoordinate()
+    {
+        ArtifactCoordinate coordinate = TransferUtils.parseArtifactCoordinate( "GROUPID:ARTIFACTID:VERSION" );
+        assertEquals( "GROUPID", coordinate.getGroupId() );
+        assertEquals( "ARTIFACTID", coordinate.getArtifactId() );
+        assertEquals( "VERSION", coordinate.getVersion() );
+        assertEquals( "jar", coordinate.getExtension() );
+        assertNull( coordinate.getClassifier() );
+
+        coordinate = TransferUtils.parseArtifactCoordinate( "GROUPID:ARTIFACTID:pom:VERSION" );
+        assertEquals( "pom", coordinate.getExtension() );
+        assertEquals( "VERSION", coordinate.getVersion() );
+
+        coordinate = TransferUtils.parseArtifactCoordinate( "GROUPID:ARTIFACTID::VERSION" );
+        assertEquals( "jar", coordinate.getExtension() );
+
+        coordinate = TransferUtils.parseArtifactCoordinate( "GROUPID:ARTIFACTID:zip:CLASSIFIER:VERSION" );
+        assertEquals( "zip", coordinate.getExtension() );
+        assertEquals( "CLASSIFIER", coordinate.getClassifier() );
+        assertEquals( "VERSION", coordinate.getVersion() );
+    }
+
+    @Test
+    public void testParseArtifactCoordinateWithInterner()
+    {
+        CoordinateInterner interner = new CoordinateInterner();
+        assertSame( TransferUtils.parseArtifactCoordinate( "GROUPID:ARTIFACTID:VERSION", interner ),
+                    TransferUtils.parseArtifactCoordinate( new StringBuilder( "GROUPID:ARTIFACTID:VERSION" ),
+                                                           interner ) );
+    }
+
+    @Test
+    public void testParseBadArtifactCoordinate()
+    {
+        String[] badCoordinates = { "", "GROUPID", "GROUPID:ARTIFACTID", ":ARTIFACTID:VERSION", "GROUPID::VERSION",
+            "GROUPID:ARTIFACTID:", "GROUPID:ARTIFACTID:jar::VERSION", "GROUPID:ARTIFACTID:jar:CLASSIFIER:VERSION:X",
+            "GROUPID:ARTIFACT ID:VERSION" };
+        for ( String coordinates : badCoordinates )
+        {
+            try
+            {
+                TransferUtils.parseArtifactCoordinate( coordinates );
+                fail( "Expected failure for " + coordinates );
+            }
+            catch ( IllegalArgumentException e )
+            {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testFormatArtifactCoordinate()
+    {
+        DefaultArtifactCoordinate coordinate = new DefaultArtifactCoordinate();
+        coordinate.setGroupId( "GROUPID" );
+        coordinate.setArtifactId( "ARTIFACTID" );
+        coordinate.setVersion( "VERSION" );
+        assertEquals( "GROUPID:ARTIFACTID:jar:VERSION", TransferUtils.formatArtifactCoordinate( coordinate ) );
+
+        coordinate.setClassifier( "CLASSIFIER" );
+        String formatted = TransferUtils.formatArtifactCoordinate( coordinate );
+        assertEquals( "GROUPID:ARTIFACTID:jar:CLASSIFIER:VERSION", formatted );
+        assertEquals( coordinate.build(), TransferUtils.parseArtifactCoordinate( formatted ) );
+
+        StringBuilder buffer = new StringBuilder( "> " );
+        assertSame( buffer, TransferUtils.formatArtifactCoordinate( buffer, coordinate ) );
+        assertEquals( "> GROUPID:ARTIFACTID:jar:CLASSIFIER:VERSION", buffer.toString() );
+    }
+}
@@ -46,6 +46,14 @@ public class DefaultArtifactDeployerTest
             TestUtils.delegateMap( ArtifactDeployerDelegate.class )
     );
     
+    @Test
+    public void testConstructorShouldFailWithoutDelegateForRuntime()
+    {
+        thrown.expect( IllegalStateException.class );
+        thrown.expectMessage( "No delegate for runtime" );
+        new DefaultArtifactDeployer( Collections.<String, ArtifactDeployerDelegate>emptyMap() );
+    }
+
     @Test
     public void testDeployShouldReturnIllegalArgumentExceptionForFirstParameterWithNull()
         throws ArtifactDeployerException
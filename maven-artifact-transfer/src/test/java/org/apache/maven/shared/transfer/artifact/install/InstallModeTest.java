@@ -0,0 +1,43 @@
+package org.apache.maven.shared.transfer.artifact.install;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class InstallModeTest
+{
+    @Test
+    public void testParse()
+    {
+        assertEquals( InstallMode.DEFAULT, InstallMode.parse( null ) );
+        assertEquals( InstallMode.LINK, InstallMode.parse( InstallMode.LINK ) );
+        assertEquals( InstallMode.PARALLEL_COPY, InstallMode.parse( "parallel-copy" ) );
+        assertEquals( InstallMode.LINK, InstallMode.parse( " link " ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testParseUnknownValue()
+    {
+        InstallMode.parse( "reflink" );
+    }
+}
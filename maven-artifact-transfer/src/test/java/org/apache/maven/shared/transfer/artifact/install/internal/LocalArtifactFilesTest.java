@@ -0,0 +1,193 @@
+package org.apache.maven.shared.transfer.artifact.install.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.maven.shared.transfer.artifact.install.InstallMode;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LocalArtifactFilesTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testStageWithDefaultModeDoesNothing()
+        throws IOException
+    {
+        File source = newFile( "a.jar", "a" );
+        File target = new File( temporaryFolder.getRoot(), "repo/a/1.0/a-1.0.jar" );
+
+        LocalArtifactFiles.stage( singleton( source, target ), InstallMode.DEFAULT );
+
+        assertFalse( target.exists() );
+    }
+
+    @Test
+    public void testStageCopiesContentAndLastModified()
+        throws IOException
+    {
+        Map<File, File> files = new LinkedHashMap<>();
+        for ( int i = 0; i < 4; i++ )
+        {
+            files.put( new File( temporaryFolder.getRoot(), "repo/a" + i + "/1.0/a" + i + "-1.0.jar" ),
+                       newFile( "a" + i + ".jar", "content " + i ) );
+        }
+
+        LocalArtifactFiles.stage( files, InstallMode.PARALLEL_COPY );
+
+        for ( Map.Entry<File, File> entry : files.entrySet() )
+        {
+            assertPlaced( entry.getValue(), entry.getKey() );
+        }
+    }
+
+    @Test
+    public void testStagePlacesSharedSourceAtEachTarget()
+        throws IOException
+    {
+        File source = newFile( "a.jar", "a" );
+        File jar = new File( temporaryFolder.getRoot(), "repo/a/1.0/a-1.0.jar" );
+        File classified = new File( temporaryFolder.getRoot(), "repo/a/1.0/a-1.0-tests.jar" );
+        Map<File, File> files = new LinkedHashMap<>();
+        files.put( jar, source );
+        files.put( classified, source );
+
+        LocalArtifactFiles.stage( files, InstallMode.PARALLEL_COPY, Arrays.asList( "SHA-1" ) );
+
+        assertPlaced( source, jar );
+        assertPlaced( source, classified );
+        assertChecksum( "86f7e437faa5a7fce15d1ddcb9eaeaea377667b8", new File( jar.getPath() + ".sha1" ) );
+        assertChecksum( "86f7e437faa5a7fce15d1ddcb9eaeaea377667b8", new File( classified.getPath() + ".sha1" ) );
+    }
+
+    @Test
+    public void testStageLinksOrCopies()
+        throws IOException
+    {
+        File source = newFile( "a.jar", "a" );
+        File target = new File( temporaryFolder.getRoot(), "repo/a/1.0/a-1.0.jar" );
+
+        LocalArtifactFiles.stage( singleton( source, target ), InstallMode.LINK );
+
+        assertPlaced( source, target );
+    }
+
+    @Test
+    public void testStageReplacesOutdatedFile()
+        throws IOException
+    {
+        File source = newFile( "a.jar", "new content" );
+        File target = new File( temporaryFolder.getRoot(), "repo/a/1.0/a-1.0.jar" );
+        Files.createDirectories( target.getParentFile().toPath() );
+        Files.write( target.toPath(), "old".getBytes( StandardCharsets.UTF_8 ) );
+
+        LocalArtifactFiles.stage( singleton( source, target ), InstallMode.PARALLEL_COPY );
+
+        assertPlaced( source, target );
+        assertEquals( 1, target.getParentFile().list().length );
+    }
+
+    @Test
+    public void testParseChecksums()
+    {
+        assertEquals( Collections.emptyList(), LocalArtifactFiles.parseChecksums( null ) );
+        assertEquals( Collections.emptyList(), LocalArtifactFiles.parseChecksums( " " ) );
+        assertEquals( Arrays.asList( "SHA-1", "MD5" ), LocalArtifactFiles.parseChecksums( "sha-1, MD5,,SHA-1" ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testParseUnknownChecksum()
+    {
+        LocalArtifactFiles.parseChecksums( "SHA-1,CRC-1" );
+    }
+
+    @Test
+    public void testStageWritesChecksumsWhileCopying()
+        throws IOException
+    {
+        File source = newFile( "a.jar", "a" );
+        File target = new File( temporaryFolder.getRoot(), "repo/a/1.0/a-1.0.jar" );
+
+        LocalArtifactFiles.stage( singleton( source, target ), InstallMode.DEFAULT, Arrays.asList( "SHA-1", "MD5" ) );
+
+        assertPlaced( source, target );
+        assertChecksum( "86f7e437faa5a7fce15d1ddcb9eaeaea377667b8", new File( target.getPath() + ".sha1" ) );
+        assertChecksum( "0cc175b9c0f1b6a831c399e269772661", new File( target.getPath() + ".md5" ) );
+    }
+
+    @Test
+    public void testStageOnlyWritesChecksumsOfPom()
+        throws IOException
+    {
+        File source = newFile( "pom.xml", "a" );
+        File target = new File( temporaryFolder.getRoot(), "repo/a/1.0/a-1.0.pom" );
+
+        LocalArtifactFiles.stage( singleton( source, target ), InstallMode.LINK, Arrays.asList( "SHA-1" ) );
+
+        assertFalse( target.exists() );
+        assertChecksum( "86f7e437faa5a7fce15d1ddcb9eaeaea377667b8", new File( target.getPath() + ".sha1" ) );
+    }
+
+    private static void assertChecksum( String expected, File checksumFile )
+        throws IOException
+    {
+        assertEquals( expected, new String( Files.readAllBytes( checksumFile.toPath() ), StandardCharsets.US_ASCII ) );
+    }
+
+    private static Map<File, File> singleton( File source, File target )
+    {
+        Map<File, File> files = new LinkedHashMap<>();
+        files.put( target, source );
+        return files;
+    }
+
+    private static void assertPlaced( File source, File target )
+        throws IOException
+    {
+        assertArrayEquals( Files.readAllBytes( source.toPath() ), Files.readAllBytes( target.toPath() ) );
+        assertEquals( source.lastModified(), target.lastModified() );
+    }
+
+    private File newFile( String name, String content )
+        throws IOException
+    {
+        File file = temporaryFolder.newFile( name );
+        Files.write( file.toPath(), content.getBytes( StandardCharsets.UTF_8 ) );
+        assertTrue( file.setLastModified( 1500000000000L ) );
+        return file;
+    }
+}
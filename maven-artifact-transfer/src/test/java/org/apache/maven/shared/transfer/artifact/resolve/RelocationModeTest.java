@@ -0,0 +1,55 @@
+package org.apache.maven.shared.transfer.artifact.resolve;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class RelocationModeTest
+{
+    @Test
+    public void testParse()
+    {
+        assertEquals( RelocationMode.ALWAYS, RelocationMode.parse( null ) );
+        assertEquals( RelocationMode.SKIP_NON_POM, RelocationMode.parse( RelocationMode.SKIP_NON_POM ) );
+        assertEquals( RelocationMode.SKIP_CLASSIFIED, RelocationMode.parse( "skip-classified" ) );
+        assertEquals( RelocationMode.SKIP_NON_POM, RelocationMode.parse( " SKIP_NON_POM " ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testParseUnknownValue()
+    {
+        RelocationMode.parse( "sometimes" );
+    }
+
+    @Test
+    public void testIsDescriptorRequired()
+    {
+        assertTrue( RelocationMode.ALWAYS.isDescriptorRequired( "sources", "jar" ) );
+
+        assertTrue( RelocationMode.SKIP_CLASSIFIED.isDescriptorRequired( null, "jar" ) );
+        assertTrue( RelocationMode.SKIP_CLASSIFIED.isDescriptorRequired( "", "jar" ) );
+        assertFalse( RelocationMode.SKIP_CLASSIFIED.isDescriptorRequired( "sources", "jar" ) );
+
+        assertTrue( RelocationMode.SKIP_NON_POM.isDescriptorRequired( null, "pom" ) );
+        assertFalse( RelocationMode.SKIP_NON_POM.isDescriptorRequired( null, "jar" ) );
+    }
+}
@@ -21,12 +21,16 @@ package org.apache.maven.shared.transfer.artifact.resolve.internal;
 
 import static org.mockito.Mockito.mock;
 
+import java.util.Arrays;
+import java.util.Collection;
+
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.shared.transfer.TestUtils;
 import org.apache.maven.shared.transfer.artifact.ArtifactCoordinate;
 import org.apache.maven.shared.transfer.artifact.resolve.ArtifactResolver;
 import org.apache.maven.shared.transfer.artifact.resolve.ArtifactResolverException;
+import org.apache.maven.shared.transfer.artifact.resolve.RelocationMode;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -90,4 +94,52 @@ public class DefaultArtifactResolverTest
         dap.resolveArtifact( pbr, (ArtifactCoordinate) null );
     }
 
+    @Test
+    public void testResolveArtifactsShouldFailWithIAEWhenParameterBuildingRequestIsNull()
+        throws ArtifactResolverException
+    {
+        thrown.expect( IllegalArgumentException.class );
+        thrown.expectMessage( "The parameter buildingRequest is not allowed to be null." );
+
+        dap.resolveArtifacts( null, null );
+    }
+
+    @Test
+    public void testResolveArtifactsShouldFailWithIAEWhenCoordinatesIsNull()
+        throws ArtifactResolverException
+    {
+        thrown.expect( IllegalArgumentException.class );
+        thrown.expectMessage( "The parameter coordinates is not allowed to be null." );
+
+        ProjectBuildingRequest pbr = mock( ProjectBuildingRequest.class );
+
+        dap.resolveArtifacts( pbr, null );
+    }
+
+    @Test
+    public void testResolveArtifactsShouldFailWithIAEWhenCoordinatesContainsNull()
+        throws ArtifactResolverException
+    {
+        thrown.expect( IllegalArgumentException.class );
+        thrown.expectMessage( "The parameter coordinates is not allowed to contain null." );
+
+        ProjectBuildingRequest pbr = mock( ProjectBuildingRequest.class );
+        Collection<ArtifactCoordinate> coordinates =
+            Arrays.asList( mock( ArtifactCoordinate.class ), (ArtifactCoordinate) null );
+
+        dap.resolveArtifacts( pbr, coordinates );
+    }
+
+    @Test
+    public void testResolveArtifactWithRelocationModeShouldFailWithIAEWhenRelocationModeIsNull()
+        throws ArtifactResolverException
+    {
+        thrown.expect( IllegalArgumentException.class );
+        thrown.expectMessage( "The parameter relocationMode is not allowed to be null." );
+
+        ProjectBuildingRequest pbr = mock( ProjectBuildingRequest.class );
+
+        dap.resolveArtifact( pbr, mock( ArtifactCoordinate.class ), null );
+    }
+
 }
@@ -0,0 +1,123 @@
+package org.apache.maven.shared.transfer.artifact.resolve.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.apache.maven.shared.transfer.artifact.resolve.ResolutionMetrics;
+import org.junit.Test;
+
+public class ResolutionRecorderTest
+{
+    private static final String JAR = "org/example/example/1.0-SNAPSHOT/example-1.0-20200101.000000-1.jar";
+
+    @Test
+    public void testPath()
+    {
+        assertEquals( JAR, ResolutionRecorder.path( "org.example", "example", "1.0-SNAPSHOT",
+                                                    "1.0-20200101.000000-1", null, "jar" ) );
+        assertEquals( "org/example/example/1.0/example-1.0-sources.jar",
+                      ResolutionRecorder.path( "org.example", "example", "1.0", "1.0", "sources", "jar" ) );
+    }
+
+    @Test
+    public void testDownloadedArtifact()
+    {
+        ResolutionRecorder recorder = new ResolutionRecorder();
+        recorder.artifactResolving( "org.example", "example", "1.0-SNAPSHOT", "", "pom" );
+        recorder.artifactResolved( "org.example", "example", "1.0-SNAPSHOT", "", "pom" );
+        recorder.artifactResolving( "org.example", "example", "1.0-SNAPSHOT", "", "jar" );
+        recorder.metadataResolving( "org.example", "example" );
+        recorder.metadataResolved( "org.example", "example" );
+        recorder.transferInitiated( "/" + JAR );
+        recorder.transferSucceeded( "/" + JAR, 100L );
+        recorder.transferInitiated( JAR + ".sha1" );
+        recorder.transferSucceeded( JAR + ".sha1", 40L );
+        recorder.artifactResolved( "org.example", "example", "1.0-SNAPSHOT", "", "jar" );
+
+        ResolutionMetrics metrics = recorder.getMetrics( "org.example", "example", "1.0-SNAPSHOT",
+                                                         "1.0-20200101.000000-1", "", "jar", "central" );
+
+        assertEquals( "central", metrics.getRepositoryId() );
+        assertTrue( metrics.isDownloaded() );
+        assertEquals( 140L, metrics.getBytesTransferred() );
+        assertTrue( metrics.getDescriptorNanos() > 0L );
+        assertTrue( metrics.getMetadataNanos() > 0L );
+        assertTrue( metrics.getDownloadNanos() > 0L );
+        assertTrue( metrics.getResolveNanos() >= metrics.getDownloadNanos() );
+    }
+
+    @Test
+    public void testLocalArtifact()
+    {
+        ResolutionRecorder recorder = new ResolutionRecorder();
+        recorder.artifactResolving( "org.example", "example", "1.0", null, "pom" );
+        recorder.transferInitiated( "org/example/example/1.0/example-1.0.pom" );
+        recorder.transferFailed( "org/example/example/1.0/example-1.0.pom" );
+        recorder.artifactResolved( "org.example", "example", "1.0", null, "pom" );
+
+        ResolutionMetrics metrics = recorder.getMetrics( "org.example", "example", "1.0", "1.0", null, "pom", "local" );
+
+        assertEquals( "local", metrics.getRepositoryId() );
+        assertFalse( metrics.isDownloaded() );
+        assertEquals( 0L, metrics.getBytesTransferred() );
+        assertEquals( 0L, metrics.getDescriptorNanos() );
+        assertEquals( 0L, metrics.getDownloadNanos() );
+        assertTrue( metrics.getResolveNanos() > 0L );
+    }
+
+    @Test
+    public void testSum()
+    {
+        ResolutionMetrics sum = ResolutionMetrics.sum( Arrays.asList(
+            new ResolutionMetrics( "central", true, 10L, 1L, 2L, 3L, 4L ),
+            new ResolutionMetrics( "local", false, 0L, 1L, 0L, 0L, 1L ) ) );
+
+        assertNull( sum.getRepositoryId() );
+        assertTrue( sum.isDownloaded() );
+        assertEquals( 10L, sum.getBytesTransferred() );
+        assertEquals( 2L, sum.getDescriptorNanos() );
+        assertEquals( 2L, sum.getMetadataNanos() );
+        assertEquals( 3L, sum.getDownloadNanos() );
+        assertEquals( 5L, sum.getResolveNanos() );
+    }
+
+    @Test
+    public void testIsEnabled()
+    {
+        assertFalse( ResolutionMetrics.isEnabled( null ) );
+        assertFalse( ResolutionMetrics.isEnabled( "false" ) );
+        assertTrue( ResolutionMetrics.isEnabled( "true" ) );
+    }
+
+    @Test
+    public void testNewInstance()
+    {
+        assertNull( ResolutionRecorder.newInstance( null ) );
+        assertNotNull( ResolutionRecorder.newInstance( Boolean.TRUE ) );
+    }
+}
@@ -0,0 +1,129 @@
+package org.apache.maven.shared.transfer.collection.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.shared.transfer.collection.DependencyCollectionException;
+import org.junit.Test;
+
+public class ConcurrentCollectorTest
+{
+    @Test
+    public void testParseThreads()
+    {
+        assertEquals( Runtime.getRuntime().availableProcessors(), ConcurrentCollector.parseThreads( null ) );
+        assertEquals( 4, ConcurrentCollector.parseThreads( " 4 " ) );
+        assertEquals( 8, ConcurrentCollector.parseThreads( 8 ) );
+        assertEquals( 1, ConcurrentCollector.parseThreads( "0" ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testParseInvalidThreads()
+    {
+        ConcurrentCollector.parseThreads( "many" );
+    }
+
+    @Test
+    public void testResultsInTaskOrder()
+        throws DependencyCollectionException
+    {
+        // the first task only completes once all the others started, so they must run concurrently
+        final CountDownLatch started = new CountDownLatch( 3 );
+        List<Callable<String>> tasks = new ArrayList<>();
+        tasks.add( new Callable<String>()
+        {
+            @Override
+            public String call()
+                throws InterruptedException
+            {
+                assertTrue( started.await( 10, TimeUnit.SECONDS ) );
+                return "root-0";
+            }
+        } );
+        for ( int i = 1; i <= 3; i++ )
+        {
+            final String result = "root-" + i;
+            tasks.add( new Callable<String>()
+            {
+                @Override
+                public String call()
+                {
+                    started.countDown();
+                    return result;
+                }
+            } );
+        }
+
+        assertEquals( Arrays.asList( "root-0", "root-1", "root-2", "root-3" ),
+                      ConcurrentCollector.collectAll( tasks, 4 ) );
+    }
+
+    @Test
+    public void testSingleThread()
+        throws DependencyCollectionException
+    {
+        final Thread caller = Thread.currentThread();
+        Callable<Boolean> task = new Callable<Boolean>()
+        {
+            @Override
+            public Boolean call()
+            {
+                return Thread.currentThread() == caller;
+            }
+        };
+
+        assertEquals( Arrays.asList( true, true ), ConcurrentCollector.collectAll( Arrays.asList( task, task ), 1 ) );
+    }
+
+    @Test
+    public void testUnexpectedFailure()
+        throws DependencyCollectionException
+    {
+        Callable<String> task = new Callable<String>()
+        {
+            @Override
+            public String call()
+            {
+                throw new IllegalStateException( "boom" );
+            }
+        };
+
+        try
+        {
+            ConcurrentCollector.collectAll( Arrays.asList( task, task ), 2 );
+            fail( "IllegalStateException expected" );
+        }
+        catch ( IllegalStateException e )
+        {
+            assertEquals( "boom", e.getMessage() );
+        }
+    }
+}
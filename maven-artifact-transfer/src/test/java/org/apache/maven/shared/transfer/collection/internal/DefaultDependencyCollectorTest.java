@@ -21,8 +21,12 @@ package org.apache.maven.shared.transfer.collection.internal;
 
 import static org.mockito.Mockito.mock;
 
+import java.util.Collection;
+import java.util.Collections;
+
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.shared.transfer.TestUtils;
+import org.apache.maven.shared.transfer.collection.CollectRequest;
 import org.apache.maven.shared.transfer.collection.DependencyCollectionException;
 import org.apache.maven.shared.transfer.collection.DependencyCollector;
 import org.apache.maven.shared.transfer.dependencies.DependableCoordinate;
@@ -96,4 +100,33 @@ public class DefaultDependencyCollectorTest
     ProjectBuildingRequest request = mock( ProjectBuildingRequest.class );
     dc.collectDependencies(request, (org.apache.maven.model.Model) null);
   }
+
+  @Test
+  public void collectDependenciesWithRequestsShouldFailWithNPEWhenParameterBuildingRequestIsNull()
+      throws DependencyCollectionException {
+    thrown.expect( NullPointerException.class );
+    thrown.expectMessage( "The parameter buildingRequest is not allowed to be null." );
+
+    dc.collectDependencies( null, Collections.singletonList( new CollectRequest() ) );
+  }
+
+  @Test
+  public void collectDependenciesWithRequestsShouldFailWithNPEWhenParameterRequestsIsNull()
+      throws DependencyCollectionException {
+    thrown.expect( NullPointerException.class );
+    thrown.expectMessage( "The parameter requests is not allowed to be null." );
+
+    ProjectBuildingRequest request = mock( ProjectBuildingRequest.class );
+    dc.collectDependencies( request, (Collection<CollectRequest>) null );
+  }
+
+  @Test
+  public void collectDependenciesWithRequestsShouldFailWithNPEWhenARequestIsNull()
+      throws DependencyCollectionException {
+    thrown.expect( NullPointerException.class );
+    thrown.expectMessage( "The parameter requests is not allowed to contain null." );
+
+    ProjectBuildingRequest request = mock( ProjectBuildingRequest.class );
+    dc.collectDependencies( request, Collections.<CollectRequest>singletonList( null ) );
+  }
 }
@@ -20,7 +20,10 @@ package org.apache.maven.shared.transfer.dependencies;
  */
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 
+import org.apache.maven.shared.transfer.support.CoordinateInterner;
 import org.junit.Test;
 
 public class DefaultDependableCoordinateTest
@@ -48,4 +51,39 @@ public class DefaultDependableCoordinateTest
         assertEquals( "GROUPID:ARTIFACTID:TYPE:CLASSIFIER:VERSION", coordinate.toString() );
     }
 
+    @Test
+    public void testEqualsOfBuiltCoordinates()
+    {
+        DefaultDependableCoordinate coordinate = newCoordinate();
+        DefaultDependableCoordinate other = newCoordinate();
+        other.setType( "jar" );
+        // only the immutable coordinates have value semantics
+        assertNotEquals( coordinate, other );
+        assertEquals( coordinate.build(), other.build() );
+        assertEquals( coordinate.build().hashCode(), other.build().hashCode() );
+
+        other.setVersion( "[1,2)" );
+        assertNotEquals( coordinate.build(), other.build() );
+    }
+
+    @Test
+    public void testBuild()
+    {
+        ImmutableDependableCoordinate immutable = newCoordinate().build();
+        assertEquals( "GROUPID:ARTIFACTID:jar:VERSION", immutable.toString() );
+        assertEquals( immutable, ImmutableDependableCoordinate.of( newCoordinate() ) );
+        assertEquals( immutable.hashCode(), newCoordinate().build().hashCode() );
+
+        CoordinateInterner interner = new CoordinateInterner();
+        assertSame( newCoordinate().build( interner ), newCoordinate().build( interner ) );
+    }
+
+    private static DefaultDependableCoordinate newCoordinate()
+    {
+        DefaultDependableCoordinate coordinate = new DefaultDependableCoordinate();
+        coordinate.setGroupId( "GROUPID" );
+        coordinate.setArtifactId( "ARTIFACTID" );
+        coordinate.setVersion( "VERSION" );
+        return coordinate;
+    }
 }
@@ -0,0 +1,64 @@
+package org.apache.maven.shared.transfer.dependencies;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class TransferUtilsTest
+{
+    @Test
+    public void testParseDependableCoordinate()
+    {
+        DependableCoordinate coordinate = TransferUtils.parseDependableCoordinate( "GROUPID:ARTIFACTID:[1.0,2.0)" );
+        assertEquals( "GROUPID", coordinate.getGroupId() );
+        assertEquals( "ARTIFACTID", coordinate.getArtifactId() );
+        assertEquals( "[1.0,2.0)", coordinate.getVersion() );
+        assertEquals( "jar", coordinate.getType() );
+        assertNull( coordinate.getClassifier() );
+
+        coordinate = TransferUtils.parseDependableCoordinate( "GROUPID:ARTIFACTID:test-jar:tests:VERSION" );
+        assertEquals( "test-jar", coordinate.getType() );
+        assertEquals( "tests", coordinate.getClassifier() );
+        assertEquals( "VERSION", coordinate.getVersion() );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testParseBadDependableCoordinate()
+    {
+        TransferUtils.parseDependableCoordinate( "GROUPID:ARTIFACTID" );
+    }
+
+    @Test
+    public void testFormatDependableCoordinate()
+    {
+        DefaultDependableCoordinate coordinate = new DefaultDependableCoordinate();
+        coordinate.setGroupId( "GROUPID" );
+        coordinate.setArtifactId( "ARTIFACTID" );
+        coordinate.setVersion( "VERSION" );
+        coordinate.setType( "pom" );
+        String formatted = TransferUtils.formatDependableCoordinate( coordinate );
+        assertEquals( "GROUPID:ARTIFACTID:pom:VERSION", formatted );
+        assertEquals( coordinate.build(), TransferUtils.parseDependableCoordinate( formatted ) );
+    }
+}
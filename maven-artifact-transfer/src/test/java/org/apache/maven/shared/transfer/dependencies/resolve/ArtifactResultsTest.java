@@ -0,0 +1,105 @@
+package org.apache.maven.shared.transfer.dependencies.resolve;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.apache.maven.shared.transfer.artifact.resolve.ArtifactResult;
+import org.junit.Test;
+
+public class ArtifactResultsTest
+{
+    private final ArtifactResult first = mock( ArtifactResult.class );
+
+    private final ArtifactResult second = mock( ArtifactResult.class );
+
+    @Test
+    public void testWrapsOnFirstAccessOnly()
+    {
+        CountingResults results = new CountingResults( Arrays.asList( "first", "second" ) );
+
+        assertEquals( 2, results.size() );
+        assertTrue( results instanceof RandomAccess );
+        assertEquals( 0, results.wrapped );
+
+        Iterator<ArtifactResult> iterator = results.iterator();
+        assertSame( first, iterator.next() );
+        assertEquals( 1, results.wrapped );
+
+        for ( int i = 0; i < 2; i++ )
+        {
+            assertEquals( Arrays.asList( first, second ), results );
+        }
+        assertEquals( 2, results.wrapped );
+    }
+
+    @Test
+    public void testCollectorExceptions()
+    {
+        Exception exception = new IOException();
+
+        assertEquals( Collections.<Exception>emptyList(),
+                      new CountingResults( Collections.<String>emptyList() ).getCollectorExceptions() );
+        assertEquals( Collections.<Exception>singletonList( exception ),
+                      new CountingResults( Collections.<String>emptyList(),
+                                           Collections.<Exception>singletonList( exception ) )
+                          .getCollectorExceptions() );
+    }
+
+    @Test( expected = UnsupportedOperationException.class )
+    public void testUnmodifiable()
+    {
+        new CountingResults( Arrays.asList( "first" ) ).add( second );
+    }
+
+    private class CountingResults
+        extends ArtifactResults<String>
+    {
+        private int wrapped;
+
+        CountingResults( List<String> results )
+        {
+            this( results, null );
+        }
+
+        CountingResults( List<String> results, List<Exception> collectorExceptions )
+        {
+            super( results, collectorExceptions );
+        }
+
+        @Override
+        protected ArtifactResult wrap( String result )
+        {
+            wrapped++;
+            return "first".equals( result ) ? first : second;
+        }
+    }
+}
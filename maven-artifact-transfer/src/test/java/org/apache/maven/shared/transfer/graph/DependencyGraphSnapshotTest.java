@@ -0,0 +1,174 @@
+package org.apache.maven.shared.transfer.graph;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.shared.transfer.artifact.ImmutableArtifactCoordinate;
+import org.apache.maven.shared.transfer.support.CoordinateInterner;
+import org.junit.Test;
+
+public class DependencyGraphSnapshotTest
+{
+    @Test
+    public void testSnapshot()
+    {
+        Node root = new Node( "root", null, null );
+        Node a = new Node( "a", "compile", false );
+        Node b = new Node( "b", "test", null );
+        Node shared = new Node( "shared", "compile", true );
+        root.children.addAll( Arrays.<DependencyNode>asList( a, b ) );
+        a.children.add( shared );
+        b.children.add( shared );
+        // a cycle back to the first child
+        shared.children.add( a );
+
+        DependencyGraphSnapshot snapshot = DependencyGraphSnapshot.of( root );
+
+        assertEquals( 4, snapshot.getNodeCount() );
+        assertEquals( 5, snapshot.getEdgeCount() );
+
+        // breadth first
+        assertEquals( coordinate( "root" ), snapshot.getCoordinate( DependencyGraphSnapshot.ROOT ) );
+        assertEquals( coordinate( "a" ), snapshot.getCoordinate( 1 ) );
+        assertEquals( coordinate( "b" ), snapshot.getCoordinate( 2 ) );
+        assertEquals( coordinate( "shared" ), snapshot.getCoordinate( 3 ) );
+
+        assertArrayEquals( new int[] { 1, 2 }, snapshot.getChildren( DependencyGraphSnapshot.ROOT ) );
+        assertArrayEquals( new int[] { 3 }, snapshot.getChildren( 1 ) );
+        assertArrayEquals( new int[] { 3 }, snapshot.getChildren( 2 ) );
+        assertEquals( 1, snapshot.getChildCount( 3 ) );
+        assertEquals( 1, snapshot.getChild( 3, 0 ) );
+
+        assertNull( snapshot.getScope( DependencyGraphSnapshot.ROOT ) );
+        assertEquals( "compile", snapshot.getScope( 1 ) );
+        assertEquals( "test", snapshot.getScope( 2 ) );
+        assertNull( snapshot.getOptional( DependencyGraphSnapshot.ROOT ) );
+        assertEquals( Boolean.FALSE, snapshot.getOptional( 1 ) );
+        assertNull( snapshot.getOptional( 2 ) );
+        assertEquals( Boolean.TRUE, snapshot.getOptional( 3 ) );
+    }
+
+    @Test
+    public void testRootWithoutArtifact()
+    {
+        Node root = new Node( null, null, null );
+        root.children.add( new Node( "a", "runtime", false ) );
+
+        DependencyGraphSnapshot snapshot = DependencyGraphSnapshot.of( root );
+
+        assertEquals( 2, snapshot.getNodeCount() );
+        assertNull( snapshot.getCoordinate( DependencyGraphSnapshot.ROOT ) );
+        assertEquals( coordinate( "a" ), snapshot.getCoordinate( 1 ) );
+        assertEquals( "runtime", snapshot.getScope( 1 ) );
+    }
+
+    @Test
+    public void testSharedInterner()
+    {
+        CoordinateInterner interner = new CoordinateInterner();
+
+        DependencyGraphSnapshot first = DependencyGraphSnapshot.of( new Node( "a", "compile", false ), interner );
+        DependencyGraphSnapshot second = DependencyGraphSnapshot.of( new Node( "a", "compile", false ), interner );
+
+        assertSame( first.getCoordinate( DependencyGraphSnapshot.ROOT ),
+                    second.getCoordinate( DependencyGraphSnapshot.ROOT ) );
+    }
+
+    @Test( expected = IndexOutOfBoundsException.class )
+    public void testMissingChild()
+    {
+        DependencyGraphSnapshot.of( new Node( "a", "compile", false ) ).getChild( DependencyGraphSnapshot.ROOT, 0 );
+    }
+
+    private static ImmutableArtifactCoordinate coordinate( String artifactId )
+    {
+        return new ImmutableArtifactCoordinate( "g", artifactId, "1.0", "jar", null );
+    }
+
+    private static final class Node
+        implements DependencyNode
+    {
+        private final Artifact artifact;
+
+        private final String scope;
+
+        private final Boolean optional;
+
+        private final List<DependencyNode> children = new ArrayList<>();
+
+        private Node( String artifactId, String scope, Boolean optional )
+        {
+            this.artifact = artifactId != null
+                ? new DefaultArtifact( "g", artifactId, "1.0", scope, "jar", null, new DefaultArtifactHandler( "jar" ) )
+                : null;
+            this.scope = scope;
+            this.optional = optional;
+        }
+
+        @Override
+        public List<DependencyNode> getChildren()
+        {
+            return children;
+        }
+
+        @Override
+        public Artifact getArtifact()
+        {
+            return artifact;
+        }
+
+        @Override
+        public List<ArtifactRepository> getRemoteRepositories()
+        {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public Boolean getOptional()
+        {
+            return optional;
+        }
+
+        @Override
+        public String getScope()
+        {
+            return scope;
+        }
+
+        @Override
+        public boolean accept( DependencyVisitor visitor )
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
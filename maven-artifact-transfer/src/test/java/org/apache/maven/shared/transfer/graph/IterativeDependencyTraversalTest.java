@@ -0,0 +1,312 @@
+package org.apache.maven.shared.transfer.graph;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.shared.transfer.graph.IterativeDependencyTraversal.Mode;
+import org.junit.Test;
+
+public class IterativeDependencyTraversalTest
+{
+    @Test
+    public void testSameCallsAsRecursiveVisit()
+    {
+        Node root = new Node( "r" );
+        Node a = new Node( "a" );
+        Node b = new Node( "b" );
+        Node c = new Node( "c" );
+        Node d = new Node( "d" );
+        root.add( a, b );
+        a.add( c, d );
+        b.add( c );
+
+        RecordingVisitor recursive = new RecordingVisitor( null, null );
+        root.accept( recursive );
+        RecordingVisitor iterative = new RecordingVisitor( null, null );
+
+        assertTrue( IterativeDependencyTraversal.accept( root, iterative, Mode.ALL_PATHS ) );
+        assertEquals( recursive.calls, iterative.calls );
+        assertEquals( Arrays.asList( "+r", "+a", "+c", "-c", "+d", "-d", "-a", "+b", "+c", "-c", "-b", "-r" ),
+                      iterative.calls );
+    }
+
+    @Test
+    public void testSkipChildrenAndSiblings()
+    {
+        Node root = new Node( "r" );
+        Node a = new Node( "a" );
+        Node b = new Node( "b" );
+        Node c = new Node( "c" );
+        root.add( a, b, c );
+        a.add( new Node( "d" ) );
+        b.add( new Node( "e" ) );
+
+        RecordingVisitor recursive = new RecordingVisitor( "a", "b" );
+        root.accept( recursive );
+        RecordingVisitor iterative = new RecordingVisitor( "a", "b" );
+
+        IterativeDependencyTraversal.accept( root, iterative, Mode.ALL_PATHS );
+        assertEquals( recursive.calls, iterative.calls );
+        assertEquals( Arrays.asList( "+r", "+a", "-a", "+b", "+e", "-e", "-b", "-r" ), iterative.calls );
+    }
+
+    @Test
+    public void testCycle()
+    {
+        Node root = new Node( "r" );
+        Node a = new Node( "a" );
+        root.add( a );
+        a.add( root, a );
+
+        RecordingVisitor visitor = new RecordingVisitor( null, null );
+
+        IterativeDependencyTraversal.accept( root, visitor, Mode.ALL_PATHS );
+        assertEquals( Arrays.asList( "+r", "+a", "-a", "-r" ), visitor.calls );
+    }
+
+    @Test
+    public void testDeepCycle()
+    {
+        // the cycle closes below the depth up to which the path is searched in place
+        Node root = new Node( "r" );
+        Node last = root;
+        for ( int i = 0; i < 100; i++ )
+        {
+            Node next = new Node( "n" + i );
+            last.add( next );
+            last = next;
+        }
+        last.add( root.getChildren().get( 0 ), new Node( "leaf" ) );
+
+        RecordingVisitor visitor = new RecordingVisitor( null, null );
+
+        assertTrue( IterativeDependencyTraversal.accept( root, visitor, Mode.ALL_PATHS ) );
+        assertEquals( 2 * 102, visitor.calls.size() );
+        assertEquals( "+leaf", visitor.calls.get( 101 ) );
+    }
+
+    @Test
+    public void testAllPathsRevisitsSharedNodes()
+    {
+        Node root = new Node( "r" );
+        Node bottom = root;
+        for ( int i = 0; i < 4; i++ )
+        {
+            Node left = new Node( "l" + i );
+            Node right = new Node( "r" + i );
+            Node next = new Node( "n" + i );
+            bottom.add( left, right );
+            left.add( next );
+            right.add( next );
+            bottom = next;
+        }
+
+        RecordingVisitor recursive = new RecordingVisitor( null, null );
+        root.accept( recursive );
+        RecordingVisitor iterative = new RecordingVisitor( null, null );
+
+        IterativeDependencyTraversal.accept( root, iterative, Mode.ALL_PATHS );
+        assertEquals( recursive.calls, iterative.calls );
+        assertEquals( 16, Collections.frequency( iterative.calls, "+n3" ) );
+    }
+
+    @Test
+    public void testDiamonds()
+    {
+        // a ladder of 64 diamonds has 2^64 paths, but only 3 * 64 + 1 nodes
+        Node root = new Node( "r" );
+        Node bottom = root;
+        for ( int i = 0; i < 64; i++ )
+        {
+            Node left = new Node( "l" + i );
+            Node right = new Node( "r" + i );
+            Node next = new Node( "n" + i );
+            bottom.add( left, right );
+            left.add( next );
+            right.add( next );
+            bottom = next;
+        }
+
+        RecordingVisitor visitor = new RecordingVisitor( null, null );
+
+        IterativeDependencyTraversal.accept( root, visitor, Mode.EACH_NODE_ONCE );
+        assertEquals( 2 * ( 3 * 64 + 1 ), visitor.calls.size() );
+    }
+
+    @Test
+    public void testDeepChain()
+    {
+        Node root = new Node( "r" );
+        Node last = root;
+        for ( int i = 0; i < 100000; i++ )
+        {
+            Node next = new Node( "n" + i );
+            last.add( next );
+            last = next;
+        }
+
+        RecordingVisitor visitor = new RecordingVisitor( null, null );
+
+        assertTrue( IterativeDependencyTraversal.accept( root, visitor, Mode.ALL_PATHS ) );
+        assertEquals( 200002, visitor.calls.size() );
+        assertEquals( "-r", visitor.calls.get( visitor.calls.size() - 1 ) );
+    }
+
+    @Test
+    public void testEachArtifactOnce()
+    {
+        Node root = new Node( "r" );
+        Node a = new Node( "a" );
+        Node b = new Node( "b" );
+        root.add( a, b );
+        // distinct nodes of the same artifact, as retained by verbose collection
+        a.add( new Node( "c" ) );
+        b.add( new Node( "c" ) );
+
+        RecordingVisitor eachNode = new RecordingVisitor( null, null );
+        IterativeDependencyTraversal.accept( root, eachNode, Mode.EACH_NODE_ONCE );
+        RecordingVisitor eachArtifact = new RecordingVisitor( null, null );
+        IterativeDependencyTraversal.accept( root, eachArtifact, Mode.EACH_ARTIFACT_ONCE );
+
+        assertEquals( Arrays.asList( "+r", "+a", "+c", "-c", "-a", "+b", "+c", "-c", "-b", "-r" ), eachNode.calls );
+        assertEquals( Arrays.asList( "+r", "+a", "+c", "-c", "-a", "+b", "-b", "-r" ), eachArtifact.calls );
+    }
+
+    @Test
+    public void testRootResult()
+    {
+        RecordingVisitor visitor = new RecordingVisitor( null, "r" );
+
+        assertFalse( IterativeDependencyTraversal.accept( new Node( "r" ), visitor, Mode.EACH_NODE_ONCE ) );
+    }
+
+    private static final class RecordingVisitor
+        implements DependencyVisitor
+    {
+        private final List<String> calls = new ArrayList<>();
+
+        private final String skipChildren;
+
+        private final String skipSiblings;
+
+        private RecordingVisitor( String skipChildren, String skipSiblings )
+        {
+            this.skipChildren = skipChildren;
+            this.skipSiblings = skipSiblings;
+        }
+
+        @Override
+        public boolean visitEnter( DependencyNode node )
+        {
+            String name = node.getArtifact().getArtifactId();
+            calls.add( "+" + name );
+            return !name.equals( skipChildren );
+        }
+
+        @Override
+        public boolean visitLeave( DependencyNode node )
+        {
+            String name = node.getArtifact().getArtifactId();
+            calls.add( "-" + name );
+            return !name.equals( skipSiblings );
+        }
+    }
+
+    private static final class Node
+        implements DependencyNode
+    {
+        private final Artifact artifact;
+
+        private final List<DependencyNode> children = new ArrayList<>();
+
+        private Node( String artifactId )
+        {
+            this.artifact =
+                new DefaultArtifact( "g", artifactId, "1.0", "compile", "jar", null, new DefaultArtifactHandler( "jar" ) );
+        }
+
+        private void add( DependencyNode... nodes )
+        {
+            children.addAll( Arrays.asList( nodes ) );
+        }
+
+        @Override
+        public List<DependencyNode> getChildren()
+        {
+            return children;
+        }
+
+        @Override
+        public Artifact getArtifact()
+        {
+            return artifact;
+        }
+
+        @Override
+        public List<ArtifactRepository> getRemoteRepositories()
+        {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public Boolean getOptional()
+        {
+            return null;
+        }
+
+        @Override
+        public String getScope()
+        {
+            return null;
+        }
+
+        /**
+         * The recursive visit, as formerly done by the adapters.
+         */
+        @Override
+        public boolean accept( DependencyVisitor visitor )
+        {
+            if ( visitor.visitEnter( this ) )
+            {
+                for ( DependencyNode child : children )
+                {
+                    if ( !child.accept( visitor ) )
+                    {
+                        break;
+                    }
+                }
+            }
+            return visitor.visitLeave( this );
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package org.apache.maven.shared.transfer.graph;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.junit.After;
+import org.junit.Test;
+
+public class ParallelDependencyTraversalTest
+{
+    private final ForkJoinPool pool = new ForkJoinPool( 4 );
+
+    @After
+    public void tearDown()
+    {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testOrderingWithinSubtrees()
+    {
+        Node root = tree( "r", 3, 4 );
+        RecordingVisitor visitor = new RecordingVisitor( null );
+
+        assertTrue( ParallelDependencyTraversal.accept( root, visitor, pool ) );
+
+        // 1 + 4 + 16 + 64 nodes
+        assertEquals( 85, visitor.enters.size() );
+        assertEquals( 85, visitor.leaves.size() );
+        assertOrdered( root, visitor );
+    }
+
+    @Test
+    public void testSkipChildren()
+    {
+        Node root = tree( "r", 2, 3 );
+        RecordingVisitor visitor = new RecordingVisitor( "r1" );
+
+        assertTrue( ParallelDependencyTraversal.accept( root, visitor, pool ) );
+
+        assertTrue( visitor.enters.containsKey( "r1" ) );
+        assertTrue( visitor.leaves.containsKey( "r1" ) );
+        assertFalse( visitor.enters.containsKey( "r10" ) );
+        assertTrue( visitor.enters.containsKey( "r20" ) );
+        assertEquals( 10, visitor.enters.size() );
+    }
+
+    @Test
+    public void testRootResult()
+    {
+        ConcurrentDependencyVisitor visitor = new ConcurrentDependencyVisitor()
+        {
+            @Override
+            public boolean visitEnter( DependencyNode node )
+            {
+                return true;
+            }
+
+            @Override
+            public boolean visitLeave( DependencyNode node )
+            {
+                return !( (Node) node ).name.equals( "r" );
+            }
+        };
+
+        assertFalse( ParallelDependencyTraversal.accept( tree( "r", 1, 2 ), visitor ) );
+    }
+
+    @Test
+    public void testVisitorFailure()
+    {
+        ConcurrentDependencyVisitor visitor = new ConcurrentDependencyVisitor()
+        {
+            @Override
+            public boolean visitEnter( DependencyNode node )
+            {
+                if ( ( (Node) node ).name.equals( "r11" ) )
+                {
+                    throw new IllegalStateException( "broken" );
+                }
+                return true;
+            }
+
+            @Override
+            public boolean visitLeave( DependencyNode node )
+            {
+                return true;
+            }
+        };
+
+        try
+        {
+            ParallelDependencyTraversal.accept( tree( "r", 2, 2 ), visitor, pool );
+            fail( "IllegalStateException expected" );
+        }
+        catch ( IllegalStateException e )
+        {
+            // the pool may wrap the exception thrown on a worker thread to keep the stack trace of the caller
+            Throwable cause = e;
+            while ( cause.getCause() != null )
+            {
+                cause = cause.getCause();
+            }
+            assertEquals( "broken", cause.getMessage() );
+        }
+    }
+
+    private static void assertOrdered( Node node, RecordingVisitor visitor )
+    {
+        int enter = visitor.enters.get( node.name );
+        int leave = visitor.leaves.get( node.name );
+        assertTrue( node.name, enter < leave );
+        for ( DependencyNode child : node.children )
+        {
+            String name = ( (Node) child ).name;
+            assertTrue( name, enter < visitor.enters.get( name ) );
+            assertTrue( name, visitor.leaves.get( name ) < leave );
+            assertOrdered( (Node) child, visitor );
+        }
+    }
+
+    private static Node tree( String name, int depth, int fanOut )
+    {
+        Node node = new Node( name );
+        if ( depth > 0 )
+        {
+            for ( int i = 0; i < fanOut; i++ )
+            {
+                node.children.add( tree( name + i, depth - 1, fanOut ) );
+            }
+        }
+        return node;
+    }
+
+    private static final class RecordingVisitor
+        implements ConcurrentDependencyVisitor
+    {
+        private final AtomicInteger clock = new AtomicInteger();
+
+        private final Map<String, Integer> enters = new ConcurrentHashMap<>();
+
+        private final Map<String, Integer> leaves = new ConcurrentHashMap<>();
+
+        private final String skip;
+
+        private RecordingVisitor( String skip )
+        {
+            this.skip = skip;
+        }
+
+        @Override
+        public boolean visitEnter( DependencyNode node )
+        {
+            String name = ( (Node) node ).name;
+            enters.put( name, clock.incrementAndGet() );
+            return !name.equals( skip );
+        }
+
+        @Override
+        public boolean visitLeave( DependencyNode node )
+        {
+            leaves.put( ( (Node) node ).name, clock.incrementAndGet() );
+            return true;
+        }
+    }
+
+    private static final class Node
+        implements DependencyNode
+    {
+        private final String name;
+
+        private final List<DependencyNode> children = new ArrayList<>();
+
+        private Node( String name )
+        {
+            this.name = name;
+        }
+
+        @Override
+        public List<DependencyNode> getChildren()
+        {
+            return children;
+        }
+
+        @Override
+        public Artifact getArtifact()
+        {
+            return null;
+        }
+
+        @Override
+        public List<ArtifactRepository> getRemoteRepositories()
+        {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public Boolean getOptional()
+        {
+            return null;
+        }
+
+        @Override
+        public String getScope()
+        {
+            return null;
+        }
+
+        @Override
+        public boolean accept( DependencyVisitor visitor )
+        {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
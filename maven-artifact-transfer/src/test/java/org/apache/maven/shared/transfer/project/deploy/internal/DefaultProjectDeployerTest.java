@@ -19,17 +19,42 @@ package org.apache.maven.shared.transfer.project.deploy.internal;
  * under the License.
  */
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.project.artifact.ProjectArtifactMetadata;
 import org.apache.maven.shared.transfer.artifact.deploy.ArtifactDeployer;
 import org.apache.maven.shared.transfer.artifact.deploy.ArtifactDeployerException;
+import org.apache.maven.shared.transfer.artifact.deploy.internal.ArtifactUploader;
 import org.apache.maven.shared.transfer.project.NoFileAssignedException;
 import org.apache.maven.shared.transfer.project.deploy.ProjectDeployer;
 import org.apache.maven.shared.transfer.project.deploy.ProjectDeployerRequest;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Check the parameter contracts which have been made based on the interface {@link ProjectDeployer}.
@@ -41,6 +66,9 @@ public class DefaultProjectDeployerTest
     @Rule
     public ExpectedException expectedException = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private ProjectDeployer dpi = new DefaultProjectDeployer( mock( ArtifactDeployer.class ) );
 
     @Test
@@ -76,4 +104,226 @@ public class DefaultProjectDeployerTest
         dpi.deploy( pbr, pdr, null );
     }
 
+    @Test
+    public void deployShouldUploadAttachmentsOfReleaseConcurrentlyAndDeployMetadataOnceLast()
+        throws Exception
+    {
+        RecordingArtifactDeployer deployer = new RecordingArtifactDeployer();
+        MavenProject project = newProject( "1.0" );
+
+        new DefaultProjectDeployer( deployer ).deploy( mock( ProjectBuildingRequest.class ),
+            new ProjectDeployerRequest().setProject( project ).setParallelDeploymentThreads( 2 ),
+            mock( ArtifactRepository.class ) );
+
+        assertEquals( 2, deployer.uploaded.size() );
+        assertTrue( deployer.uploaded.contains( Collections.singletonList( project.getAttachedArtifacts().get( 0 ) ) ) );
+        assertTrue( deployer.uploaded.contains( Collections.singletonList( project.getAttachedArtifacts().get( 1 ) ) ) );
+        // only a deployment generates metadata, it happens once after all uploads
+        assertEquals( Collections.singletonList( Collections.singletonList( project.getArtifact() ) ),
+                      deployer.deployed );
+        assertEquals( Arrays.asList( "upload", "upload", "deploy" ), deployer.calls );
+    }
+
+    @Test
+    public void deployShouldDeployAttachmentsWithMetadataWithMainArtifact()
+        throws Exception
+    {
+        RecordingArtifactDeployer deployer = new RecordingArtifactDeployer();
+        MavenProject project = newProject( "1.0" );
+        Artifact javadoc = project.getAttachedArtifacts().get( 1 );
+        javadoc.addMetadata( new ProjectArtifactMetadata( javadoc, temporaryFolder.newFile() ) );
+
+        new DefaultProjectDeployer( deployer ).deploy( mock( ProjectBuildingRequest.class ),
+            new ProjectDeployerRequest().setProject( project ).setParallelDeploymentThreads( 2 ),
+            mock( ArtifactRepository.class ) );
+
+        assertEquals( Collections.singletonList( Collections.singletonList( project.getAttachedArtifacts().get( 0 ) ) ),
+                      deployer.uploaded );
+        assertEquals( Collections.singletonList( Arrays.asList( project.getArtifact(), javadoc ) ),
+                      deployer.deployed );
+    }
+
+    @Test
+    public void deployShouldDeployAllArtifactsTogetherWithoutUploader()
+        throws Exception
+    {
+        ArtifactDeployer deployer = mock( ArtifactDeployer.class );
+        MavenProject project = newProject( "1.0" );
+        List<Artifact> artifacts = Arrays.asList( project.getArtifact(), project.getAttachedArtifacts().get( 0 ),
+                                                  project.getAttachedArtifacts().get( 1 ) );
+
+        new DefaultProjectDeployer( deployer ).deploy( mock( ProjectBuildingRequest.class ),
+            new ProjectDeployerRequest().setProject( project ).setParallelDeploymentThreads( 2 ),
+            mock( ArtifactRepository.class ) );
+
+        verify( deployer ).deploy( any( ProjectBuildingRequest.class ), any( ArtifactRepository.class ),
+                                   eq( artifacts ) );
+        verifyNoMoreInteractions( deployer );
+    }
+
+    @Test
+    public void deployShouldDeployAllArtifactsOfSnapshotTogether()
+        throws Exception
+    {
+        RecordingArtifactDeployer deployer = new RecordingArtifactDeployer();
+        MavenProject project = newProject( "1.0-SNAPSHOT" );
+
+        new DefaultProjectDeployer( deployer ).deploy( mock( ProjectBuildingRequest.class ),
+            new ProjectDeployerRequest().setProject( project ).setParallelDeploymentThreads( 2 ),
+            mock( ArtifactRepository.class ) );
+
+        assertTrue( deployer.uploaded.isEmpty() );
+        assertEquals( 1, deployer.deployed.size() );
+        assertEquals( 3, deployer.deployed.get( 0 ).size() );
+    }
+
+    @Test
+    public void deployShouldDeployReleaseInOneRequestWhenRetryingIsEnabled()
+        throws Exception
+    {
+        RecordingArtifactDeployer deployer = new RecordingArtifactDeployer();
+        MavenProject project = newProject( "1.0" );
+
+        new DefaultProjectDeployer( deployer ).deploy( mock( ProjectBuildingRequest.class ),
+            new ProjectDeployerRequest().setProject( project ).setRetryFailedDeploymentCount( 3 ),
+            mock( ArtifactRepository.class ) );
+
+        assertEquals( 1, deployer.deployed.size() );
+        assertEquals( 3, deployer.deployed.get( 0 ).size() );
+    }
+
+    @Test
+    public void deployShouldRetryOnlyFailedArtifactsOfRelease()
+        throws Exception
+    {
+        RecordingArtifactDeployer deployer = new RecordingArtifactDeployer();
+        MavenProject project = newProject( "1.0" );
+        Artifact javadoc = project.getAttachedArtifacts().get( 1 );
+        deployer.failOnce.add( javadoc );
+
+        new DefaultProjectDeployer( deployer ).deploy( mock( ProjectBuildingRequest.class ),
+            new ProjectDeployerRequest().setProject( project ).setRetryFailedDeploymentCount( 3 )
+                .setRetryBackoffMillis( 0 ),
+            mock( ArtifactRepository.class ) );
+
+        assertEquals( Arrays.asList( Arrays.asList( project.getArtifact(), project.getAttachedArtifacts().get( 0 ),
+                                                    javadoc ),
+                                     Collections.singletonList( javadoc ) ),
+                      deployer.deployed );
+    }
+
+    @Test
+    public void deployShouldRetryAllArtifactsOfSnapshot()
+        throws Exception
+    {
+        RecordingArtifactDeployer deployer = new RecordingArtifactDeployer();
+        MavenProject project = newProject( "1.0-SNAPSHOT" );
+        deployer.failOnce.add( project.getAttachedArtifacts().get( 1 ) );
+
+        new DefaultProjectDeployer( deployer ).deploy( mock( ProjectBuildingRequest.class ),
+            new ProjectDeployerRequest().setProject( project ).setRetryFailedDeploymentCount( 3 )
+                .setRetryBackoffMillis( 0 ),
+            mock( ArtifactRepository.class ) );
+
+        assertEquals( 2, deployer.deployed.size() );
+        assertEquals( deployer.deployed.get( 0 ), deployer.deployed.get( 1 ) );
+        assertEquals( 3, deployer.deployed.get( 1 ).size() );
+    }
+
+    @Test
+    public void deployShouldRetryAllArtifactsIfFailuresAreUnknown()
+        throws Exception
+    {
+        RecordingArtifactDeployer deployer = new RecordingArtifactDeployer();
+        deployer.failUnknownOnce = true;
+        MavenProject project = newProject( "1.0" );
+
+        new DefaultProjectDeployer( deployer ).deploy( mock( ProjectBuildingRequest.class ),
+            new ProjectDeployerRequest().setProject( project ).setRetryFailedDeploymentCount( 3 )
+                .setRetryBackoffMillis( 0 ),
+            mock( ArtifactRepository.class ) );
+
+        assertEquals( 2, deployer.deployed.size() );
+        assertEquals( deployer.deployed.get( 0 ), deployer.deployed.get( 1 ) );
+    }
+
+    private MavenProject newProject( String version )
+        throws IOException
+    {
+        Artifact main = newArtifact( version, null );
+        Artifact sources = newArtifact( version, "sources" );
+        Artifact javadoc = newArtifact( version, "javadoc" );
+
+        MavenProject project = mock( MavenProject.class );
+        when( project.getArtifact() ).thenReturn( main );
+        when( project.getPackaging() ).thenReturn( "jar" );
+        when( project.getFile() ).thenReturn( temporaryFolder.newFile() );
+        when( project.getAttachedArtifacts() ).thenReturn( Arrays.asList( sources, javadoc ) );
+        return project;
+    }
+
+    private Artifact newArtifact( String version, String classifier )
+        throws IOException
+    {
+        Artifact artifact = new DefaultArtifact( "GROUPID", "ARTIFACTID", version, null, "jar", classifier,
+                                                 new DefaultArtifactHandler( "jar" ) );
+        artifact.setFile( temporaryFolder.newFile() );
+        return artifact;
+    }
+
+    private static class RecordingArtifactDeployer
+        implements ArtifactDeployer, ArtifactUploader
+    {
+        private final List<String> calls = Collections.synchronizedList( new ArrayList<String>() );
+
+        private final List<List<Artifact>> deployed = Collections.synchronizedList( new ArrayList<List<Artifact>>() );
+
+        private final List<List<Artifact>> uploaded = Collections.synchronizedList( new ArrayList<List<Artifact>>() );
+
+        private final Set<Artifact> failOnce = Collections.synchronizedSet( new HashSet<Artifact>() );
+
+        private volatile boolean failUnknownOnce;
+
+        @Override
+        public void deploy( ProjectBuildingRequest request, Collection<Artifact> mavenArtifacts )
+            throws ArtifactDeployerException
+        {
+            deploy( request, null, mavenArtifacts );
+        }
+
+        @Override
+        public void deploy( ProjectBuildingRequest request, ArtifactRepository remoteRepository,
+                            Collection<Artifact> mavenArtifacts )
+            throws ArtifactDeployerException
+        {
+            calls.add( "deploy" );
+            deployed.add( new ArrayList<>( mavenArtifacts ) );
+            List<Artifact> failed = new ArrayList<>( mavenArtifacts );
+            failed.retainAll( failOnce );
+            if ( !failed.isEmpty() )
+            {
+                failOnce.removeAll( failed );
+                throw new ArtifactDeployerException( "Upload failed", new IOException(), failed );
+            }
+            if ( failUnknownOnce )
+            {
+                failUnknownOnce = false;
+                throw new ArtifactDeployerException( "Metadata upload failed", new IOException() );
+            }
+        }
+
+        @Override
+        public void upload( ProjectBuildingRequest request, ArtifactRepository remoteRepository,
+                            Collection<Artifact> mavenArtifacts )
+            throws ArtifactDeployerException
+        {
+            calls.add( "upload" );
+            uploaded.add( new ArrayList<>( mavenArtifacts ) );
+            if ( failOnce.removeAll( mavenArtifacts ) )
+            {
+                throw new ArtifactDeployerException( "Upload failed", new IOException() );
+            }
+        }
+    }
+
 }
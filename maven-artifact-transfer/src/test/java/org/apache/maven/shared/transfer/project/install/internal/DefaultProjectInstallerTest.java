@@ -19,19 +19,36 @@ package org.apache.maven.shared.transfer.project.install.internal;
  * under the License.
  */
 
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.metadata.ArtifactMetadata;
+import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.shared.transfer.artifact.install.ArtifactInstaller;
 import org.apache.maven.shared.transfer.artifact.install.ArtifactInstallerException;
 import org.apache.maven.shared.transfer.project.NoFileAssignedException;
 import org.apache.maven.shared.transfer.project.install.ProjectInstaller;
+import org.apache.maven.shared.transfer.project.install.ProjectInstallerRequest;
 import org.apache.maven.shared.transfer.repository.RepositoryManager;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
 
 /**
  * Check the parameter contracts which have been made based on the interface {@link ProjectInstaller}.
@@ -44,6 +61,9 @@ public class DefaultProjectInstallerTest
     @Rule
     public ExpectedException expectedException = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private ProjectInstaller dpi = new DefaultProjectInstaller( mock( ArtifactInstaller.class ), mock(
             RepositoryManager.class ) );
 
@@ -68,4 +88,42 @@ public class DefaultProjectInstallerTest
         dpi.install( pbr, null );
     }
 
+    @Test
+    @SuppressWarnings( "unchecked" )
+    public void installShouldInstallAllArtifactsWithSingleRequest()
+        throws IOException, ArtifactInstallerException, NoFileAssignedException
+    {
+        ArtifactInstaller installer = mock( ArtifactInstaller.class );
+        ProjectBuildingRequest pbr = mock( ProjectBuildingRequest.class );
+        RepositoryManager repositoryManager = mock( RepositoryManager.class );
+        when( repositoryManager.getLocalRepositoryBasedir( pbr ) ).thenReturn( temporaryFolder.getRoot() );
+        when( repositoryManager.getPathForLocalMetadata( eq( pbr ), any( ArtifactMetadata.class ) ) )
+            .thenReturn( "maven-metadata-local.xml" );
+
+        Artifact main = newArtifact( null );
+        Artifact sources = newArtifact( "sources" );
+        Artifact javadoc = newArtifact( "javadoc" );
+
+        MavenProject project = mock( MavenProject.class );
+        when( project.getArtifact() ).thenReturn( main );
+        when( project.getPackaging() ).thenReturn( "jar" );
+        when( project.getFile() ).thenReturn( temporaryFolder.newFile() );
+        when( project.getAttachedArtifacts() ).thenReturn( Arrays.asList( sources, javadoc ) );
+
+        new DefaultProjectInstaller( installer, repositoryManager )
+            .install( pbr, new ProjectInstallerRequest().setProject( project ) );
+
+        ArgumentCaptor<Collection> installed = ArgumentCaptor.forClass( Collection.class );
+        verify( installer, times( 1 ) ).install( eq( pbr ), installed.capture() );
+        assertEquals( Arrays.asList( main, sources, javadoc ), new ArrayList<Artifact>( installed.getValue() ) );
+    }
+
+    private Artifact newArtifact( String classifier )
+        throws IOException
+    {
+        Artifact artifact = new DefaultArtifact( "GROUPID", "ARTIFACTID", "1.0", null, "jar", classifier,
+                                                 new DefaultArtifactHandler( "jar" ) );
+        artifact.setFile( temporaryFolder.newFile() );
+        return artifact;
+    }
 }
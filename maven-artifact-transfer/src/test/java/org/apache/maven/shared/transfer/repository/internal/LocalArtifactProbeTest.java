@@ -0,0 +1,125 @@
+package org.apache.maven.shared.transfer.repository.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.maven.shared.transfer.artifact.ArtifactCoordinate;
+import org.apache.maven.shared.transfer.artifact.ImmutableArtifactCoordinate;
+import org.apache.maven.shared.transfer.repository.LocalArtifactStatus;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LocalArtifactProbeTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ArtifactCoordinate jar = new ImmutableArtifactCoordinate( "g", "a", "1.0", "jar", null );
+
+    private final ArtifactCoordinate sources = new ImmutableArtifactCoordinate( "g", "a", "1.0", "jar", "sources" );
+
+    private final ArtifactCoordinate other = new ImmutableArtifactCoordinate( "g", "b", "1.0", "jar", null );
+
+    private final List<String> paths = Arrays.asList( "g/a/1.0/a-1.0.jar", "g/a/1.0/a-1.0-sources.jar",
+                                                      "g/b/1.0/b-1.0.jar" );
+
+    @Test
+    public void testProbeWithDirectoryListing()
+        throws IOException
+    {
+        assertStatus( true );
+    }
+
+    @Test
+    public void testProbeWithoutDirectoryListing()
+        throws IOException
+    {
+        assertStatus( false );
+    }
+
+    @Test
+    public void testProbeMissingRepository()
+    {
+        File basedir = new File( temporaryFolder.getRoot(), "missing" );
+
+        List<LocalArtifactStatus> result =
+            LocalArtifactProbe.probe( basedir, Arrays.asList( jar, sources, other ), paths, true );
+
+        assertEquals( 3, result.size() );
+        for ( LocalArtifactStatus status : result )
+        {
+            assertFalse( status.isPresent() );
+            assertEquals( -1L, status.getSize() );
+        }
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testProbeWithMismatchingPaths()
+    {
+        LocalArtifactProbe.probe( temporaryFolder.getRoot(), Arrays.asList( jar ), paths, true );
+    }
+
+    @Test
+    public void testParseListDirectories()
+    {
+        assertTrue( LocalArtifactProbe.parseListDirectories( null ) );
+        assertTrue( LocalArtifactProbe.parseListDirectories( " true " ) );
+        assertFalse( LocalArtifactProbe.parseListDirectories( Boolean.FALSE ) );
+    }
+
+    private void assertStatus( boolean listDirectories )
+        throws IOException
+    {
+        File basedir = temporaryFolder.getRoot();
+        File file = new File( basedir, paths.get( 0 ) );
+        file.getParentFile().mkdirs();
+        Files.write( file.toPath(), "jar".getBytes( StandardCharsets.UTF_8 ) );
+        long lastModified = file.lastModified();
+
+        List<LocalArtifactStatus> result =
+            LocalArtifactProbe.probe( basedir, Arrays.asList( jar, sources, other ), paths, listDirectories );
+
+        assertEquals( 3, result.size() );
+        assertSame( jar, result.get( 0 ).getCoordinate() );
+        assertTrue( result.get( 0 ).isPresent() );
+        assertEquals( 3L, result.get( 0 ).getSize() );
+        assertEquals( lastModified, result.get( 0 ).getLastModified() );
+        assertTrue( result.get( 0 ).isPresentSince( lastModified ) );
+        assertFalse( result.get( 0 ).isPresentSince( lastModified + 1 ) );
+        assertEquals( file, result.get( 0 ).getFile() );
+        assertSame( sources, result.get( 1 ).getCoordinate() );
+        assertFalse( result.get( 1 ).isPresent() );
+        assertSame( other, result.get( 2 ).getCoordinate() );
+        assertFalse( result.get( 2 ).isPresent() );
+    }
+}
@@ -0,0 +1,321 @@
+package org.apache.maven.shared.transfer.repository.internal;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.shared.transfer.artifact.ArtifactCoordinate;
+import org.apache.maven.shared.transfer.artifact.ImmutableArtifactCoordinate;
+import org.apache.maven.shared.transfer.repository.LocalArtifactStatus;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LocalRepositoryIndexTest
+{
+    private static final String SHA1 = "a9993e364706816aba3e25717850c26c9cd0d89d";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testRecordAndLookup()
+        throws IOException
+    {
+        File basedir = temporaryFolder.getRoot();
+        File file = newFile( basedir, "g/a/1.0/a-1.0.jar", "abc" );
+        Files.write( new File( file.getPath() + ".sha1" ).toPath(), ( SHA1 + "  a-1.0.jar" ).getBytes(
+            StandardCharsets.US_ASCII ) );
+
+        LocalRepositoryIndex index = new LocalRepositoryIndex( basedir, LocalRepositoryIndex.MAX_JOURNAL_RECORDS );
+        index.refresh();
+        assertNull( index.lookup( "g/a/1.0/a-1.0.jar" ) );
+
+        index.record( "g/a/1.0/a-1.0.jar", file );
+
+        LocalRepositoryIndex.Entry entry = index.lookup( "g/a/1.0/a-1.0.jar" );
+        assertNotNull( entry );
+        assertEquals( 3L, entry.getSize() );
+        assertEquals( file.lastModified(), entry.getLastModified() );
+        assertEquals( SHA1, entry.getChecksum() );
+        assertEquals( 1, index.getJournalCount() );
+
+        // another instance picks the journal up
+        LocalRepositoryIndex other = new LocalRepositoryIndex( basedir, LocalRepositoryIndex.MAX_JOURNAL_RECORDS );
+        other.refresh();
+        assertEquals( SHA1, other.lookup( "g/a/1.0/a-1.0.jar" ).getChecksum() );
+        assertNull( other.lookup( "g/a/1.0/a-1.0.pom" ) );
+    }
+
+    @Test
+    public void testCompaction()
+        throws IOException
+    {
+        File basedir = temporaryFolder.getRoot();
+        LocalRepositoryIndex index = new LocalRepositoryIndex( basedir, 2 );
+        for ( int i = 0; i < 5; i++ )
+        {
+            String path = "g/a" + i + "/1.0/a" + i + "-1.0.jar";
+            index.record( path, newFile( basedir, path, "content" + i ) );
+        }
+
+        assertEquals( 3, index.getIndexedCount() );
+        assertEquals( 2, index.getJournalCount() );
+
+        LocalRepositoryIndex other = new LocalRepositoryIndex( basedir, 2 );
+        other.refresh();
+        for ( int i = 0; i < 5; i++ )
+        {
+            LocalRepositoryIndex.Entry entry = other.lookup( "g/a" + i + "/1.0/a" + i + "-1.0.jar" );
+            assertNotNull( entry );
+            assertEquals( 8L, entry.getSize() );
+            assertNull( entry.getChecksum() );
+        }
+        assertNull( other.lookup( "g/a5/1.0/a5-1.0.jar" ) );
+
+        // the journal supersedes the index
+        File file = newFile( basedir, "g/a0/1.0/a0-1.0.jar", "changed content" );
+        index.record( "g/a0/1.0/a0-1.0.jar", file );
+        other.refresh();
+        assertEquals( file.length(), other.lookup( "g/a0/1.0/a0-1.0.jar" ).getSize() );
+    }
+
+    @Test
+    public void testProbeConsultsIndex()
+        throws IOException
+    {
+        File basedir = temporaryFolder.getRoot();
+        File file = newFile( basedir, "g/a/1.0/a-1.0.jar", "abc" );
+        LocalRepositoryIndex index = new LocalRepositoryIndex( basedir, LocalRepositoryIndex.MAX_JOURNAL_RECORDS );
+        index.record( "g/a/1.0/a-1.0.jar", file );
+        long lastModified = file.lastModified();
+
+        List<LocalArtifactStatus> result = probe( basedir, index );
+
+        assertTrue( result.get( 0 ).isPresent() );
+        assertEquals( 3L, result.get( 0 ).getSize() );
+        assertEquals( lastModified, result.get( 0 ).getLastModified() );
+        assertFalse( result.get( 1 ).isPresent() );
+    }
+
+    @Test
+    public void testProbeFallsBackToFileSystemForChangedFiles()
+        throws IOException
+    {
+        File basedir = temporaryFolder.getRoot();
+        File file = newFile( basedir, "g/a/1.0/a-1.0.jar", "abc" );
+        // recorded well before the changes below, whatever the timestamp resolution of the file system
+        assertTrue( file.getParentFile().setLastModified( file.lastModified() - 10000L ) );
+        LocalRepositoryIndex index = new LocalRepositoryIndex( basedir, LocalRepositoryIndex.MAX_JOURNAL_RECORDS );
+        index.record( "g/a/1.0/a-1.0.jar", file );
+
+        // replaced by other means
+        File replacement = newFile( basedir, "g/a/1.0/a-1.0.jar.tmp", "changed" );
+        Files.move( replacement.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING );
+        assertEquals( 7L, probe( basedir, index ).get( 0 ).getSize() );
+
+        // deleted by other means
+        assertTrue( file.delete() );
+        assertFalse( probe( basedir, index ).get( 0 ).isPresent() );
+    }
+
+    @Test
+    public void testIndexHitCostsFewerFileSystemOperationsThanMiss()
+        throws IOException
+    {
+        File basedir = temporaryFolder.getRoot();
+        File jar = newFile( basedir, "g/a/1.0/a-1.0.jar", "abc" );
+        File pom = newFile( basedir, "g/a/1.0/a-1.0.pom", "<project/>" );
+        LocalRepositoryIndex index = new LocalRepositoryIndex( basedir, LocalRepositoryIndex.MAX_JOURNAL_RECORDS );
+
+        CountingAccess miss = new CountingAccess();
+        List<LocalArtifactStatus> missed = probe( basedir, index, miss );
+
+        index.record( "g/a/1.0/a-1.0.jar", jar );
+        index.record( "g/a/1.0/a-1.0.pom", pom );
+        CountingAccess hit = new CountingAccess();
+        List<LocalArtifactStatus> found = probe( basedir, index, hit );
+
+        // a single lookup of the directory instead of listing it and looking up both files
+        assertEquals( 3, miss.operations.get() );
+        assertEquals( 1, hit.operations.get() );
+        for ( int i = 0; i < 2; i++ )
+        {
+            assertTrue( found.get( i ).isPresent() );
+            assertEquals( missed.get( i ).getSize(), found.get( i ).getSize() );
+            assertEquals( missed.get( i ).getLastModified(), found.get( i ).getLastModified() );
+        }
+    }
+
+    @Test
+    public void testCompactionBacksOffWhileIndexCannotBeReplaced()
+        throws IOException
+    {
+        File basedir = temporaryFolder.getRoot();
+        // a non-empty directory in place of the index file can't be replaced, like a mapped file on Windows
+        File blocker = new File( basedir, LocalRepositoryIndex.INDEX_FILE );
+        newFile( blocker, "blocker", "" );
+
+        LocalRepositoryIndex index = new LocalRepositoryIndex( basedir, 2 );
+        for ( int i = 0; i < 3; i++ )
+        {
+            String path = "g/a" + i + "/1.0/a" + i + "-1.0.jar";
+            index.record( path, newFile( basedir, path, "content" + i ) );
+        }
+
+        assertEquals( 0, index.getIndexedCount() );
+        assertEquals( 3, index.getJournalCount() );
+        assertEquals( 6, index.getCompactionThreshold() );
+        assertNotNull( index.lookup( "g/a0/1.0/a0-1.0.jar" ) );
+
+        // merged again once the journal has doubled
+        assertTrue( new File( blocker, "blocker" ).delete() );
+        assertTrue( blocker.delete() );
+        for ( int i = 3; i < 7; i++ )
+        {
+            String path = "g/a" + i + "/1.0/a" + i + "-1.0.jar";
+            index.record( path, newFile( basedir, path, "content" + i ) );
+        }
+
+        assertEquals( 7, index.getIndexedCount() );
+        assertEquals( 0, index.getJournalCount() );
+        assertEquals( 2, index.getCompactionThreshold() );
+    }
+
+    @Test
+    public void testLookupIgnoresRecordOfCollidingPath()
+        throws IOException
+    {
+        File basedir = temporaryFolder.getRoot();
+        // a record with the hash of the path but the check of another path, as left by a colliding path
+        ByteBuffer record = ByteBuffer.allocate( 64 );
+        record.putLong( LocalRepositoryIndex.hash( "g/a/1.0/a-1.0.jar" ) );
+        record.putLong( LocalRepositoryIndex.check( "g/b/1.0/b-1.0.jar" ) );
+        record.putLong( 3L );
+        Files.write( new File( basedir, LocalRepositoryIndex.JOURNAL_FILE ).toPath(), record.array() );
+
+        LocalRepositoryIndex index = new LocalRepositoryIndex( basedir, LocalRepositoryIndex.MAX_JOURNAL_RECORDS );
+        index.refresh();
+
+        assertEquals( 1, index.getJournalCount() );
+        assertNull( index.lookup( "g/a/1.0/a-1.0.jar" ) );
+    }
+
+    @Test
+    public void testForBasedirSharesInstances()
+    {
+        File basedir = temporaryFolder.getRoot();
+        assertSame( LocalRepositoryIndex.forBasedir( basedir ), LocalRepositoryIndex.forBasedir( basedir ) );
+    }
+
+    @Test
+    public void testForBasedirDropsUnusedInstances()
+        throws IOException
+    {
+        Reference<LocalRepositoryIndex> unused =
+            new WeakReference<>( LocalRepositoryIndex.forBasedir( temporaryFolder.newFolder() ) );
+        for ( int i = 0; i < 100 && unused.get() != null; i++ )
+        {
+            System.gc();
+        }
+        assumeTrue( unused.get() == null );
+
+        int count = LocalRepositoryIndex.getInstanceCount();
+        File basedir = temporaryFolder.newFolder();
+        LocalRepositoryIndex used = LocalRepositoryIndex.forBasedir( basedir );
+
+        // the unused instance made room for the new one
+        assertTrue( LocalRepositoryIndex.getInstanceCount() <= count );
+        assertSame( used, LocalRepositoryIndex.forBasedir( basedir ) );
+    }
+
+    @Test
+    public void testIsEnabled()
+    {
+        assertFalse( LocalRepositoryIndex.isEnabled( null ) );
+        assertFalse( LocalRepositoryIndex.isEnabled( "false" ) );
+        assertTrue( LocalRepositoryIndex.isEnabled( "true" ) );
+        assertTrue( LocalRepositoryIndex.isEnabled( Boolean.TRUE ) );
+    }
+
+    private static List<LocalArtifactStatus> probe( File basedir, LocalRepositoryIndex index )
+    {
+        return probe( basedir, index, LocalArtifactProbe.FileSystemAccess.DEFAULT );
+    }
+
+    private static List<LocalArtifactStatus> probe( File basedir, LocalRepositoryIndex index,
+                                                    LocalArtifactProbe.FileSystemAccess access )
+    {
+        ArtifactCoordinate jar = new ImmutableArtifactCoordinate( "g", "a", "1.0", "jar", null );
+        ArtifactCoordinate pom = new ImmutableArtifactCoordinate( "g", "a", "1.0", "pom", null );
+        return LocalArtifactProbe.probe( basedir, Arrays.asList( jar, pom ),
+                                         Arrays.asList( "g/a/1.0/a-1.0.jar", "g/a/1.0/a-1.0.pom" ), true, index,
+                                         access );
+    }
+
+    private static File newFile( File basedir, String path, String content )
+        throws IOException
+    {
+        File file = new File( basedir, path );
+        file.getParentFile().mkdirs();
+        Files.write( file.toPath(), content.getBytes( StandardCharsets.UTF_8 ) );
+        return file;
+    }
+
+    private static class CountingAccess
+        extends LocalArtifactProbe.FileSystemAccess
+    {
+        private final AtomicInteger operations = new AtomicInteger();
+
+        @Override
+        BasicFileAttributes readAttributes( File file )
+        {
+            operations.incrementAndGet();
+            return super.readAttributes( file );
+        }
+
+        @Override
+        String[] list( File directory )
+        {
+            operations.incrementAndGet();
+            return super.list( directory );
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.apache.maven.shared.transfer.support;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.shared.transfer.support.ArtifactDescriptorCache.Gav;
+import org.junit.Test;
+
+public class ArtifactDescriptorCacheTest
+{
+    private final List<String> central = Collections.singletonList( "central" );
+
+    @Test
+    public void testHitAndMiss()
+    {
+        ArtifactDescriptorCache cache = new ArtifactDescriptorCache( 10 );
+        cache.put( "g", "a", "1.0", central, new Gav( "g2", "a2", "2.0" ) );
+
+        Gav relocated = cache.get( "g", "a", "1.0", central );
+        assertNotNull( relocated );
+        assertEquals( "g2:a2:2.0", relocated.toString() );
+
+        assertNull( cache.get( "g", "a", "1.1", central ) );
+        assertNull( cache.get( "g", "a", "1.0", Arrays.asList( "central", "snapshots" ) ) );
+
+        assertEquals( 1, cache.getHitCount() );
+        assertEquals( 2, cache.getMissCount() );
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted()
+    {
+        ArtifactDescriptorCache cache = new ArtifactDescriptorCache( 2 );
+        cache.put( "g", "a", "1", central, new Gav( "g", "a", "1" ) );
+        cache.put( "g", "a", "2", central, new Gav( "g", "a", "2" ) );
+        cache.get( "g", "a", "1", central );
+        cache.put( "g", "a", "3", central, new Gav( "g", "a", "3" ) );
+
+        assertEquals( 2, cache.size() );
+        assertNotNull( cache.get( "g", "a", "1", central ) );
+        assertNull( cache.get( "g", "a", "2", central ) );
+        assertNotNull( cache.get( "g", "a", "3", central ) );
+    }
+
+    @Test
+    public void testZeroMaxSizeDisablesCache()
+    {
+        ArtifactDescriptorCache cache = new ArtifactDescriptorCache( 0 );
+        cache.put( "g", "a", "1", central, new Gav( "g", "a", "1" ) );
+
+        assertNull( cache.get( "g", "a", "1", central ) );
+        assertEquals( 0, cache.size() );
+    }
+
+    @Test
+    public void testParseMaxSize()
+    {
+        assertEquals( ArtifactDescriptorCache.DEFAULT_MAX_SIZE, ArtifactDescriptorCache.parseMaxSize( null ) );
+        assertEquals( 500, ArtifactDescriptorCache.parseMaxSize( " 500 " ) );
+        assertEquals( 42, ArtifactDescriptorCache.parseMaxSize( 42 ) );
+    }
+}
@@ -0,0 +1,67 @@
+package org.apache.maven.shared.transfer.support;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class LocalPathCacheTest
+{
+    @Test
+    public void testArtifactAndMetadataPaths()
+    {
+        LocalPathCache cache = new LocalPathCache( 10 );
+        cache.putArtifactPath( "g", "a", "1.0", null, "jar", "g/a/1.0/a-1.0.jar" );
+        cache.putMetadataPath( "g", "a", null, "g/a/maven-metadata-local.xml" );
+
+        assertEquals( "g/a/1.0/a-1.0.jar", cache.getArtifactPath( "g", "a", "1.0", null, "jar" ) );
+        assertNull( cache.getArtifactPath( "g", "a", "1.0", "sources", "jar" ) );
+        assertEquals( "g/a/maven-metadata-local.xml", cache.getMetadataPath( "g", "a", null ) );
+        assertNull( cache.getMetadataPath( "g", "a", "1.0" ) );
+        assertEquals( 2, cache.size() );
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted()
+    {
+        LocalPathCache cache = new LocalPathCache( 2 );
+        cache.putArtifactPath( "g", "a", "1", null, "jar", "1" );
+        cache.putArtifactPath( "g", "a", "2", null, "jar", "2" );
+        cache.getArtifactPath( "g", "a", "1", null, "jar" );
+        cache.putArtifactPath( "g", "a", "3", null, "jar", "3" );
+
+        assertEquals( "1", cache.getArtifactPath( "g", "a", "1", null, "jar" ) );
+        assertNull( cache.getArtifactPath( "g", "a", "2", null, "jar" ) );
+        assertEquals( 2, cache.size() );
+    }
+
+    @Test
+    public void testDisabled()
+    {
+        LocalPathCache cache = new LocalPathCache( 0 );
+        cache.putArtifactPath( "g", "a", "1", null, "jar", "1" );
+        assertNull( cache.getArtifactPath( "g", "a", "1", null, "jar" ) );
+        assertEquals( LocalPathCache.DEFAULT_MAX_SIZE, LocalPathCache.parseMaxSize( null ) );
+        assertEquals( 5, LocalPathCache.parseMaxSize( " 5 " ) );
+    }
+}
@@ -0,0 +1,86 @@
+package org.apache.maven.shared.transfer.support;
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import org.junit.Test;
+
+public class SelectorTest
+{
+    @Test
+    public void testDetectRuntime()
+    {
+        ClassLoader maven30 = new ResourceClassLoader( "org/sonatype/aether/artifact/Artifact.class" );
+        ClassLoader maven31 = new ResourceClassLoader( "org/eclipse/aether/artifact/Artifact.class" );
+
+        assertEquals( Selector.MAVEN_3_0_X, Selector.detectRuntime( maven30 ) );
+        assertEquals( Selector.MAVEN_3_1_X, Selector.detectRuntime( maven31 ) );
+    }
+
+    @Test( expected = IllegalStateException.class )
+    public void testDetectRuntimeFailsForUnknownEnvironment()
+    {
+        Selector.detectRuntime( new ResourceClassLoader( "org/example/Unknown.class" ) );
+    }
+
+    @Test
+    public void testTrapMatches()
+    {
+        ClassLoader maven31 = new ResourceClassLoader( "org/eclipse/aether/artifact/Artifact.class" );
+
+        assertTrue( Trap.MAVEN_3_1_X.matches( maven31 ) );
+        assertFalse( Trap.MAVEN_3_0_X.matches( maven31 ) );
+    }
+
+    /**
+     * Class loader seeing a single resource only.
+     */
+    private static class ResourceClassLoader
+        extends ClassLoader
+    {
+        private final String resource;
+
+        ResourceClassLoader( String resource )
+        {
+            super( null );
+            this.resource = resource;
+        }
+
+        @Override
+        protected URL findResource( String name )
+        {
+            try
+            {
+                return resource.equals( name ) ? new URL( "file:/" + name ) : null;
+            }
+            catch ( MalformedURLException e )
+            {
+                throw new IllegalStateException( e );
+            }
+        }
+    }
+}